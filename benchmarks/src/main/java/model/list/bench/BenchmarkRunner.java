@@ -0,0 +1,43 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Benchmark Runner
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Entry point of benchmarks.jar. Accepts the usual JMH command line options
+ *	(e.g. a benchmark regex, -p size=1000) and always adds the GC profiler, so
+ *	every run reports allocation rate next to throughput.
+ *
+ *	Usage: java -jar benchmarks/target/benchmarks.jar [JMH options]
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
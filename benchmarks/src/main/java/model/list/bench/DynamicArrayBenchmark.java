@@ -0,0 +1,149 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Dynamic Array Benchmark
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	JMH benchmarks for the DynamicArray operations. Every benchmark runs for each
+ *	combination of list size, growth factor and element type (see ListState).
+ *
+ *	Benchmarks that change the list (addFirst, insert, removeIndex) are paired with
+ *	the opposite operation so the list keeps its size from one invocation to the next.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import model.linearpub.DynamicList;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamicArrayBenchmark {
+
+	//------- Inserting, Appending & Replacing Elements --------
+
+	/** Build a list of "size" elements with add (growing from the default capacity) */
+	@Benchmark
+	public DynamicList<Object> add(ListState state) {
+		DynamicList<Object> list = state.newList();
+		for (Object each : state.elements) {
+			list.add(each);
+		}
+		return list;
+	}
+
+	/** Build a list of "size" elements with addLast (growing from the default capacity) */
+	@Benchmark
+	public DynamicList<Object> addLast(ListState state) {
+		DynamicList<Object> list = state.newList();
+		for (Object each : state.elements) {
+			list.addLast(each);
+		}
+		return list;
+	}
+
+	/** addFirst on a list of "size" elements (followed by removeFirst) */
+	@Benchmark
+	public Object addFirst(ListState state) {
+		state.list.addFirst(state.firstElement);
+		return state.list.removeFirst();
+	}
+
+	/** insert in the middle of a list of "size" elements (followed by removeLast) */
+	@Benchmark
+	public Object insert(ListState state) {
+		state.list.insert(state.size / 2, state.firstElement);
+		return state.list.removeLast();
+	}
+
+	/** removeIndex in the middle of a list of "size" elements (followed by addLast) */
+	@Benchmark
+	public Object removeIndex(ListState state) {
+		Object removed = state.list.removeIndex(state.size / 2);
+		state.list.addLast(removed);
+		return removed;
+	}
+
+	//------------------ Accessing Elements --------------------
+
+	/** get every element of the list */
+	@Benchmark
+	public void get(ListState state, Blackhole blackhole) {
+		DynamicList<Object> list = state.list;
+		for (int i=0; i < list.size(); i++) {
+			blackhole.consume(list.get(i));
+		}
+	}
+
+	/** findFirst with the only match at the last index */
+	@Benchmark
+	public int findFirst(ListState state) {
+		Object target = state.lastElement;
+		return state.list.findFirst(each -> each.equals(target));
+	}
+
+	/** findLast with the only match at index 0 */
+	@Benchmark
+	public int findLast(ListState state) {
+		Object target = state.firstElement;
+		return state.list.findLast(each -> each.equals(target));
+	}
+
+	/** subList of the middle half of the list */
+	@Benchmark
+	public DynamicList<Object> subList(ListState state) {
+		return state.list.subList(state.size / 4, state.size / 4 * 3);
+	}
+
+	//----------------- Convenience & Utility Methods ------------------
+
+	/** join the list with itself */
+	@Benchmark
+	public DynamicList<Object> join(ListState state) {
+		return state.list.join(state.list);
+	}
+
+	/** toArray of the whole list */
+	@Benchmark
+	public Object[] toArray(ListState state) {
+		return state.list.toArray();
+	}
+
+	/** map every element to its hash code */
+	@Benchmark
+	public DynamicList<Integer> map(ListState state) {
+		return state.list.map(Object::hashCode);
+	}
+
+	/** select about half of the elements */
+	@Benchmark
+	public DynamicList<Object> select(ListState state) {
+		return state.list.select(each -> (each.hashCode() & 1) == 0);
+	}
+
+	/** accumulate the sum of the hash codes */
+	@Benchmark
+	public long accumulate(ListState state) {
+		return state.list.accumulate((Long sum, Object each) -> sum + each.hashCode(), 0L);
+	}
+}
@@ -0,0 +1,82 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    List State
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Shared JMH state for the DynamicArray benchmarks: a list of "size" elements
+ *	of "elementType", created with "growthFactor" through DynamicArray.fromGrowthFactor.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list.bench;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import model.linearpub.DynamicList;
+import model.list.DynamicArray;
+
+@State(Scope.Thread)
+public class ListState {
+
+	@Param({"1000", "100000", "1000000"})
+	public int size;
+
+	@Param({"1.5", "2.0"})
+	public double growthFactor;
+
+	@Param({"Integer", "String"})
+	public String elementType;
+
+	/** Elements 0 .. size - 1, in list order */
+	public Object[] elements;
+
+	/** List holding "elements" */
+	public DynamicList<Object> list;
+
+	/** Element stored at the last index (worst case for findFirst) */
+	public Object lastElement;
+
+	/** Element stored at index 0 (worst case for findLast) */
+	public Object firstElement;
+
+	@Setup
+	public void setUp() {
+		this.elements = new Object[this.size];
+		for (int i=0; i < this.size; i++) {
+			this.elements[i] = this.element(i);
+		}
+		this.list = this.newList();
+		for (Object each : this.elements) {
+			this.list.add(each);
+		}
+		this.firstElement = this.elements[0];
+		this.lastElement = this.elements[this.size - 1];
+	}
+
+	/** Returns a new empty list with the benchmarked growth factor */
+	public DynamicList<Object> newList() {
+		return DynamicArray.fromGrowthFactor(this.growthFactor);
+	}
+
+	// Returns the i-th element of the benchmarked element type
+	private Object element(int i) {
+		switch (this.elementType) {
+			case "Integer":
+				return Integer.valueOf(i);
+			case "String":
+				return "element-" + i;
+			default:
+				throw new IllegalArgumentException("Unknown element type: " + this.elementType);
+		}
+	}
+}
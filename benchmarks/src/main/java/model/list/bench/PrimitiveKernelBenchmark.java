@@ -0,0 +1,119 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Primitive Kernel Benchmark
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	JMH benchmarks for the numeric methods of DynamicIntArray and DynamicDoubleArray
+ *	(sum, indexOf, countInRange, selectInRange), each next to the lambda-based
+ *	method it replaces (accumulate, findFirst, select).
+ *
+ *	The forks get --add-modules jdk.incubator.vector, so the SIMD kernels are used;
+ *	compare with the scalar kernels by adding -jvmArgsAppend -Dmodel.list.simd=false.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list.bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.list.DynamicDoubleArray;
+import model.list.DynamicIntArray;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" })
+@State(Scope.Thread)
+public class PrimitiveKernelBenchmark {
+
+	@Param({"1000", "1000000"})
+	public int size;
+
+	/** Random ints in [0, 1000) */
+	public DynamicIntArray ints;
+
+	/** Random doubles in [0, 1) */
+	public DynamicDoubleArray doubles;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(42);
+		this.ints = DynamicIntArray.from(random.ints(this.size, 0, 1000).toArray());
+		this.doubles = DynamicDoubleArray.from(random.doubles(this.size).toArray());
+	}
+
+	//------------------ int ------------------
+
+	@Benchmark
+	public int accumulateInts() {
+		return this.ints.accumulate(Integer::sum, 0);
+	}
+
+	@Benchmark
+	public long sumInts() {
+		return this.ints.sum();
+	}
+
+	/** findFirst of a value that is not in the list (full scan) */
+	@Benchmark
+	public int findFirstInt() {
+		return this.ints.findFirst(each -> each == -1);
+	}
+
+	/** indexOf of a value that is not in the list (full scan) */
+	@Benchmark
+	public int indexOfInt() {
+		return this.ints.indexOf(-1);
+	}
+
+	/** select about a quarter of the elements */
+	@Benchmark
+	public DynamicIntArray selectInts() {
+		return this.ints.select(each -> each >= 250 && each <= 499);
+	}
+
+	/** selectInRange of about a quarter of the elements */
+	@Benchmark
+	public DynamicIntArray selectIntsInRange() {
+		return this.ints.selectInRange(250, 499);
+	}
+
+	//------------------ double ------------------
+
+	@Benchmark
+	public double accumulateDoubles() {
+		return this.doubles.accumulate(Double::sum, 0);
+	}
+
+	@Benchmark
+	public double sumDoubles() {
+		return this.doubles.sum();
+	}
+
+	/** countInRange of about a quarter of the elements */
+	@Benchmark
+	public int countDoublesInRange() {
+		return this.doubles.countInRange(0.25, 0.5);
+	}
+}
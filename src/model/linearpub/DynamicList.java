@@ -1,8 +1,12 @@
 package model.linearpub;
 
+import java.util.Spliterator;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface DynamicList<E> {
 
@@ -171,6 +175,41 @@ public interface DynamicList<E> {
 	E removeFirstMatching(Function<E, Boolean> searchFct);
 
 
+	/**
+	 * Remove every matching element (where searchFct outputs true),
+	 * keeping the order of the other elements
+	 * Return the number of removed elements
+	 */
+	default int removeIf(Function<E, Boolean> searchFct) {
+		int removed = 0;
+		for (int i=this.size() - 1; i >= 0; i--) {
+			if (searchFct.apply(this.get(i))) {
+				this.removeIndex(i);
+				removed++;
+			}
+		}
+		return removed;
+	}
+
+
+	/**
+	 * Alias for "removeIf" (same functionality)
+	 */
+	default int removeAllMatching(Function<E, Boolean> searchFct) {
+		return this.removeIf(searchFct);
+	}
+
+
+	/**
+	 * Remove every element that does not match (where keepFct outputs false),
+	 * keeping the order of the other elements
+	 * Return the number of removed elements
+	 */
+	default int retainIf(Function<E, Boolean> keepFct) {
+		return this.removeIf(each -> !keepFct.apply(each));
+	}
+
+
 	//----------------- Convenience Methods ------------------
 
 	/**
@@ -240,6 +279,39 @@ public interface DynamicList<E> {
 	
 	//------------------- Optional Methods ---------------------
 	
+	/**
+	 * Return a SIZED, SUBSIZED and ORDERED spliterator over the elements of this list
+	 */
+	default Spliterator<E> spliterator() {
+		return IntStream.range(0, this.size()).mapToObj(this::get).spliterator();
+	}
+
+	/**
+	 * Return a sequential Stream over the elements of this list
+	 */
+	default Stream<E> stream() {
+		return StreamSupport.stream(this.spliterator(), false);
+	}
+
+	/**
+	 * Return a parallel Stream over the elements of this list
+	 */
+	default Stream<E> parallelStream() {
+		return StreamSupport.stream(this.spliterator(), true);
+	}
+
+	
+	/**
+	 * Grow the storage (if needed) so that it can hold at least
+	 * "minCapacity" elements without growing again
+	 */
+	default void ensureCapacity(int minCapacity) { throw notImplemented(); }
+
+	/**
+	 * Release unused storage so the capacity matches the size
+	 */
+	default void trimToSize() { throw notImplemented(); }
+
 	/**
 	 * Return iterator on this list
 	 */
@@ -0,0 +1,38 @@
+package model.linearpub;
+
+import java.util.Iterator;
+
+public interface StructureIterator<E> extends Iterator<E> {
+
+
+	/**
+	 * Return true if there are more elements to iterate over.
+	 */
+	@Override
+	boolean hasNext();
+
+
+	/**
+	 * Return next element and advance past it.
+	 * Throws NoSuchElementException if there are no more elements.
+	 */
+	@Override
+	E next();
+
+
+	/**
+	 * Return next element without advancing past it.
+	 * Throws NoSuchElementException if there are no more elements.
+	 */
+	E peek();
+
+
+	/**
+	 * Remove the element last returned by "next" from the structure.
+	 * Throws IllegalStateException if "next" has not been called,
+	 * or the element was already removed.
+	 */
+	@Override
+	default void remove() { throw DynamicList.notImplemented(); }
+
+}
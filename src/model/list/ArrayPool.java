@@ -0,0 +1,198 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Array Pool
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Pool of Object[] arrays that DynamicArrays can use as backing storage instead
+ *	of allocating a new array on every growth (see DynamicArray.fromPool).
+ *
+ *	Arrays are handed out in size classes (see GrowthPolicy.sizeClassOf), so an
+ *	array released by one list fits many others. Each thread keeps a small cache
+ *	per size class in front of the shared buckets, so most acquire/release pairs
+ *	never touch shared state. Released arrays are cleared before they are reused.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ArrayPool {
+
+	// Enough size classes for every array length up to Integer.MAX_VALUE
+	private static final int SIZE_CLASSES = 64;
+
+	private static final ArrayPool COMMON = new ArrayPool(64, 8, 1 << 20);
+
+    //---------------------------------
+    // Instance Variables
+	private final int maxArraysPerClass;
+	private final int maxPooledLength;
+	private final ConcurrentLinkedQueue<Object[]>[] buckets;
+	private final AtomicInteger[] bucketSizes;
+	private final ThreadLocal<ThreadCache> threadCaches;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder releases = new LongAdder();
+	private final LongAdder drops = new LongAdder();
+
+    //---------------------------------
+    // Public Constructor
+
+    /** Constructs and returns a new ArrayPool keeping at most "maxArraysPerClass" shared arrays and
+     *	"threadCacheSize" thread-local arrays per size class, pooling arrays up to "maxPooledLength" long */
+	@SuppressWarnings("unchecked")
+	public ArrayPool(int maxArraysPerClass, int threadCacheSize, int maxPooledLength) {
+		this.maxArraysPerClass = maxArraysPerClass;
+		this.maxPooledLength = maxPooledLength;
+		this.buckets = (ConcurrentLinkedQueue<Object[]>[]) new ConcurrentLinkedQueue<?>[SIZE_CLASSES];
+		this.bucketSizes = new AtomicInteger[SIZE_CLASSES];
+		for (int i=0; i < SIZE_CLASSES; i++) {
+			this.buckets[i] = new ConcurrentLinkedQueue<>();
+			this.bucketSizes[i] = new AtomicInteger();
+		}
+		this.threadCaches = ThreadLocal.withInitial(() -> new ThreadCache(threadCacheSize));
+	}
+
+    /** Returns the pool shared by every list that does not bring its own */
+	public static ArrayPool common() {
+		return COMMON;
+	}
+
+	//-------------------- Pool Operations ---------------------
+
+	/**
+	 * Return an empty array at least "minLength" long: a pooled one of the matching
+	 * size class when available, otherwise a newly allocated one.
+	 */
+	public Object[] acquire(int minLength) {
+		long sizeClass = GrowthPolicy.sizeClassOf(minLength);
+		if (sizeClass > this.maxPooledLength) {
+			this.misses.increment();
+			return new Object[minLength];
+		}
+		int index = classIndex(sizeClass);
+		Object[] array = this.threadCaches.get().pop(index);
+		if (array == null) {
+			array = this.buckets[index].poll();
+			if (array != null) {
+				this.bucketSizes[index].decrementAndGet();
+			}
+		}
+		if (array == null) {
+			this.misses.increment();
+			return new Object[(int) sizeClass];
+		}
+		this.hits.increment();
+		return array;
+	}
+
+	/**
+	 * Give "array" back to the pool. Its slots are cleared so it keeps no elements alive.
+	 * Arrays whose length is not a size class, or that do not fit in the pool, are dropped.
+	 * The caller must not use the array afterwards.
+	 */
+	public void release(Object[] array) {
+		int length = array.length;
+		if (length == 0) {
+			return;
+		}
+		if (length > this.maxPooledLength || GrowthPolicy.sizeClassOf(length) != length) {
+			this.drops.increment();
+			return;
+		}
+		Arrays.fill(array, null);
+		int index = classIndex(length);
+		this.releases.increment();
+		if (this.threadCaches.get().push(index, array)) {
+			return;
+		}
+		if (this.bucketSizes[index].incrementAndGet() <= this.maxArraysPerClass) {
+			this.buckets[index].offer(array);
+		} else {
+			this.bucketSizes[index].decrementAndGet();
+			this.drops.increment();
+		}
+	}
+
+	//-------------------- Statistics ---------------------
+
+	/** Return number of acquire calls served with a pooled array */
+	public long hits() {
+		return this.hits.sum();
+	}
+
+	/** Return number of acquire calls that had to allocate a new array */
+	public long misses() {
+		return this.misses.sum();
+	}
+
+	/** Return number of arrays taken back by release */
+	public long releases() {
+		return this.releases.sum();
+	}
+
+	/** Return number of arrays release did not keep (wrong length or pool full) */
+	public long drops() {
+		return this.drops.sum();
+	}
+
+	/**
+	 * Returns one-line user-friendly message about this object
+	 * Helpful method especially for debugging.
+	 */
+	@Override
+	public String toString() {
+		return "Hits: " + this.hits() + ". Misses: " + this.misses() + ". Releases: " + this.releases()
+				+ ". Drops: " + this.drops() + ".";
+	}
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Returns the bucket of a size class: two classes (2^k and 1.5 * 2^k) per power of two
+	private static int classIndex(long sizeClass) {
+		long power = Long.highestOneBit(sizeClass);
+		return 2 * Long.numberOfTrailingZeros(power) + (sizeClass == power ? 0 : 1) - 4;
+	}
+
+	// Small per-thread stack of arrays for every size class
+	private static final class ThreadCache {
+		private final Object[][][] stacks = new Object[SIZE_CLASSES][][];
+		private final int[] counts = new int[SIZE_CLASSES];
+		private final int capacity;
+
+		ThreadCache(int aCapacity) {
+			this.capacity = aCapacity;
+		}
+
+		Object[] pop(int index) {
+			if (this.counts[index] == 0) {
+				return null;
+			}
+			Object[] array = this.stacks[index][--this.counts[index]];
+			this.stacks[index][this.counts[index]] = null;
+			return array;
+		}
+
+		boolean push(int index, Object[] array) {
+			if (this.counts[index] >= this.capacity) {
+				return false;
+			}
+			if (this.stacks[index] == null) {
+				this.stacks[index] = new Object[this.capacity][];
+			}
+			this.stacks[index][this.counts[index]++] = array;
+			return true;
+		}
+	}
+}
@@ -0,0 +1,33 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Batch Source
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Produces elements in batches, writing them straight into the slots of a
+ *	list's backing array (see DynamicArray.appendBatch), so loaders never build
+ *	an intermediate array. Null elements are allowed.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface BatchSource<E> {
+
+	/**
+	 * Write at most "maxCount" elements into "target" starting at index "offset"
+	 * and return how many were written (0 when no element is available yet).
+	 * Must not touch any other slot of "target", and must only store E values there
+	 * ("target" is the list's Object[] backing array, so it cannot be typed E[]).
+	 */
+	int read(Object[] target, int offset, int maxCount) throws IOException;
+}
@@ -0,0 +1,807 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Chunked Dynamic Array
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	This class is a implementation of the Dynamic Array data structure backed by
+ *	fixed-size chunks (a "big array"): element i lives in chunk i >> chunkShift at
+ *	slot i & chunkMask, so random access stays O(1).
+ *
+ *	Growing only allocates one more chunk and, now and then, a bigger directory of
+ *	chunk references: elements already stored are never copied, so there is no
+ *	latency spike and no temporary 3x memory peak. Indexes are longs, so the list
+ *	can hold more than Integer.MAX_VALUE elements (see the long-indexed methods;
+ *	the int-indexed DynamicList methods throw ArithmeticException on such a list).
+ *
+ *	insert and removeIndex move only the elements after the index, chunk by chunk
+ *	with block copies (one element carries over into each following chunk); the
+ *	chunks before the index are not touched.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import model.linearpub.DynamicList;
+import model.linearpub.StructureIterator;
+
+public class ChunkedDynamicArray<E> implements DynamicList<E> {
+
+	// Chunks hold 1 << DEFAULT_CHUNK_SHIFT elements unless another size is asked for
+	private static final int DEFAULT_CHUNK_SHIFT = 14;
+	// Largest chunks allowed (2^30 elements each)
+	private static final int MAX_CHUNK_SHIFT = 30;
+
+    //---------------------------------
+    // Instance Variables
+	private Object[][] chunks;
+	private int chunkCount;
+	private final int chunkShift;
+	private final int chunkMask;
+	private long listSize;
+	private int modCount;
+
+    //---------------------------------
+    // Private Constructor
+
+    /** Constructs and returns new empty ChunkedDynamicArray whose chunks hold 2^"aChunkShift" elements */
+	private ChunkedDynamicArray(int aChunkShift) {
+		if (aChunkShift < 0 || aChunkShift > MAX_CHUNK_SHIFT) {
+			throw new IllegalArgumentException("Chunk shift out of range: " + aChunkShift);
+		}
+		this.chunkShift = aChunkShift;
+		this.chunkMask = (1 << aChunkShift) - 1;
+		this.chunks = new Object[4][];
+		this.chunkCount = 0;
+		this.listSize = 0;
+	}
+
+	//-------------------- List Statistics ---------------------
+
+	/**
+	 * Return number of elements in this list.
+	 * Throws ArithmeticException if it does not fit in an int (use longSize).
+	 */
+	@Override
+	public int size() {
+		return Math.toIntExact(this.listSize);
+	}
+
+	/**
+	 * Return number of elements in this list.
+	 */
+	public long longSize() {
+		return this.listSize;
+	}
+
+	/**
+	 * Return true is this list contains no elements.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return this.listSize == 0;
+	}
+
+	/**
+	 * Return the number of elements the allocated chunks can hold.
+	 */
+	public long capacity() {
+		return (long) this.chunkCount << this.chunkShift;
+	}
+
+	/**
+	 * Allocate chunks (if needed) so that the list can hold at least
+	 * "minCapacity" elements without allocating again.
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		this.ensureCapacity((long) minCapacity);
+	}
+
+	/**
+	 * Allocate chunks (if needed) so that the list can hold at least
+	 * "minCapacity" elements without allocating again.
+	 */
+	public void ensureCapacity(long minCapacity) {
+		while (this.capacity() < minCapacity) {
+			this.addChunk();
+		}
+	}
+
+	/**
+	 * Release the chunks past the last element (and shrink the chunk directory).
+	 */
+	@Override
+	public void trimToSize() {
+		int usedChunks = (int) ((this.listSize + this.chunkMask) >>> this.chunkShift);
+		Arrays.fill(this.chunks, usedChunks, this.chunkCount, null);
+		this.chunkCount = usedChunks;
+		this.chunks = Arrays.copyOf(this.chunks, Math.max(usedChunks, 1));
+	}
+
+	//------------------ Accessing Elements --------------------
+
+	/**
+	 * Return element at given index.
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	public E get(int index) {
+		return this.get((long) index);
+	}
+
+	/**
+	 * Return element at given index.
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	public E get(long index) {
+		this.checkIndex(index);
+		return this.elementAt(index);
+	}
+
+	/**
+	 * Return first element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E first() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.elementAt(0);
+	}
+
+	/**
+	 * Return last element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E last() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.elementAt(this.listSize - 1);
+	}
+
+	/**
+	 * Return a new list containing the elements of this list
+	 * between the given index "start" (inclusive) and
+	 * the given index "stop" (exclusive).
+	 * Throws IndexOutOfBoundsException if either passed index is invalid.
+	 */
+	@Override
+	public DynamicList<E> subList(int start, int stop) {
+		return this.subList((long) start, (long) stop);
+	}
+
+	/**
+	 * Return a new list containing the elements of this list
+	 * between the given index "start" (inclusive) and
+	 * the given index "stop" (exclusive).
+	 * Throws IndexOutOfBoundsException if either passed index is invalid.
+	 */
+	public ChunkedDynamicArray<E> subList(long start, long stop) {
+		if (start < 0 || start > stop || stop > this.listSize) {
+			throw new IndexOutOfBoundsException();
+		}
+		ChunkedDynamicArray<E> newList = new ChunkedDynamicArray<>(this.chunkShift);
+		newList.ensureCapacity(stop - start);
+		for (long i=start; i < stop; i++) {
+			newList.addLast(this.elementAt(i));
+		}
+		return newList;
+	}
+
+	/**
+	 * Return index of first matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 * Throws ArithmeticException if the index does not fit in an int (use findFirstIndex).
+	 */
+	@Override
+	public int findFirst(Function<E, Boolean> searchFct) {
+		return Math.toIntExact(this.findFirstIndex(searchFct));
+	}
+
+	/**
+	 * Return index of first matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	public long findFirstIndex(Function<E, Boolean> searchFct) {
+		for (int c=0; c < this.chunkCount; c++) {
+			long base = (long) c << this.chunkShift;
+			if (base >= this.listSize) {
+				break;
+			}
+			Object[] chunk = this.chunks[c];
+			int length = (int) Math.min(chunk.length, this.listSize - base);
+			for (int i=0; i < length; i++) {
+				if (searchFct.apply(this.cast(chunk[i]))) {
+					return base + i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Return index of last matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 * Throws ArithmeticException if the index does not fit in an int (use findLastIndex).
+	 */
+	@Override
+	public int findLast(Function<E, Boolean> searchFct) {
+		return Math.toIntExact(this.findLastIndex(searchFct));
+	}
+
+	/**
+	 * Return index of last matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	public long findLastIndex(Function<E, Boolean> searchFct) {
+		for (long i=this.listSize - 1; i >= 0; i--) {
+			if (searchFct.apply(this.elementAt(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	//------------------- Setting Elements ---------------------
+
+	/**
+	 * Insert passed arg "newElem" into position "index"
+	 * Return previous (replaced) elem at "index"
+	 * Valid "index" values are between 0 and "size - 1"
+	 * If "index" is invalid, throws IndexOutOfBoundsException.
+	*/
+	@Override
+	public E set(int index, E newElem) {
+		return this.set((long) index, newElem);
+	}
+
+	/**
+	 * Replace the element at "index" by "newElem"
+	 * Return previous (replaced) elem at "index"
+	 * If "index" is invalid, throws IndexOutOfBoundsException.
+	*/
+	public E set(long index, E newElem) {
+		this.checkIndex(index);
+		Object[] chunk = this.chunks[(int) (index >>> this.chunkShift)];
+		int slot = (int) index & this.chunkMask;
+		E oldElem = this.cast(chunk[slot]);
+		chunk[slot] = newElem;
+		return oldElem;
+	}
+
+	//------- Inserting, Appending & Replacing Elements --------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Add the passed element to start of list
+	 * (moves every element, see insert)
+	 */
+	@Override
+	public void addFirst(E newElem) {
+		this.insert(0L, newElem);
+	}
+
+	/**
+	 * Add the passed element to end of list
+	 * (allocates a new chunk when the last one is full; never copies elements)
+	 */
+	@Override
+	public void addLast(E newElem) {
+		if (this.listSize == this.capacity()) {
+			this.addChunk();
+		}
+		this.chunks[(int) (this.listSize >>> this.chunkShift)][(int) this.listSize & this.chunkMask] = newElem;
+		this.listSize++;
+		this.modCount++;
+	}
+
+	/**
+	 * Alias for "addLast" (same functionality)
+	 */
+	@Override
+	public void add(E newElem) {
+		this.addLast(newElem);
+	}
+
+	/**
+	 * Add all elements from "otherDynList" into "this" list
+	 * (stops at the first null element, like DynamicArray)
+	 */
+	@Override
+	public void addAll(DynamicList<E> otherDynList) {
+		for (int i=0; i < otherDynList.size(); i++) {
+			E elem = otherDynList.get(i);
+			if (elem == null) {
+				return;
+			}
+			this.addLast(elem);
+		}
+	}
+
+	/**
+	 * Add all elements from passed fixed array "this" list, one block copy per chunk
+	 * (stops at the first null element, like DynamicArray)
+	 */
+	@Override
+	public void addAll(E[] array) {
+		int count = 0;
+		while (count < array.length && array[count] != null) {
+			count++;
+		}
+		this.ensureCapacity(this.listSize + count);
+		int copied = 0;
+		while (copied < count) {
+			Object[] chunk = this.chunks[(int) (this.listSize >>> this.chunkShift)];
+			int slot = (int) this.listSize & this.chunkMask;
+			int length = Math.min(count - copied, chunk.length - slot);
+			System.arraycopy(array, copied, chunk, slot, length);
+			copied += length;
+			this.listSize += length;
+		}
+		this.modCount++;
+	}
+
+	/**
+	 * Shift to the right the element currently at "insertIndex" (if any) and all elements to the right
+	 * Insert passed arg "newElem" into position "insertIndex"
+	 * Valid "insertIndex" values are between 0 and "size"
+	 * If index = "size" then it becomes a simple "add" operation
+	 * If "insertIndex" is invalid, throws IndexOutOfBoundsException
+	 */
+	@Override
+	public void insert(int insertIndex, E newElem) {
+		this.insert((long) insertIndex, newElem);
+	}
+
+	/**
+	 * Insert passed arg "newElem" into position "insertIndex" (between 0 and "size"),
+	 * moving only the elements after it, chunk by chunk.
+	 * If "insertIndex" is invalid, throws IndexOutOfBoundsException
+	 */
+	public void insert(long insertIndex, E newElem) {
+		if (insertIndex < 0 || insertIndex > this.listSize) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (this.listSize == this.capacity()) {
+			this.addChunk();
+		}
+		int firstChunk = (int) (insertIndex >>> this.chunkShift);
+		int lastChunk = (int) (this.listSize >>> this.chunkShift);
+		Object carry = newElem;
+		int slot = (int) insertIndex & this.chunkMask;
+		for (int c=firstChunk; c <= lastChunk; c++) {
+			Object[] chunk = this.chunks[c];
+			int used = c == lastChunk ? ((int) this.listSize & this.chunkMask) : chunk.length;
+			Object out = used == chunk.length ? chunk[chunk.length - 1] : null;
+			int moved = Math.min(used, chunk.length - 1) - slot;
+			System.arraycopy(chunk, slot, chunk, slot + 1, moved);
+			chunk[slot] = carry;
+			carry = out;
+			slot = 0;
+		}
+		this.listSize++;
+		this.modCount++;
+	}
+
+	//------------------- Removing Elements --------------------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Remove first element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E removeFirst() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.removeIndex(0L);
+	}
+
+	/**
+	 * Remove last element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E removeLast() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.removeIndex(this.listSize - 1);
+	}
+
+	/**
+	 * Reset the list so it is empty (and release all chunks but the first).
+	 * If list is already empty, then do nothing
+	 */
+	@Override
+	public void removeAll() {
+		if (isEmpty()) {
+			return;
+		}
+		Arrays.fill(this.chunks, 1, this.chunkCount, null);
+		Arrays.fill(this.chunks[0], null);
+		this.chunkCount = 1;
+		this.listSize = 0;
+		this.modCount++;
+	}
+
+	/**
+	 * Remove elem at index
+	 * Return the removed element
+	* Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	public E removeIndex(int index) {
+		return this.removeIndex((long) index);
+	}
+
+	/**
+	 * Remove elem at index, moving only the elements after it, chunk by chunk.
+	 * Return the removed element
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	public E removeIndex(long index) {
+		this.checkIndex(index);
+		E removedElem = this.elementAt(index);
+		long last = this.listSize - 1;
+		int firstChunk = (int) (index >>> this.chunkShift);
+		int lastChunk = (int) (last >>> this.chunkShift);
+		int slot = (int) index & this.chunkMask;
+		for (int c=firstChunk; c <= lastChunk; c++) {
+			Object[] chunk = this.chunks[c];
+			int used = c == lastChunk ? ((int) last & this.chunkMask) + 1 : chunk.length;
+			System.arraycopy(chunk, slot + 1, chunk, slot, used - slot - 1);
+			chunk[used - 1] = c == lastChunk ? null : this.chunks[c + 1][0];
+			slot = 0;
+		}
+		this.listSize--;
+		this.modCount++;
+		this.releaseSpareChunks();
+		return removedElem;
+	}
+
+	/**
+	 * Remove first matching element (where searchFct outputs true)
+	 * Return the removed element
+	 * If no match, return null
+	 */
+	@Override
+	public E removeFirstMatching(Function<E, Boolean> searchFct) {
+		long index = this.findFirstIndex(searchFct);
+		if (index == -1) {
+			return null;
+		}
+		return this.removeIndex(index);
+	}
+
+	/**
+	 * Remove every matching element (where searchFct outputs true) with one
+	 * compaction pass; the vacated slots are cleared and empty chunks released.
+	 * Return the number of removed elements
+	 */
+	@Override
+	public int removeIf(Function<E, Boolean> searchFct) {
+		long write = 0;
+		long read = 0;
+		long removed;
+		try {
+			for (; read < this.listSize; read++) {
+				E elem = this.elementAt(read);
+				if (!searchFct.apply(elem)) {
+					this.setAt(write++, elem);
+				}
+			}
+		} finally {
+			// if searchFct threw, the elements not tested yet are kept
+			for (; read < this.listSize; read++) {
+				this.setAt(write++, this.elementAt(read));
+			}
+			removed = this.listSize - write;
+			for (long i=write; i < this.listSize; i++) {
+				this.setAt(i, null);
+			}
+			if (removed != 0) {
+				this.listSize = write;
+				this.modCount++;
+				this.releaseSpareChunks();
+			}
+		}
+		return Math.toIntExact(removed);
+	}
+
+	//----------------- Convenience Methods ------------------
+
+	/**
+	 * Return this list as an array (maintain same order of elements)
+	 * Throws ArithmeticException if the list has more elements than an array can hold.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray() {
+		if (this.isEmpty())
+			return (E[]) Array.newInstance(Object.class, 0);
+		E[] array = (E[]) Array.newInstance(this.first().getClass(), this.size());
+		int copied = 0;
+		for (int c=0; copied < array.length; c++) {
+			int length = Math.min(this.chunks[c].length, array.length - copied);
+			System.arraycopy(this.chunks[c], 0, array, copied, length);
+			copied += length;
+		}
+		return array;
+	}
+
+	/**
+	 * Returns one-line user-friendly message about this object
+	 * Helpful method especially for debugging.
+	 */
+	@Override
+	public String toString() {
+		return "Chunk Size: " + (this.chunkMask + 1) + ". Chunks: " + this.chunkCount + ". Size: " + this.listSize + ".";
+	}
+
+	/**
+	 * Return iterator on this list. The iterator fails fast: once the list is
+	 * structurally modified, its next call throws ConcurrentModificationException.
+	 */
+	@Override
+	public StructureIterator<E> iterator() {
+		return new ChunkIterator();
+	}
+
+	/** Prints all elements to console, with newline after each */
+	@Override
+	public void printAll() {
+		this.forEach(System.out::println);
+	}
+
+	/** Iterates over elements in "this" object, chunk by chunk. For each element,
+	 * performs actionFct (passing element being iterated on)
+	 */
+	@Override
+	public void forEach(Consumer<? super E> actionFct) {
+		for (int c=0; c < this.chunkCount; c++) {
+			long base = (long) c << this.chunkShift;
+			if (base >= this.listSize) {
+				break;
+			}
+			Object[] chunk = this.chunks[c];
+			int length = (int) Math.min(chunk.length, this.listSize - base);
+			for (int i=0; i < length; i++) {
+				actionFct.accept(this.cast(chunk[i]));
+			}
+		}
+	}
+
+	/** Return new list that is "this" list joined
+	 * 	with "otherList" list (this list's elements are
+	 * 	first followed by the "otherList" list)
+	 */
+	@Override
+	public DynamicList<E> join(DynamicList<E> otherList) {
+		ChunkedDynamicArray<E> newList = new ChunkedDynamicArray<>(this.chunkShift);
+		newList.ensureCapacity(this.listSize + otherList.size());
+		this.forEach(newList::addLast);
+		otherList.forEach(newList::addLast);
+		return newList;
+	}
+
+	//----------------- Utility Methods ------------------
+
+	/**
+	 * Returns new DynamicList with "new elements". Each new element
+	 * is generated from mapFct invoked with an element from
+	 * this list.
+	 */
+	@Override
+	public <T> DynamicList<T> map(Function<E, T> mapFct) {
+		ChunkedDynamicArray<T> newList = new ChunkedDynamicArray<>(this.chunkShift);
+		newList.ensureCapacity(this.listSize);
+		this.forEach(each -> newList.addLast(mapFct.apply(each)));
+		return newList;
+	}
+
+	/**
+	 * Returns new DynamicList which is elements
+	 * selected from this list via selectFct
+	 */
+	@Override
+	public DynamicList<E> select(Function<E, Boolean> selectFct) {
+		ChunkedDynamicArray<E> newList = new ChunkedDynamicArray<>(this.chunkShift);
+		this.forEach(each -> {
+			if (selectFct.apply(each)) {
+				newList.addLast(each);
+			}
+		});
+		return newList;
+	}
+
+	/**
+	 * Returns new DynamicList which is this list
+	 * with elements rejected via rejectFct
+	 */
+	@Override
+	public DynamicList<E> reject(Function<E, Boolean> rejectFct) {
+		return this.select(each -> !rejectFct.apply(each));
+	}
+
+	/** Accumulate a value by iterating over the collection
+	  * and accumulating during iteration.
+	  */
+	@Override
+	public <T> T accumulate(BiFunction<T, E, T> fct, T initialValue) {
+		Object[] sum = {initialValue};
+		this.forEach(each -> sum[0] = fct.apply(this.<T>castTo(sum[0]), each));
+		return this.castTo(sum[0]);
+	}
+
+	/**
+	 * Return a SIZED, SUBSIZED and ORDERED spliterator over the chunks
+	 * (splitting hands out halves of the index range, nothing is copied)
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return new ChunkSpliterator(0, this.listSize);
+	}
+
+    //---------------------------------
+    // Public Constructors (Static Factory Constructor Methods)
+	//---------------------------------
+
+    /** Returns a new empty ChunkedDynamicArray with the default chunk size (16384 elements) */
+    public static <T> ChunkedDynamicArray<T> newEmpty() {
+        return new ChunkedDynamicArray<>(DEFAULT_CHUNK_SHIFT);
+    }
+
+    /** Returns a new empty ChunkedDynamicArray whose chunks hold 2^"chunkShift" elements */
+    public static <T> ChunkedDynamicArray<T> withChunkShift(int chunkShift) {
+        return new ChunkedDynamicArray<>(chunkShift);
+    }
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Returns the element at a valid "index"
+	private E elementAt(long index) {
+		return this.cast(this.chunks[(int) (index >>> this.chunkShift)][(int) index & this.chunkMask]);
+	}
+
+	// Stores "elem" at a valid "index"
+	private void setAt(long index, E elem) {
+		this.chunks[(int) (index >>> this.chunkShift)][(int) index & this.chunkMask] = elem;
+	}
+
+	@SuppressWarnings("unchecked")
+	private E cast(Object elem) {
+		return (E) elem;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T castTo(Object value) {
+		return (T) value;
+	}
+
+	// Throws IndexOutOfBoundsException unless 0 <= index < size
+	private void checkIndex(long index) {
+		if (index < 0 || index >= this.listSize) {
+			throw new IndexOutOfBoundsException();
+		}
+	}
+
+	// Allocates one more chunk, growing the (small) directory of chunk references if it is full
+	private void addChunk() {
+		if (this.chunkCount == this.chunks.length) {
+			if (this.chunkCount == Integer.MAX_VALUE - 8) {
+				throw new IllegalStateException("Chunked list is full");
+			}
+			this.chunks = Arrays.copyOf(this.chunks, (int) Math.min(2L * this.chunkCount, Integer.MAX_VALUE - 8));
+		}
+		this.chunks[this.chunkCount++] = new Object[this.chunkMask + 1];
+	}
+
+	// Releases trailing chunks once two of them are empty (one spare chunk is kept so that
+	// alternating add and remove at a chunk boundary does not allocate every time)
+	private void releaseSpareChunks() {
+		int usedChunks = (int) ((this.listSize + this.chunkMask) >>> this.chunkShift);
+		if (this.chunkCount > usedChunks + 1) {
+			Arrays.fill(this.chunks, usedChunks + 1, this.chunkCount, null);
+			this.chunkCount = usedChunks + 1;
+		}
+	}
+
+	// ---------------------- Iterators ----------------------
+
+	// Iterates over the elements in order
+	private class ChunkIterator implements StructureIterator<E> {
+		private long cursor = 0;
+		private final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return this.cursor < listSize;
+		}
+
+		@Override
+		public E next() {
+			E elem = this.peek();
+			this.cursor++;
+			return elem;
+		}
+
+		@Override
+		public E peek() {
+			if (modCount != this.expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (this.cursor >= listSize) {
+				throw new NoSuchElementException();
+			}
+			return elementAt(this.cursor);
+		}
+	}
+
+	// Spliterator over the index range [index, fence)
+	private class ChunkSpliterator implements Spliterator<E> {
+		private long index;
+		private final long fence;
+		private final int expectedModCount = modCount;
+
+		ChunkSpliterator(long anIndex, long aFence) {
+			this.index = anIndex;
+			this.fence = aFence;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			if (this.index >= this.fence) {
+				return false;
+			}
+			action.accept(elementAt(this.index++));
+			if (modCount != this.expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			return true;
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			long middle = (this.index + this.fence) >>> 1;
+			if (middle <= this.index) {
+				return null;
+			}
+			Spliterator<E> prefix = new ChunkSpliterator(this.index, middle);
+			this.index = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return this.fence - this.index;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+	}
+}
@@ -0,0 +1,559 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Circular Dynamic Array
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	This class is a implementation of the Dynamic Array data structure backed by
+ *	a circular (ring) buffer. A head offset marks where the list starts inside the
+ *	fixed array, so adding or removing at either end never shifts the other elements.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.lang.reflect.Array;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import model.linearpub.DynamicList;
+
+public class CircularDynamicArray<E> implements DynamicList<E> {
+
+    //---------------------------------
+    // Instance Variables
+	private E[] fixedArray;
+	private int head;
+	private int arraySize;
+	private double growthFactor;
+	private int capacity;
+
+    //---------------------------------
+    // Private Constructors
+
+    /** Constructs and returns new CircularDynamicArray (no args constructor) */
+	private CircularDynamicArray() {
+		this(DynamicArray.defaultGrowthFactor());
+	}
+
+    /** Constructs and returns new CircularDynamicArray with "aGrowthFactor" */
+	@SuppressWarnings("unchecked")
+	private CircularDynamicArray(double aGrowthFactor) {
+		this.fixedArray = (E[]) new Object[DynamicArray.defaultInitialCapacity()];
+		this.growthFactor = aGrowthFactor;
+		this.capacity = DynamicArray.defaultInitialCapacity();
+		this.head = 0;
+		this.arraySize = 0;
+	}
+
+	//-------------------- List Statistics ---------------------
+
+	/**
+	 * Return number of elements in this list.
+	 */
+	@Override
+	public int size() {
+		return this.arraySize;
+	}
+
+	/**
+	 * Return true is this list contains no elements.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return this.size() == 0;
+	}
+
+	/**
+	 * Grow the backing array (if needed) so that it can hold at least
+	 * "minCapacity" elements without growing again.
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		this.ensureCapacityFor(minCapacity);
+	}
+
+	/**
+	 * Shrink the backing array so that its capacity is the size of the list
+	 * (the elements are unwrapped so the head starts again at slot 0).
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void trimToSize() {
+		if (this.capacity > this.arraySize) {
+			E[] newFixedArr = (E[]) new Object[this.arraySize];
+			for (int i=0; i < this.arraySize; i++) {
+				newFixedArr[i] = this.fixedArray[this.physical(i)];
+			}
+			this.fixedArray = newFixedArr;
+			this.capacity = this.arraySize;
+			this.head = 0;
+		}
+	}
+
+	//------------------ Accessing Elements --------------------
+
+	/**
+	 * Return element at given index.
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	public E get(int index) {
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		return this.fixedArray[this.physical(index)];
+	}
+
+	/**
+	 * Return first element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E first() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.fixedArray[this.head];
+	}
+
+	/**
+	 * Return last element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E last() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.fixedArray[this.physical(this.size() - 1)];
+	}
+
+	/**
+	 * Return a new list containing the elements of this list
+	 * between the given index "start" (inclusive) and
+	 * the given index "stop" (exclusive).
+	 * Throws IndexOutOfBoundsException if either passed index is invalid.
+	 */
+	@Override
+	public DynamicList<E> subList(int start, int stop) {
+		if (start < 0 || start > stop || stop > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		CircularDynamicArray<E> newList = new CircularDynamicArray<>(this.growthFactor);
+		newList.ensureCapacityFor(stop - start);
+		for (int i=start; i < stop; i++) {
+			newList.fixedArray[i - start] = this.fixedArray[this.physical(i)];
+		}
+		newList.arraySize = stop - start;
+		return newList;
+	}
+
+	/**
+	 * Return index of first matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	public int findFirst(Function<E, Boolean> searchFct) {
+		for (int i=0; i < this.size(); i++) {
+			if (searchFct.apply(this.fixedArray[this.physical(i)])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Return index of last matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	public int findLast(Function<E, Boolean> searchFct) {
+		for (int i=this.size() - 1; i >= 0; i--) {
+			if (searchFct.apply(this.fixedArray[this.physical(i)])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	//------------------- Setting Elements ---------------------
+
+	/**
+	 * Insert passed arg "newElem" into position "index"
+	 * Return previous (replaced) elem at "index"
+	 * Valid "index" values are between 0 and "size - 1"
+	 * If "index" is invalid, throws IndexOutOfBoundsException.
+	*/
+	@Override
+	public E set(int index, E newElem) {
+		E oldElem = this.get(index);
+		this.fixedArray[this.physical(index)] = newElem;
+		return oldElem;
+	}
+
+	//------- Inserting, Appending & Replacing Elements --------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Add the passed element to start of list
+	 */
+	@Override
+	public void addFirst(E newElem) {
+		this.ensureCapacityFor(this.arraySize + 1);
+		this.head = this.decrement(this.head);
+		this.fixedArray[this.head] = newElem;
+		this.arraySize++;
+	}
+
+	/**
+	 * Add the passed element to end of list
+	 */
+	@Override
+	public void addLast(E newElem) {
+		this.ensureCapacityFor(this.arraySize + 1);
+		this.fixedArray[this.physical(this.arraySize)] = newElem;
+		this.arraySize++;
+	}
+
+	/**
+	 * Alias for "addLast" (same functionality)
+	 */
+	@Override
+	public void add(E newElem) {
+		this.addLast(newElem);
+	}
+
+	/**
+	 * Add all elements from "otherDynList" into "this" list
+	 * (stops at the first null element, like DynamicArray)
+	 */
+	@Override
+	public void addAll(DynamicList<E> otherDynList) {
+		int count = 0;
+		while (count < otherDynList.size() && otherDynList.get(count) != null) {
+			count++;
+		}
+		this.ensureCapacityFor(this.arraySize + count);
+		for (int i=0; i < count; i++) {
+			this.fixedArray[this.physical(this.arraySize + i)] = otherDynList.get(i);
+		}
+		this.arraySize += count;
+	}
+
+	/**
+	 * Add all elements from passed fixed array "this" list
+	 * (stops at the first null element, like DynamicArray)
+	 */
+	@Override
+	public void addAll(E[] array) {
+		int count = 0;
+		while (count < array.length && array[count] != null) {
+			count++;
+		}
+		this.ensureCapacityFor(this.arraySize + count);
+		for (int i=0; i < count; i++) {
+			this.fixedArray[this.physical(this.arraySize + i)] = array[i];
+		}
+		this.arraySize += count;
+	}
+
+	/**
+	 * Shift the elements on the shorter side of "insertIndex" by one slot
+	 * Insert passed arg "newElem" into position "insertIndex"
+	 * Valid "insertIndex" values are between 0 and "size"
+	 * If index = "size" then it becomes a simple "add" operation
+	 * If "insertIndex" is invalid, throws IndexOutOfBoundsException
+	 */
+	@Override
+	public void insert(int insertIndex, E newElem) {
+		if (insertIndex < 0 || insertIndex > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.ensureCapacityFor(this.arraySize + 1);
+		if (insertIndex < this.size() / 2) {
+			// move the front part one slot towards the head
+			this.head = this.decrement(this.head);
+			this.shift(1, 0, insertIndex);
+		} else {
+			// move the back part one slot towards the tail
+			this.shift(insertIndex, insertIndex + 1, this.size() - insertIndex);
+		}
+		this.fixedArray[this.physical(insertIndex)] = newElem;
+		this.arraySize++;
+	}
+
+	//------------------- Removing Elements --------------------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Remove first element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E removeFirst() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		E removedElem = this.fixedArray[this.head];
+		this.fixedArray[this.head] = null;
+		this.head = this.physical(1);
+		this.arraySize--;
+		return removedElem;
+	}
+
+	/**
+	 * Remove last element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E removeLast() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		int tail = this.physical(this.size() - 1);
+		E removedElem = this.fixedArray[tail];
+		this.fixedArray[tail] = null;
+		this.arraySize--;
+		return removedElem;
+	}
+
+	/**
+	 * Reset the list so it is empty.
+	 * If list is already empty, then do nothing
+	 * No action is performed on the elements.
+	 */
+	@Override
+	public void removeAll() {
+		for (int i=0; i < this.size(); i++) {
+			this.fixedArray[this.physical(i)] = null;
+		}
+		this.head = 0;
+		this.arraySize = 0;
+	}
+
+	/**
+	 * Remove elem at index, closing the gap from whichever side is shorter
+	 * Return the removed element
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	public E removeIndex(int index) {
+		E removedElem = this.get(index);
+		if (index < this.size() / 2) {
+			// move the front part one slot towards the tail
+			this.shift(0, 1, index);
+			this.fixedArray[this.head] = null;
+			this.head = this.physical(1);
+		} else {
+			// move the back part one slot towards the head
+			this.shift(index + 1, index, this.size() - index - 1);
+			this.fixedArray[this.physical(this.size() - 1)] = null;
+		}
+		this.arraySize--;
+		return removedElem;
+	}
+
+	/**
+	 * Remove first matching element (where searchFct outputs true)
+	 * Return the removed element
+	 * If no match, return null
+	 */
+	@Override
+	public E removeFirstMatching(Function<E, Boolean> searchFct) {
+		int index = this.findFirst(searchFct);
+		if (index == -1) {
+			return null;
+		}
+		return this.removeIndex(index);
+	}
+
+	//----------------- Convenience Methods ------------------
+
+	/**
+	 * Return this list as an array (maintain same order of elements)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray() {
+		if (this.isEmpty())
+			return (E[]) Array.newInstance(Object.class, 0);
+		E[] array = (E[]) Array.newInstance(this.first().getClass(), this.size());
+		for (int i=0; i < this.size(); i++) {
+			array[i] = this.fixedArray[this.physical(i)];
+		}
+		return array;
+	}
+
+	/**
+	 * Returns one-line user-friendly message about this object
+	 * Helpful method especially for debugging.
+	 */
+	@Override
+	public String toString() {
+		return "Growth Factor: " + growthFactor + ". Size: " + this.size() + ". Head: " + this.head + ".";
+	}
+
+	/** Prints all elements to console, with newline after each */
+	@Override
+	public void printAll() {
+		this.forEach(System.out::println);
+	}
+
+	/** Iterates over elements in "this" object. For each element,
+	 * performs actionFct (passing element being iterated on)
+	 */
+	@Override
+	public void forEach(Consumer<? super E> actionFct) {
+		for (int i=0; i < this.size(); i++) {
+			actionFct.accept(this.fixedArray[this.physical(i)]);
+		}
+	}
+
+	/** Return new list that is "this" list joined
+	 * 	with "otherList" list (this list's elements are
+	 * 	first followed by the "otherList" list)
+	 */
+	@Override
+	public DynamicList<E> join(DynamicList<E> otherList) {
+		CircularDynamicArray<E> newList = new CircularDynamicArray<>(this.growthFactor);
+		newList.ensureCapacityFor(this.size() + otherList.size());
+		this.forEach(newList::addLast);
+		otherList.forEach(newList::addLast);
+		return newList;
+	}
+
+	//----------------- Utility Methods ------------------
+
+	/**
+	 * Returns new DynamicList with "new elements". Each new element
+	 * is generated from mapFct invoked with an element from
+	 * this list.
+	 */
+	@Override
+	public <T> DynamicList<T> map(Function<E, T> mapFct) {
+		CircularDynamicArray<T> newList = new CircularDynamicArray<>(this.growthFactor);
+		newList.ensureCapacityFor(this.size());
+		this.forEach(each -> newList.addLast(mapFct.apply(each)));
+		return newList;
+	}
+
+	/**
+	 * Returns new DynamicList which is elements
+	 * selected from this list via selectFct
+	 */
+	@Override
+	public DynamicList<E> select(Function<E, Boolean> selectFct) {
+		CircularDynamicArray<E> newList = new CircularDynamicArray<>(this.growthFactor);
+		this.forEach(each -> {
+			if (selectFct.apply(each)) {
+				newList.addLast(each);
+			}
+		});
+		return newList;
+	}
+
+	/**
+	 * Returns new DynamicList which is this list
+	 * with elements rejected via rejectFct
+	 */
+	@Override
+	public DynamicList<E> reject(Function<E, Boolean> rejectFct) {
+		return this.select(each -> !rejectFct.apply(each));
+	}
+
+	/** Accumulate a value by iterating over the collection
+	  * and accumulating during iteration.
+	  */
+	@Override
+	public <T> T accumulate(BiFunction<T, E, T> fct, T initialValue) {
+		T sum = initialValue;
+		for (int i=0; i < this.size(); i++) {
+			sum = fct.apply(sum, this.fixedArray[this.physical(i)]);
+		}
+		return sum;
+	}
+
+    //---------------------------------
+    // Public Constructors (Static Factory Constructor Methods)
+	//---------------------------------
+
+    /** Returns a new empty circular DynamicList */
+    public static <T> DynamicList<T> newEmpty() {
+        return new CircularDynamicArray<>();
+    }
+
+    /** Return a new empty circular DynamicList with "growthFactor" */
+    public static <T> DynamicList<T> fromGrowthFactor(double growthFactor) {
+        return new CircularDynamicArray<>(growthFactor);
+    }
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Maps a list index to its slot in the fixed array (the list starts at "head" and wraps around)
+	private int physical(int index) {
+		int slot = this.head + index;
+		return slot >= this.capacity ? slot - this.capacity : slot;
+	}
+
+	// Moves the "count" elements at list index "from" to list index "to" (the two ranges may
+	// overlap), with one block copy per run that does not wrap around the end of the fixed array
+	private void shift(int from, int to, int count) {
+		if (from > to) {
+			// towards the head: copy the runs front to back
+			int done = 0;
+			while (done < count) {
+				int source = this.physical(from + done);
+				int target = this.physical(to + done);
+				int run = Math.min(count - done, this.capacity - Math.max(source, target));
+				System.arraycopy(this.fixedArray, source, this.fixedArray, target, run);
+				done += run;
+			}
+		} else {
+			// towards the tail: copy the runs back to front
+			int left = count;
+			while (left > 0) {
+				int sourceEnd = this.physical(from + left - 1) + 1;
+				int targetEnd = this.physical(to + left - 1) + 1;
+				int run = Math.min(left, Math.min(sourceEnd, targetEnd));
+				System.arraycopy(this.fixedArray, sourceEnd - run, this.fixedArray, targetEnd - run, run);
+				left -= run;
+			}
+		}
+	}
+
+	// Steps a slot one position back, wrapping around to the end of the fixed array
+	private int decrement(int slot) {
+		return slot == 0 ? this.capacity - 1 : slot - 1;
+	}
+
+	// Grows the backing array (if needed) so that it can hold at least minCapacity elements.
+	// The elements are unwrapped into the new array so the head starts again at slot 0.
+	@SuppressWarnings("unchecked")
+	private void ensureCapacityFor(int minCapacity) {
+		if (minCapacity <= this.capacity) {
+			return;
+		}
+		int newSize = this.capacity;
+		while (newSize < minCapacity) {
+			int nextSize = (int) (this.growthFactor * newSize);
+			newSize = nextSize > newSize ? nextSize : minCapacity;
+		}
+		E[] newFixedArr = (E[]) new Object[newSize];
+		int firstRun = Math.min(this.arraySize, this.capacity - this.head);
+		System.arraycopy(this.fixedArray, this.head, newFixedArr, 0, firstRun);
+		System.arraycopy(this.fixedArray, 0, newFixedArr, firstRun, this.arraySize - firstRun);
+		this.fixedArray = newFixedArr;
+		this.capacity = newSize;
+		this.head = 0;
+	}
+}
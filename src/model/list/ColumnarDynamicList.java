@@ -0,0 +1,2137 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Columnar Dynamic List
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	This class is a implementation of the Dynamic Array data structure for record
+ *	elements, stored "struct of arrays": every component of the record type gets
+ *	its own column array instead of the list holding one object per element.
+ *	Every primitive component is kept in a primitive array of its type (int[],
+ *	long[], double[], float[], short[], byte[], char[], boolean[]); components of
+ *	reference type are kept in Object[] columns. All columns share
+ *	one capacity and grow together under a GrowthPolicy, like DynamicArray.grow().
+ *
+ *	A record added to the list is taken apart into its columns and not kept; get,
+ *	forEach and the other DynamicList methods build ("materialize") a new record
+ *	from the columns for every row they hand out. Scans over one field should go
+ *	through the typed column views instead (intColumn, longColumn, doubleColumn,
+ *	floatColumn, ..., objectColumn): they read only that field's array, one cache line after the
+ *	other, and never create a record. Their sum, min and max run on the SIMD
+ *	kernels when those are available (see Kernels).
+ *	Example:
+ *		record Reading(long timestamp, int sensorId, double value) {}
+ *		ColumnarDynamicList<Reading> readings = ColumnarDynamicList.newEmpty(Reading.class);
+ *		int first = readings.longColumn("timestamp").findFirst(ts -> ts >= start);
+ *		double peak = readings.doubleColumn("value").max();
+ *		ColumnarDynamicList<Reading> sensor7 = readings.intColumn("sensorId").select(id -> id == 7);
+ *
+ *	Null elements cannot be stored (there is no row to take apart); add, set and
+ *	insert throw NullPointerException for them, and addAll stops at the first one.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import model.linearpub.DynamicList;
+import model.linearpub.StructureIterator;
+
+public class ColumnarDynamicList<E extends Record> implements DynamicList<E> {
+
+	// Column layout of every record type, worked out (with reflection) once per type
+	private static final ClassValue<Schema> SCHEMAS = new ClassValue<>() {
+		@Override
+		protected Schema computeValue(Class<?> recordType) {
+			return new Schema(recordType);
+		}
+	};
+
+    //---------------------------------
+    // Instance Variables
+	private final Schema schema;
+	private final Column[] columns;
+	private final GrowthPolicy growthPolicy;
+	private int arraySize;
+	private int capacity;
+	private int modCount;
+
+    //---------------------------------
+    // Private Constructors
+
+    /** Constructs and returns new empty ColumnarDynamicList laid out by "aSchema" */
+	@SuppressWarnings("unchecked")
+	private ColumnarDynamicList(Schema aSchema, GrowthPolicy aGrowthPolicy, int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity must not be negative");
+		}
+		this.schema = aSchema;
+		this.growthPolicy = aGrowthPolicy;
+		this.capacity = initialCapacity;
+		this.arraySize = 0;
+		this.columns = (Column[]) Array.newInstance(Column.class, aSchema.types.length);
+		for (int c=0; c < this.columns.length; c++) {
+			Class<?> type = aSchema.types[c];
+			this.columns[c] = type == int.class ? new IntColumn(c)
+					: type == long.class ? new LongColumn(c)
+					: type == double.class ? new DoubleColumn(c)
+					: type == float.class ? new FloatColumn(c)
+					: type == short.class ? new ShortColumn(c)
+					: type == byte.class ? new ByteColumn(c)
+					: type == char.class ? new CharColumn(c)
+					: type == boolean.class ? new BooleanColumn(c)
+					: new ObjectColumn<>(c);
+		}
+	}
+
+    /** Constructs and returns new empty ColumnarDynamicList with the layout and growth policy of "other" */
+	private ColumnarDynamicList(ColumnarDynamicList<E> other, int initialCapacity) {
+		this(other.schema, other.growthPolicy, initialCapacity);
+	}
+
+	//-------------------- List Statistics ---------------------
+
+	/**
+	 * Return number of elements in this list.
+	 */
+	@Override
+	public int size() {
+		return this.arraySize;
+	}
+
+	/**
+	 * Return true is this list contains no elements.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return this.arraySize == 0;
+	}
+
+	/**
+	 * Return number of rows the columns can hold without growing
+	 */
+	public int capacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Return names of the record components, in declaration order (one column each)
+	 */
+	public String[] fieldNames() {
+		return this.schema.names.clone();
+	}
+
+	/**
+	 * Grow the columns (if needed) so that they can hold at least
+	 * "minCapacity" rows without growing again.
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		this.ensureCapacityFor(minCapacity);
+	}
+
+	/**
+	 * Shrink the columns so that their capacity is the size of the list.
+	 */
+	@Override
+	public void trimToSize() {
+		if (this.capacity > this.arraySize) {
+			this.resize(this.arraySize);
+		}
+	}
+
+	//-------------------- Columns ---------------------
+
+	/**
+	 * Return the column of the int component "name".
+	 * Throws IllegalArgumentException if the record type has no int component "name".
+	 */
+	public IntColumn intColumn(String name) {
+		return (IntColumn) this.column(name, int.class);
+	}
+
+	/**
+	 * Return the column of the long component "name".
+	 * Throws IllegalArgumentException if the record type has no long component "name".
+	 */
+	public LongColumn longColumn(String name) {
+		return (LongColumn) this.column(name, long.class);
+	}
+
+	/**
+	 * Return the column of the double component "name".
+	 * Throws IllegalArgumentException if the record type has no double component "name".
+	 */
+	public DoubleColumn doubleColumn(String name) {
+		return (DoubleColumn) this.column(name, double.class);
+	}
+
+	/**
+	 * Return the column of the float component "name".
+	 * Throws IllegalArgumentException if the record type has no float component "name".
+	 */
+	public FloatColumn floatColumn(String name) {
+		return (FloatColumn) this.column(name, float.class);
+	}
+
+	/**
+	 * Return the column of the short component "name".
+	 * Throws IllegalArgumentException if the record type has no short component "name".
+	 */
+	public ShortColumn shortColumn(String name) {
+		return (ShortColumn) this.column(name, short.class);
+	}
+
+	/**
+	 * Return the column of the byte component "name".
+	 * Throws IllegalArgumentException if the record type has no byte component "name".
+	 */
+	public ByteColumn byteColumn(String name) {
+		return (ByteColumn) this.column(name, byte.class);
+	}
+
+	/**
+	 * Return the column of the char component "name".
+	 * Throws IllegalArgumentException if the record type has no char component "name".
+	 */
+	public CharColumn charColumn(String name) {
+		return (CharColumn) this.column(name, char.class);
+	}
+
+	/**
+	 * Return the column of the boolean component "name".
+	 * Throws IllegalArgumentException if the record type has no boolean component "name".
+	 */
+	public BooleanColumn booleanColumn(String name) {
+		return (BooleanColumn) this.column(name, boolean.class);
+	}
+
+	/**
+	 * Return the column of the component "name" of reference type (boxed primitives
+	 * included), holding values of "type".
+	 * Throws IllegalArgumentException if the record type has no such component "name".
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> ObjectColumn<T> objectColumn(String name, Class<T> type) {
+		Column column = this.column(name, null);
+		if (!(column instanceof ObjectColumn<?>) || !type.isAssignableFrom(this.schema.types[column.field])) {
+			throw new IllegalArgumentException("No " + type.getSimpleName() + " component \"" + name + "\" in "
+					+ this.schema.recordType.getSimpleName());
+		}
+		return (ObjectColumn<T>) column;
+	}
+
+	//------------------ Accessing Elements --------------------
+
+	/**
+	 * Return element at given index (a new record built from the columns).
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	public E get(int index) {
+		if (index < 0 || index >= this.arraySize) {
+			throw new IndexOutOfBoundsException();
+		}
+		return this.row(index);
+	}
+
+	/**
+	 * Return first element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E first() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.row(0);
+	}
+
+	/**
+	 * Return last element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E last() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.row(this.arraySize - 1);
+	}
+
+	/**
+	 * Return a new list containing the elements of this list
+	 * between the given index "start" (inclusive) and
+	 * the given index "stop" (exclusive), copied column by column.
+	 * Throws IndexOutOfBoundsException if either passed index is invalid.
+	 */
+	@Override
+	public ColumnarDynamicList<E> subList(int start, int stop) {
+		if (start < 0 || start > stop || stop > this.arraySize) {
+			throw new IndexOutOfBoundsException();
+		}
+		ColumnarDynamicList<E> newList = new ColumnarDynamicList<>(this, stop - start);
+		newList.appendRows(this, start, stop - start);
+		return newList;
+	}
+
+	/**
+	 * Return index of first matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 * (materializes every row it looks at; a column's findFirst does not)
+	 */
+	@Override
+	public int findFirst(Function<E, Boolean> searchFct) {
+		for (int i=0; i < this.arraySize; i++) {
+			if (searchFct.apply(this.row(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Return index of last matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 * (materializes every row it looks at; a column's findLast does not)
+	 */
+	@Override
+	public int findLast(Function<E, Boolean> searchFct) {
+		for (int i=this.arraySize - 1; i >= 0; i--) {
+			if (searchFct.apply(this.row(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	//------------------- Setting Elements ---------------------
+
+	/**
+	 * Insert passed arg "newElem" into position "index"
+	 * Return previous (replaced) elem at "index"
+	 * Valid "index" values are between 0 and "size - 1"
+	 * If "index" is invalid, throws IndexOutOfBoundsException.
+	*/
+	@Override
+	public E set(int index, E newElem) {
+		Objects.requireNonNull(newElem, "ColumnarDynamicList cannot hold null elements");
+		E oldElem = this.get(index);
+		this.store(index, newElem);
+		return oldElem;
+	}
+
+	//------- Inserting, Appending & Replacing Elements --------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Add the passed element to start of list
+	 */
+	@Override
+	public void addFirst(E newElem) {
+		this.insert(0, newElem);
+	}
+
+	/**
+	 * Add the passed element to end of list
+	 */
+	@Override
+	public void addLast(E newElem) {
+		Objects.requireNonNull(newElem, "ColumnarDynamicList cannot hold null elements");
+		this.ensureCapacityFor(this.arraySize + 1);
+		this.store(this.arraySize, newElem);
+		this.arraySize++;
+		this.modCount++;
+	}
+
+	/**
+	 * Alias for "addLast" (same functionality)
+	 */
+	@Override
+	public void add(E newElem) {
+		this.addLast(newElem);
+	}
+
+	/**
+	 * Add all elements from "otherDynList" into "this" list
+	 * (stops at the first null element, like DynamicArray; another
+	 * ColumnarDynamicList is copied column by column)
+	 */
+	@Override
+	public void addAll(DynamicList<E> otherDynList) {
+		if (otherDynList instanceof ColumnarDynamicList<E> other && other.schema == this.schema) {
+			this.appendRows(other, 0, other.arraySize);
+			return;
+		}
+		this.ensureCapacityFor(this.arraySize + otherDynList.size());
+		for (int i=0; i < otherDynList.size(); i++) {
+			E elem = otherDynList.get(i);
+			if (elem == null) {
+				return;
+			}
+			this.addLast(elem);
+		}
+	}
+
+	/**
+	 * Add all elements from passed fixed array "this" list
+	 * (stops at the first null element, like DynamicArray)
+	 */
+	@Override
+	public void addAll(E[] array) {
+		this.ensureCapacityFor(this.arraySize + array.length);
+		for (E elem : array) {
+			if (elem == null) {
+				return;
+			}
+			this.addLast(elem);
+		}
+	}
+
+	/**
+	 * Shift to the right the element currently at "insertIndex" (if any) and all elements to the right
+	 * Insert passed arg "newElem" into position "insertIndex"
+	 * Valid "insertIndex" values are between 0 and "size"
+	 * If index = "size" then it becomes a simple "add" operation
+	 * If "insertIndex" is invalid, throws IndexOutOfBoundsException
+	 */
+	@Override
+	public void insert(int insertIndex, E newElem) {
+		if (insertIndex < 0 || insertIndex > this.arraySize) {
+			throw new IndexOutOfBoundsException();
+		}
+		Objects.requireNonNull(newElem, "ColumnarDynamicList cannot hold null elements");
+		this.ensureCapacityFor(this.arraySize + 1);
+		for (Column column : this.columns) {
+			column.move(insertIndex, insertIndex + 1, this.arraySize - insertIndex);
+		}
+		this.store(insertIndex, newElem);
+		this.arraySize++;
+		this.modCount++;
+	}
+
+	//------------------- Removing Elements --------------------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Remove first element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E removeFirst() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.removeIndex(0);
+	}
+
+	/**
+	 * Remove last element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E removeLast() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.removeIndex(this.arraySize - 1);
+	}
+
+	/**
+	 * Reset the list so it is empty.
+	 * If list is already empty, then do nothing
+	 */
+	@Override
+	public void removeAll() {
+		if (this.isEmpty()) {
+			return;
+		}
+		this.truncate(0);
+	}
+
+	/**
+	 * Remove elem at index
+	 * Return the removed element
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	public E removeIndex(int index) {
+		E removedElem = this.get(index);
+		for (Column column : this.columns) {
+			column.move(index + 1, index, this.arraySize - index - 1);
+		}
+		this.truncate(this.arraySize - 1);
+		return removedElem;
+	}
+
+	/**
+	 * Remove first matching element (where searchFct outputs true)
+	 * Return the removed element
+	 * If no match, return null
+	 */
+	@Override
+	public E removeFirstMatching(Function<E, Boolean> searchFct) {
+		int index = this.findFirst(searchFct);
+		if (index == -1) {
+			return null;
+		}
+		return this.removeIndex(index);
+	}
+
+	/**
+	 * Remove every matching element (where searchFct outputs true),
+	 * keeping the order of the other elements
+	 * Return the number of removed elements
+	 * (one pass: kept rows are moved down column by column)
+	 */
+	@Override
+	public int removeIf(Function<E, Boolean> searchFct) {
+		return this.compact(row -> searchFct.apply(this.row(row)));
+	}
+
+	//----------------- Convenience Methods ------------------
+
+	/**
+	 * Return this list as an array (maintain same order of elements)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray() {
+		E[] array = (E[]) Array.newInstance(this.schema.recordType, this.arraySize);
+		for (int i=0; i < this.arraySize; i++) {
+			array[i] = this.row(i);
+		}
+		return array;
+	}
+
+	/**
+	 * Returns one-line user-friendly message about this object
+	 * Helpful method especially for debugging.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder fields = new StringBuilder();
+		for (int c=0; c < this.columns.length; c++) {
+			fields.append(c == 0 ? "" : ", ").append(this.schema.names[c]).append(':')
+					.append(this.schema.types[c].getSimpleName());
+		}
+		return "Record: " + this.schema.recordType.getSimpleName() + "(" + fields + "). Size: " + this.size()
+				+ ". Capacity: " + this.capacity + ".";
+	}
+
+	/**
+	 * Return iterator on this list. The iterator fails fast: once the list is
+	 * structurally modified, its next call throws ConcurrentModificationException.
+	 */
+	@Override
+	public StructureIterator<E> iterator() {
+		return new RowIterator();
+	}
+
+	/** Prints all elements to console, with newline after each */
+	@Override
+	public void printAll() {
+		this.forEach(System.out::println);
+	}
+
+	/** Iterates over elements in "this" object. For each element,
+	 * performs actionFct (passing element being iterated on)
+	 */
+	@Override
+	public void forEach(Consumer<? super E> actionFct) {
+		for (int i=0; i < this.arraySize; i++) {
+			actionFct.accept(this.row(i));
+		}
+	}
+
+	/** Return new list that is "this" list joined
+	 * 	with "otherList" list (this list's elements are
+	 * 	first followed by the "otherList" list)
+	 */
+	@Override
+	public ColumnarDynamicList<E> join(DynamicList<E> otherList) {
+		ColumnarDynamicList<E> newList = new ColumnarDynamicList<>(this, this.size() + otherList.size());
+		newList.appendRows(this, 0, this.arraySize);
+		newList.addAll(otherList);
+		return newList;
+	}
+
+	//----------------- Utility Methods ------------------
+
+	/**
+	 * Returns new DynamicList with "new elements". Each new element
+	 * is generated from mapFct invoked with an element from
+	 * this list. (The result is a DynamicArray, the new elements need not be records.)
+	 */
+	@Override
+	public <T> DynamicList<T> map(Function<E, T> mapFct) {
+		DynamicList<T> newList = DynamicArray.withInitialCapacity(Math.max(this.arraySize, 1));
+		this.forEach(each -> newList.add(mapFct.apply(each)));
+		return newList;
+	}
+
+	/**
+	 * Returns new DynamicList which is elements
+	 * selected from this list via selectFct
+	 */
+	@Override
+	public ColumnarDynamicList<E> select(Function<E, Boolean> selectFct) {
+		return this.selectRows(row -> selectFct.apply(this.row(row)));
+	}
+
+	/**
+	 * Returns new DynamicList which is this list
+	 * with elements rejected via rejectFct
+	 */
+	@Override
+	public ColumnarDynamicList<E> reject(Function<E, Boolean> rejectFct) {
+		return this.selectRows(row -> !rejectFct.apply(this.row(row)));
+	}
+
+	/** Accumulate a value by iterating over the collection
+	  * and accumulating during iteration.
+	  */
+	@Override
+	public <T> T accumulate(BiFunction<T, E, T> fct, T initialValue) {
+		T sum = initialValue;
+		for (int i=0; i < this.arraySize; i++) {
+			sum = fct.apply(sum, this.row(i));
+		}
+		return sum;
+	}
+
+    //---------------------------------
+    // Public Constructors (Static Factory Constructor Methods)
+	//---------------------------------
+
+    /** Returns a new empty ColumnarDynamicList for records of "recordType" */
+    public static <T extends Record> ColumnarDynamicList<T> newEmpty(Class<T> recordType) {
+        return new ColumnarDynamicList<>(SCHEMAS.get(recordType),
+                GrowthPolicy.multiplicative(DynamicArray.defaultGrowthFactor()), DynamicArray.defaultInitialCapacity());
+    }
+
+    /** Returns a new empty ColumnarDynamicList for records of "recordType" whose columns start
+     *	with "initialCapacity" rows and grow with "growthPolicy" */
+    public static <T extends Record> ColumnarDynamicList<T> fromPolicy(Class<T> recordType, GrowthPolicy growthPolicy,
+    		int initialCapacity) {
+        return new ColumnarDynamicList<>(SCHEMAS.get(recordType), growthPolicy, initialCapacity);
+    }
+
+    /** Returns a new ColumnarDynamicList for records of "recordType" that contains all elements
+     *	from the param "aFixedArray" (up to the first null) */
+    public static <T extends Record> ColumnarDynamicList<T> from(Class<T> recordType, T[] aFixedArray) {
+        ColumnarDynamicList<T> columnar = fromPolicy(recordType,
+                GrowthPolicy.multiplicative(DynamicArray.defaultGrowthFactor()), aFixedArray.length);
+        columnar.addAll(aFixedArray);
+        return columnar;
+    }
+
+	//----------------------------------------------------------
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Builds a new record from the values of every column at "row"
+	@SuppressWarnings("unchecked")
+	private E row(int row) {
+		Object[] values = new Object[this.columns.length];
+		for (int c=0; c < values.length; c++) {
+			values[c] = this.columns[c].load(row);
+		}
+		try {
+			Object elem = (Object) this.schema.constructor.invokeExact(values);
+			return (E) elem;
+		} catch (Throwable e) {
+			throw rethrow(e);
+		}
+	}
+
+	// Takes "elem" apart into the columns at "row"
+	private void store(int row, E elem) {
+		try {
+			for (Column column : this.columns) {
+				column.store(row, elem);
+			}
+		} catch (Throwable e) {
+			throw rethrow(e);
+		}
+	}
+
+	// Appends rows [start, start + count) of "source" (same record type) column by column
+	private void appendRows(ColumnarDynamicList<E> source, int start, int count) {
+		this.ensureCapacityFor(this.arraySize + count);
+		for (int c=0; c < this.columns.length; c++) {
+			source.columns[c].copyTo(start, this.columns[c], this.arraySize, count);
+		}
+		this.arraySize += count;
+		this.modCount++;
+	}
+
+	// Returns a new list holding the rows for which "rowTest" is true
+	private ColumnarDynamicList<E> selectRows(IntPredicate rowTest) {
+		ColumnarDynamicList<E> newList = new ColumnarDynamicList<>(this, DynamicArray.defaultInitialCapacity());
+		for (int i=0; i < this.arraySize; i++) {
+			if (rowTest.test(i)) {
+				newList.appendRows(this, i, 1);
+			}
+		}
+		return newList;
+	}
+
+	// Removes the rows for which "rowTest" is true in one pass, moving the kept rows down
+	// (the list is compacted even if rowTest throws); returns the number of removed rows
+	private int compact(IntPredicate rowTest) {
+		int kept = 0;
+		int read = 0;
+		try {
+			for (; read < this.arraySize; read++) {
+				if (!rowTest.test(read)) {
+					if (kept != read) {
+						for (Column column : this.columns) {
+							column.move(read, kept, 1);
+						}
+					}
+					kept++;
+				}
+			}
+		} finally {
+			if (read < this.arraySize) {
+				for (Column column : this.columns) {
+					column.move(read, kept, this.arraySize - read);
+				}
+				kept += this.arraySize - read;
+			}
+			if (kept < this.arraySize) {
+				this.truncate(kept);
+			}
+		}
+		return read - kept;
+	}
+
+	// Drops the rows from "newSize" on (clearing the references they held)
+	private void truncate(int newSize) {
+		for (Column column : this.columns) {
+			column.clear(newSize, this.arraySize);
+		}
+		this.arraySize = newSize;
+		this.modCount++;
+	}
+
+	// Grows every column (if needed) to the capacity the growthPolicy picks for minCapacity rows
+	private void ensureCapacityFor(int minCapacity) {
+		if (minCapacity > this.capacity) {
+			this.resize(this.growthPolicy.grow(this.capacity, minCapacity));
+		}
+	}
+
+	// Replaces every column array by one of "newCapacity" rows
+	private void resize(int newCapacity) {
+		if (ListMetrics.ENABLED) {
+			// every column's Arrays.copyOf copies all the slots both arrays have
+			ListMetrics.recordResize(this.capacity, newCapacity, this.arraySize,
+					(long) Math.min(this.capacity, newCapacity) * this.columns.length);
+		}
+		for (Column column : this.columns) {
+			column.resize(newCapacity);
+		}
+		this.capacity = newCapacity;
+	}
+
+	// Returns the column of component "name", checking its type unless "type" is null
+	private Column column(String name, Class<?> type) {
+		for (int c=0; c < this.columns.length; c++) {
+			if (this.schema.names[c].equals(name) && (type == null || this.schema.types[c] == type)) {
+				return this.columns[c];
+			}
+		}
+		throw new IllegalArgumentException("No " + (type == null ? "" : type + " ") + "component \"" + name
+				+ "\" in " + this.schema.recordType.getSimpleName());
+	}
+
+	private void checkRow(int row) {
+		if (row < 0 || row >= this.arraySize) {
+			throw new IndexOutOfBoundsException();
+		}
+	}
+
+	// Unchecked exceptions and errors thrown by a record accessor or constructor pass through unchanged
+	private static RuntimeException rethrow(Throwable e) {
+		if (e instanceof Error error) {
+			throw error;
+		}
+		return e instanceof RuntimeException runtime ? runtime : new IllegalStateException(e);
+	}
+
+	// ---------------------- Helper Types ----------------------
+
+	// Names, types, accessors and canonical constructor of a record type
+	private static final class Schema {
+		final Class<?> recordType;
+		final String[] names;
+		final Class<?>[] types;
+		final MethodHandle[] accessors;
+		// canonical constructor taking the component values as one Object[] and returning Object
+		final MethodHandle constructor;
+
+		Schema(Class<?> recordType) {
+			if (!recordType.isRecord()) {
+				throw new IllegalArgumentException(recordType.getName() + " is not a record");
+			}
+			RecordComponent[] components = recordType.getRecordComponents();
+			this.recordType = recordType;
+			this.names = new String[components.length];
+			this.types = new Class<?>[components.length];
+			this.accessors = new MethodHandle[components.length];
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			try {
+				for (int c=0; c < components.length; c++) {
+					this.names[c] = components[c].getName();
+					this.types[c] = components[c].getType();
+					Method accessor = components[c].getAccessor();
+					accessor.setAccessible(true);
+					Class<?> columnType = this.types[c].isPrimitive() ? this.types[c] : Object.class;
+					this.accessors[c] = lookup.unreflect(accessor)
+							.asType(MethodType.methodType(columnType, Object.class));
+				}
+				Constructor<?> constructor = recordType.getDeclaredConstructor(this.types);
+				constructor.setAccessible(true);
+				this.constructor = lookup.unreflectConstructor(constructor)
+						.asSpreader(Object[].class, components.length)
+						.asType(MethodType.methodType(Object.class, Object[].class));
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				throw new IllegalArgumentException("Cannot access the components of " + recordType.getName(), e);
+			}
+		}
+	}
+
+	// One column array; "field" is the index of its record component
+	abstract class Column {
+		final int field;
+
+		Column(int field) {
+			this.field = field;
+		}
+
+		/** Return name of the record component this column holds */
+		public String name() {
+			return schema.names[this.field];
+		}
+
+		// Reads this column's component of "record" into "row"
+		abstract void store(int row, Object record) throws Throwable;
+
+		// Returns the (boxed) value at "row"
+		abstract Object load(int row);
+
+		// Replaces the array by one of "newCapacity" slots
+		abstract void resize(int newCapacity);
+
+		// Copies rows [from, from + count) to [to, to + count) within this column
+		abstract void move(int from, int to, int count);
+
+		// Copies rows [from, from + count) to "target" (a column of the same type) at "to"
+		abstract void copyTo(int from, Column target, int to, int count);
+
+		// Clears rows [from, to) (only needed where the column holds references)
+		void clear(int from, int to) {
+		}
+	}
+
+	/**
+	 * Column of an int record component. Reads and scans it without building records.
+	 * Row indexes are the list indexes; invalid ones throw IndexOutOfBoundsException.
+	 */
+	public final class IntColumn extends Column {
+		private int[] values;
+
+		private IntColumn(int field) {
+			super(field);
+			this.values = new int[capacity];
+		}
+
+		/** Return value at "row" */
+		public int get(int row) {
+			checkRow(row);
+			return this.values[row];
+		}
+
+		/** Replace value at "row" with "newValue" (the other components of the row are kept) */
+		public void set(int row, int newValue) {
+			checkRow(row);
+			this.values[row] = newValue;
+		}
+
+		/** Return first row whose value matches (where searchFct outputs true), -1 if none */
+		public int findFirst(IntPredicate searchFct) {
+			for (int i=0; i < arraySize; i++) {
+				if (searchFct.test(this.values[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return last row whose value matches (where searchFct outputs true), -1 if none */
+		public int findLast(IntPredicate searchFct) {
+			for (int i=arraySize - 1; i >= 0; i--) {
+				if (searchFct.test(this.values[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return number of rows whose value matches (where searchFct outputs true) */
+		public int count(IntPredicate searchFct) {
+			int count = 0;
+			for (int i=0; i < arraySize; i++) {
+				if (searchFct.test(this.values[i])) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/** Return new list holding the (whole) rows whose value matches selectFct */
+		public ColumnarDynamicList<E> select(IntPredicate selectFct) {
+			return selectRows(row -> selectFct.test(this.values[row]));
+		}
+
+		/** Remove the rows whose value matches searchFct; return the number removed */
+		public int removeIf(IntPredicate searchFct) {
+			return compact(row -> searchFct.test(this.values[row]));
+		}
+
+		/** Return sum of the values (as a long, so it does not overflow) */
+		public long sum() {
+			return Kernels.INSTANCE.sum(this.values, arraySize);
+		}
+
+		/** Return smallest value. Throws RuntimeException if list is empty */
+		public int min() {
+			if (isEmpty()) {
+				throw new RuntimeException();
+			}
+			return Kernels.INSTANCE.min(this.values, arraySize);
+		}
+
+		/** Return largest value. Throws RuntimeException if list is empty */
+		public int max() {
+			if (isEmpty()) {
+				throw new RuntimeException();
+			}
+			return Kernels.INSTANCE.max(this.values, arraySize);
+		}
+
+		/** Accumulate a value over the column values, starting from "initialValue" */
+		public int accumulate(IntBinaryOperator fct, int initialValue) {
+			int sum = initialValue;
+			for (int i=0; i < arraySize; i++) {
+				sum = fct.applyAsInt(sum, this.values[i]);
+			}
+			return sum;
+		}
+
+		/** Performs actionFct on every value, in row order */
+		public void forEach(IntConsumer actionFct) {
+			for (int i=0; i < arraySize; i++) {
+				actionFct.accept(this.values[i]);
+			}
+		}
+
+		/** Return an IntStream over the values (directly over the column array) */
+		public IntStream stream() {
+			return Arrays.stream(this.values, 0, arraySize);
+		}
+
+		/** Return the values as a new array, in row order */
+		public int[] toArray() {
+			return Arrays.copyOf(this.values, arraySize);
+		}
+
+		@Override
+		void store(int row, Object record) throws Throwable {
+			this.values[row] = (int) schema.accessors[this.field].invokeExact(record);
+		}
+
+		@Override
+		Object load(int row) {
+			return this.values[row];
+		}
+
+		@Override
+		void resize(int newCapacity) {
+			this.values = Arrays.copyOf(this.values, newCapacity);
+		}
+
+		@Override
+		void move(int from, int to, int count) {
+			System.arraycopy(this.values, from, this.values, to, count);
+		}
+
+		@Override
+		void copyTo(int from, Column target, int to, int count) {
+			System.arraycopy(this.values, from, ((IntColumn) target).values, to, count);
+		}
+	}
+
+	/**
+	 * Column of a long record component. Reads and scans it without building records.
+	 * Row indexes are the list indexes; invalid ones throw IndexOutOfBoundsException.
+	 */
+	public final class LongColumn extends Column {
+		private long[] values;
+
+		private LongColumn(int field) {
+			super(field);
+			this.values = new long[capacity];
+		}
+
+		/** Return value at "row" */
+		public long get(int row) {
+			checkRow(row);
+			return this.values[row];
+		}
+
+		/** Replace value at "row" with "newValue" (the other components of the row are kept) */
+		public void set(int row, long newValue) {
+			checkRow(row);
+			this.values[row] = newValue;
+		}
+
+		/** Return first row whose value matches (where searchFct outputs true), -1 if none */
+		public int findFirst(LongPredicate searchFct) {
+			for (int i=0; i < arraySize; i++) {
+				if (searchFct.test(this.values[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return last row whose value matches (where searchFct outputs true), -1 if none */
+		public int findLast(LongPredicate searchFct) {
+			for (int i=arraySize - 1; i >= 0; i--) {
+				if (searchFct.test(this.values[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return number of rows whose value matches (where searchFct outputs true) */
+		public int count(LongPredicate searchFct) {
+			int count = 0;
+			for (int i=0; i < arraySize; i++) {
+				if (searchFct.test(this.values[i])) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/** Return new list holding the (whole) rows whose value matches selectFct */
+		public ColumnarDynamicList<E> select(LongPredicate selectFct) {
+			return selectRows(row -> selectFct.test(this.values[row]));
+		}
+
+		/** Remove the rows whose value matches searchFct; return the number removed */
+		public int removeIf(LongPredicate searchFct) {
+			return compact(row -> searchFct.test(this.values[row]));
+		}
+
+		/** Return sum of the values (wraps around silently on overflow, like long addition) */
+		public long sum() {
+			return Kernels.INSTANCE.sum(this.values, arraySize);
+		}
+
+		/** Return smallest value. Throws RuntimeException if list is empty */
+		public long min() {
+			if (isEmpty()) {
+				throw new RuntimeException();
+			}
+			return Kernels.INSTANCE.min(this.values, arraySize);
+		}
+
+		/** Return largest value. Throws RuntimeException if list is empty */
+		public long max() {
+			if (isEmpty()) {
+				throw new RuntimeException();
+			}
+			return Kernels.INSTANCE.max(this.values, arraySize);
+		}
+
+		/** Accumulate a value over the column values, starting from "initialValue" */
+		public long accumulate(LongBinaryOperator fct, long initialValue) {
+			long sum = initialValue;
+			for (int i=0; i < arraySize; i++) {
+				sum = fct.applyAsLong(sum, this.values[i]);
+			}
+			return sum;
+		}
+
+		/** Performs actionFct on every value, in row order */
+		public void forEach(LongConsumer actionFct) {
+			for (int i=0; i < arraySize; i++) {
+				actionFct.accept(this.values[i]);
+			}
+		}
+
+		/** Return a LongStream over the values (directly over the column array) */
+		public LongStream stream() {
+			return Arrays.stream(this.values, 0, arraySize);
+		}
+
+		/** Return the values as a new array, in row order */
+		public long[] toArray() {
+			return Arrays.copyOf(this.values, arraySize);
+		}
+
+		@Override
+		void store(int row, Object record) throws Throwable {
+			this.values[row] = (long) schema.accessors[this.field].invokeExact(record);
+		}
+
+		@Override
+		Object load(int row) {
+			return this.values[row];
+		}
+
+		@Override
+		void resize(int newCapacity) {
+			this.values = Arrays.copyOf(this.values, newCapacity);
+		}
+
+		@Override
+		void move(int from, int to, int count) {
+			System.arraycopy(this.values, from, this.values, to, count);
+		}
+
+		@Override
+		void copyTo(int from, Column target, int to, int count) {
+			System.arraycopy(this.values, from, ((LongColumn) target).values, to, count);
+		}
+	}
+
+	/**
+	 * Column of a double record component. Reads and scans it without building records.
+	 * Row indexes are the list indexes; invalid ones throw IndexOutOfBoundsException.
+	 */
+	public final class DoubleColumn extends Column {
+		private double[] values;
+
+		private DoubleColumn(int field) {
+			super(field);
+			this.values = new double[capacity];
+		}
+
+		/** Return value at "row" */
+		public double get(int row) {
+			checkRow(row);
+			return this.values[row];
+		}
+
+		/** Replace value at "row" with "newValue" (the other components of the row are kept) */
+		public void set(int row, double newValue) {
+			checkRow(row);
+			this.values[row] = newValue;
+		}
+
+		/** Return first row whose value matches (where searchFct outputs true), -1 if none */
+		public int findFirst(DoublePredicate searchFct) {
+			for (int i=0; i < arraySize; i++) {
+				if (searchFct.test(this.values[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return last row whose value matches (where searchFct outputs true), -1 if none */
+		public int findLast(DoublePredicate searchFct) {
+			for (int i=arraySize - 1; i >= 0; i--) {
+				if (searchFct.test(this.values[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return number of rows whose value matches (where searchFct outputs true) */
+		public int count(DoublePredicate searchFct) {
+			int count = 0;
+			for (int i=0; i < arraySize; i++) {
+				if (searchFct.test(this.values[i])) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/** Return new list holding the (whole) rows whose value matches selectFct */
+		public ColumnarDynamicList<E> select(DoublePredicate selectFct) {
+			return selectRows(row -> selectFct.test(this.values[row]));
+		}
+
+		/** Remove the rows whose value matches searchFct; return the number removed */
+		public int removeIf(DoublePredicate searchFct) {
+			return compact(row -> searchFct.test(this.values[row]));
+		}
+
+		/** Return sum of the values */
+		public double sum() {
+			return Kernels.INSTANCE.sum(this.values, arraySize);
+		}
+
+		/** Return smallest value (NaN if any value is NaN). Throws RuntimeException if list is empty */
+		public double min() {
+			if (isEmpty()) {
+				throw new RuntimeException();
+			}
+			return Kernels.INSTANCE.min(this.values, arraySize);
+		}
+
+		/** Return largest value (NaN if any value is NaN). Throws RuntimeException if list is empty */
+		public double max() {
+			if (isEmpty()) {
+				throw new RuntimeException();
+			}
+			return Kernels.INSTANCE.max(this.values, arraySize);
+		}
+
+		/** Accumulate a value over the column values, starting from "initialValue" */
+		public double accumulate(DoubleBinaryOperator fct, double initialValue) {
+			double sum = initialValue;
+			for (int i=0; i < arraySize; i++) {
+				sum = fct.applyAsDouble(sum, this.values[i]);
+			}
+			return sum;
+		}
+
+		/** Performs actionFct on every value, in row order */
+		public void forEach(DoubleConsumer actionFct) {
+			for (int i=0; i < arraySize; i++) {
+				actionFct.accept(this.values[i]);
+			}
+		}
+
+		/** Return a DoubleStream over the values (directly over the column array) */
+		public DoubleStream stream() {
+			return Arrays.stream(this.values, 0, arraySize);
+		}
+
+		/** Return the values as a new array, in row order */
+		public double[] toArray() {
+			return Arrays.copyOf(this.values, arraySize);
+		}
+
+		@Override
+		void store(int row, Object record) throws Throwable {
+			this.values[row] = (double) schema.accessors[this.field].invokeExact(record);
+		}
+
+		@Override
+		Object load(int row) {
+			return this.values[row];
+		}
+
+		@Override
+		void resize(int newCapacity) {
+			this.values = Arrays.copyOf(this.values, newCapacity);
+		}
+
+		@Override
+		void move(int from, int to, int count) {
+			System.arraycopy(this.values, from, this.values, to, count);
+		}
+
+		@Override
+		void copyTo(int from, Column target, int to, int count) {
+			System.arraycopy(this.values, from, ((DoubleColumn) target).values, to, count);
+		}
+	}
+
+	/**
+	 * Column of a float record component, kept in a float[]. Reads and scans it without
+	 * building records; predicates, accumulate and stream see the values widened to double.
+	 * Row indexes are the list indexes; invalid ones throw IndexOutOfBoundsException.
+	 */
+	public final class FloatColumn extends Column {
+		private float[] values;
+
+		private FloatColumn(int field) {
+			super(field);
+			this.values = new float[capacity];
+		}
+
+		/** Return value at "row" */
+		public float get(int row) {
+			checkRow(row);
+			return this.values[row];
+		}
+
+		/** Replace value at "row" with "newValue" (the other components of the row are kept) */
+		public void set(int row, float newValue) {
+			checkRow(row);
+			this.values[row] = newValue;
+		}
+
+		/** Return first row whose value matches (where searchFct outputs true), -1 if none */
+		public int findFirst(DoublePredicate searchFct) {
+			for (int i=0; i < arraySize; i++) {
+				if (searchFct.test(this.values[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return last row whose value matches (where searchFct outputs true), -1 if none */
+		public int findLast(DoublePredicate searchFct) {
+			for (int i=arraySize - 1; i >= 0; i--) {
+				if (searchFct.test(this.values[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return number of rows whose value matches (where searchFct outputs true) */
+		public int count(DoublePredicate searchFct) {
+			int count = 0;
+			for (int i=0; i < arraySize; i++) {
+				if (searchFct.test(this.values[i])) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/** Return new list holding the (whole) rows whose value matches selectFct */
+		public ColumnarDynamicList<E> select(DoublePredicate selectFct) {
+			return selectRows(row -> selectFct.test(this.values[row]));
+		}
+
+		/** Remove the rows whose value matches searchFct; return the number removed */
+		public int removeIf(DoublePredicate searchFct) {
+			return compact(row -> searchFct.test(this.values[row]));
+		}
+
+		/** Return sum of the values (added up as doubles) */
+		public double sum() {
+			double sum = 0;
+			for (int i=0; i < arraySize; i++) {
+				sum += this.values[i];
+			}
+			return sum;
+		}
+
+		/** Return smallest value (NaN if any value is NaN). Throws RuntimeException if list is empty */
+		public float min() {
+			if (isEmpty()) {
+				throw new RuntimeException();
+			}
+			float min = this.values[0];
+			for (int i=1; i < arraySize; i++) {
+				min = Math.min(min, this.values[i]);
+			}
+			return min;
+		}
+
+		/** Return largest value (NaN if any value is NaN). Throws RuntimeException if list is empty */
+		public float max() {
+			if (isEmpty()) {
+				throw new RuntimeException();
+			}
+			float max = this.values[0];
+			for (int i=1; i < arraySize; i++) {
+				max = Math.max(max, this.values[i]);
+			}
+			return max;
+		}
+
+		/** Accumulate a value over the column values, starting from "initialValue" */
+		public double accumulate(DoubleBinaryOperator fct, double initialValue) {
+			double sum = initialValue;
+			for (int i=0; i < arraySize; i++) {
+				sum = fct.applyAsDouble(sum, this.values[i]);
+			}
+			return sum;
+		}
+
+		/** Performs actionFct on every value, in row order */
+		public void forEach(DoubleConsumer actionFct) {
+			for (int i=0; i < arraySize; i++) {
+				actionFct.accept(this.values[i]);
+			}
+		}
+
+		/** Return a DoubleStream over the values (widened to double) */
+		public DoubleStream stream() {
+			return IntStream.range(0, arraySize).mapToDouble(i -> this.values[i]);
+		}
+
+		/** Return the values as a new array, in row order */
+		public float[] toArray() {
+			return Arrays.copyOf(this.values, arraySize);
+		}
+
+		@Override
+		void store(int row, Object record) throws Throwable {
+			this.values[row] = (float) schema.accessors[this.field].invokeExact(record);
+		}
+
+		@Override
+		Object load(int row) {
+			return this.values[row];
+		}
+
+		@Override
+		void resize(int newCapacity) {
+			this.values = Arrays.copyOf(this.values, newCapacity);
+		}
+
+		@Override
+		void move(int from, int to, int count) {
+			System.arraycopy(this.values, from, this.values, to, count);
+		}
+
+		@Override
+		void copyTo(int from, Column target, int to, int count) {
+			System.arraycopy(this.values, from, ((FloatColumn) target).values, to, count);
+		}
+	}
+
+	/**
+	 * Column of a short record component, kept in a short[]. Reads and scans it without
+	 * building records; predicates, accumulate and stream see the values widened to int.
+	 * Row indexes are the list indexes; invalid ones throw IndexOutOfBoundsException.
+	 */
+	public final class ShortColumn extends Column {
+		private short[] values;
+
+		private ShortColumn(int field) {
+			super(field);
+			this.values = new short[capacity];
+		}
+
+		/** Return value at "row" */
+		public short get(int row) {
+			checkRow(row);
+			return this.values[row];
+		}
+
+		/** Replace value at "row" with "newValue" (the other components of the row are kept) */
+		public void set(int row, short newValue) {
+			checkRow(row);
+			this.values[row] = newValue;
+		}
+
+		/** Return first row whose value matches (where searchFct outputs true), -1 if none */
+		public int findFirst(IntPredicate searchFct) {
+			for (int i=0; i < arraySize; i++) {
+				if (searchFct.test(this.values[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return last row whose value matches (where searchFct outputs true), -1 if none */
+		public int findLast(IntPredicate searchFct) {
+			for (int i=arraySize - 1; i >= 0; i--) {
+				if (searchFct.test(this.values[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return number of rows whose value matches (where searchFct outputs true) */
+		public int count(IntPredicate searchFct) {
+			int count = 0;
+			for (int i=0; i < arraySize; i++) {
+				if (searchFct.test(this.values[i])) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/** Return new list holding the (whole) rows whose value matches selectFct */
+		public ColumnarDynamicList<E> select(IntPredicate selectFct) {
+			return selectRows(row -> selectFct.test(this.values[row]));
+		}
+
+		/** Remove the rows whose value matches searchFct; return the number removed */
+		public int removeIf(IntPredicate searchFct) {
+			return compact(row -> searchFct.test(this.values[row]));
+		}
+
+		/** Return sum of the values (as a long, so it does not overflow) */
+		public long sum() {
+			long sum = 0;
+			for (int i=0; i < arraySize; i++) {
+				sum += this.values[i];
+			}
+			return sum;
+		}
+
+		/** Return smallest value. Throws RuntimeException if list is empty */
+		public short min() {
+			if (isEmpty()) {
+				throw new RuntimeException();
+			}
+			short min = this.values[0];
+			for (int i=1; i < arraySize; i++) {
+				if (this.values[i] < min) {
+					min = this.values[i];
+				}
+			}
+			return min;
+		}
+
+		/** Return largest value. Throws RuntimeException if list is empty */
+		public short max() {
+			if (isEmpty()) {
+				throw new RuntimeException();
+			}
+			short max = this.values[0];
+			for (int i=1; i < arraySize; i++) {
+				if (this.values[i] > max) {
+					max = this.values[i];
+				}
+			}
+			return max;
+		}
+
+		/** Accumulate a value over the column values, starting from "initialValue" */
+		public int accumulate(IntBinaryOperator fct, int initialValue) {
+			int sum = initialValue;
+			for (int i=0; i < arraySize; i++) {
+				sum = fct.applyAsInt(sum, this.values[i]);
+			}
+			return sum;
+		}
+
+		/** Performs actionFct on every value, in row order */
+		public void forEach(IntConsumer actionFct) {
+			for (int i=0; i < arraySize; i++) {
+				actionFct.accept(this.values[i]);
+			}
+		}
+
+		/** Return an IntStream over the values (widened to int) */
+		public IntStream stream() {
+			return IntStream.range(0, arraySize).map(i -> this.values[i]);
+		}
+
+		/** Return the values as a new array, in row order */
+		public short[] toArray() {
+			return Arrays.copyOf(this.values, arraySize);
+		}
+
+		@Override
+		void store(int row, Object record) throws Throwable {
+			this.values[row] = (short) schema.accessors[this.field].invokeExact(record);
+		}
+
+		@Override
+		Object load(int row) {
+			return this.values[row];
+		}
+
+		@Override
+		void resize(int newCapacity) {
+			this.values = Arrays.copyOf(this.values, newCapacity);
+		}
+
+		@Override
+		void move(int from, int to, int count) {
+			System.arraycopy(this.values, from, this.values, to, count);
+		}
+
+		@Override
+		void copyTo(int from, Column target, int to, int count) {
+			System.arraycopy(this.values, from, ((ShortColumn) target).values, to, count);
+		}
+	}
+
+	/**
+	 * Column of a byte record component, kept in a byte[]. Reads and scans it without
+	 * building records; predicates, accumulate and stream see the values widened to int.
+	 * Row indexes are the list indexes; invalid ones throw IndexOutOfBoundsException.
+	 */
+	public final class ByteColumn extends Column {
+		private byte[] values;
+
+		private ByteColumn(int field) {
+			super(field);
+			this.values = new byte[capacity];
+		}
+
+		/** Return value at "row" */
+		public byte get(int row) {
+			checkRow(row);
+			return this.values[row];
+		}
+
+		/** Replace value at "row" with "newValue" (the other components of the row are kept) */
+		public void set(int row, byte newValue) {
+			checkRow(row);
+			this.values[row] = newValue;
+		}
+
+		/** Return first row whose value matches (where searchFct outputs true), -1 if none */
+		public int findFirst(IntPredicate searchFct) {
+			for (int i=0; i < arraySize; i++) {
+				if (searchFct.test(this.values[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return last row whose value matches (where searchFct outputs true), -1 if none */
+		public int findLast(IntPredicate searchFct) {
+			for (int i=arraySize - 1; i >= 0; i--) {
+				if (searchFct.test(this.values[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return number of rows whose value matches (where searchFct outputs true) */
+		public int count(IntPredicate searchFct) {
+			int count = 0;
+			for (int i=0; i < arraySize; i++) {
+				if (searchFct.test(this.values[i])) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/** Return new list holding the (whole) rows whose value matches selectFct */
+		public ColumnarDynamicList<E> select(IntPredicate selectFct) {
+			return selectRows(row -> selectFct.test(this.values[row]));
+		}
+
+		/** Remove the rows whose value matches searchFct; return the number removed */
+		public int removeIf(IntPredicate searchFct) {
+			return compact(row -> searchFct.test(this.values[row]));
+		}
+
+		/** Return sum of the values (as a long, so it does not overflow) */
+		public long sum() {
+			long sum = 0;
+			for (int i=0; i < arraySize; i++) {
+				sum += this.values[i];
+			}
+			return sum;
+		}
+
+		/** Return smallest value. Throws RuntimeException if list is empty */
+		public byte min() {
+			if (isEmpty()) {
+				throw new RuntimeException();
+			}
+			byte min = this.values[0];
+			for (int i=1; i < arraySize; i++) {
+				if (this.values[i] < min) {
+					min = this.values[i];
+				}
+			}
+			return min;
+		}
+
+		/** Return largest value. Throws RuntimeException if list is empty */
+		public byte max() {
+			if (isEmpty()) {
+				throw new RuntimeException();
+			}
+			byte max = this.values[0];
+			for (int i=1; i < arraySize; i++) {
+				if (this.values[i] > max) {
+					max = this.values[i];
+				}
+			}
+			return max;
+		}
+
+		/** Accumulate a value over the column values, starting from "initialValue" */
+		public int accumulate(IntBinaryOperator fct, int initialValue) {
+			int sum = initialValue;
+			for (int i=0; i < arraySize; i++) {
+				sum = fct.applyAsInt(sum, this.values[i]);
+			}
+			return sum;
+		}
+
+		/** Performs actionFct on every value, in row order */
+		public void forEach(IntConsumer actionFct) {
+			for (int i=0; i < arraySize; i++) {
+				actionFct.accept(this.values[i]);
+			}
+		}
+
+		/** Return an IntStream over the values (widened to int) */
+		public IntStream stream() {
+			return IntStream.range(0, arraySize).map(i -> this.values[i]);
+		}
+
+		/** Return the values as a new array, in row order */
+		public byte[] toArray() {
+			return Arrays.copyOf(this.values, arraySize);
+		}
+
+		@Override
+		void store(int row, Object record) throws Throwable {
+			this.values[row] = (byte) schema.accessors[this.field].invokeExact(record);
+		}
+
+		@Override
+		Object load(int row) {
+			return this.values[row];
+		}
+
+		@Override
+		void resize(int newCapacity) {
+			this.values = Arrays.copyOf(this.values, newCapacity);
+		}
+
+		@Override
+		void move(int from, int to, int count) {
+			System.arraycopy(this.values, from, this.values, to, count);
+		}
+
+		@Override
+		void copyTo(int from, Column target, int to, int count) {
+			System.arraycopy(this.values, from, ((ByteColumn) target).values, to, count);
+		}
+	}
+
+	/**
+	 * Column of a char record component, kept in a char[]. Reads and scans it without
+	 * building records; predicates, accumulate and stream see the values widened to int.
+	 * Row indexes are the list indexes; invalid ones throw IndexOutOfBoundsException.
+	 */
+	public final class CharColumn extends Column {
+		private char[] values;
+
+		private CharColumn(int field) {
+			super(field);
+			this.values = new char[capacity];
+		}
+
+		/** Return value at "row" */
+		public char get(int row) {
+			checkRow(row);
+			return this.values[row];
+		}
+
+		/** Replace value at "row" with "newValue" (the other components of the row are kept) */
+		public void set(int row, char newValue) {
+			checkRow(row);
+			this.values[row] = newValue;
+		}
+
+		/** Return first row whose value matches (where searchFct outputs true), -1 if none */
+		public int findFirst(IntPredicate searchFct) {
+			for (int i=0; i < arraySize; i++) {
+				if (searchFct.test(this.values[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return last row whose value matches (where searchFct outputs true), -1 if none */
+		public int findLast(IntPredicate searchFct) {
+			for (int i=arraySize - 1; i >= 0; i--) {
+				if (searchFct.test(this.values[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return number of rows whose value matches (where searchFct outputs true) */
+		public int count(IntPredicate searchFct) {
+			int count = 0;
+			for (int i=0; i < arraySize; i++) {
+				if (searchFct.test(this.values[i])) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/** Return new list holding the (whole) rows whose value matches selectFct */
+		public ColumnarDynamicList<E> select(IntPredicate selectFct) {
+			return selectRows(row -> selectFct.test(this.values[row]));
+		}
+
+		/** Remove the rows whose value matches searchFct; return the number removed */
+		public int removeIf(IntPredicate searchFct) {
+			return compact(row -> searchFct.test(this.values[row]));
+		}
+
+		/** Return smallest value. Throws RuntimeException if list is empty */
+		public char min() {
+			if (isEmpty()) {
+				throw new RuntimeException();
+			}
+			char min = this.values[0];
+			for (int i=1; i < arraySize; i++) {
+				if (this.values[i] < min) {
+					min = this.values[i];
+				}
+			}
+			return min;
+		}
+
+		/** Return largest value. Throws RuntimeException if list is empty */
+		public char max() {
+			if (isEmpty()) {
+				throw new RuntimeException();
+			}
+			char max = this.values[0];
+			for (int i=1; i < arraySize; i++) {
+				if (this.values[i] > max) {
+					max = this.values[i];
+				}
+			}
+			return max;
+		}
+
+		/** Accumulate a value over the column values, starting from "initialValue" */
+		public int accumulate(IntBinaryOperator fct, int initialValue) {
+			int sum = initialValue;
+			for (int i=0; i < arraySize; i++) {
+				sum = fct.applyAsInt(sum, this.values[i]);
+			}
+			return sum;
+		}
+
+		/** Performs actionFct on every value, in row order */
+		public void forEach(IntConsumer actionFct) {
+			for (int i=0; i < arraySize; i++) {
+				actionFct.accept(this.values[i]);
+			}
+		}
+
+		/** Return an IntStream over the values (widened to int) */
+		public IntStream stream() {
+			return IntStream.range(0, arraySize).map(i -> this.values[i]);
+		}
+
+		/** Return the values as a new array, in row order */
+		public char[] toArray() {
+			return Arrays.copyOf(this.values, arraySize);
+		}
+
+		@Override
+		void store(int row, Object record) throws Throwable {
+			this.values[row] = (char) schema.accessors[this.field].invokeExact(record);
+		}
+
+		@Override
+		Object load(int row) {
+			return this.values[row];
+		}
+
+		@Override
+		void resize(int newCapacity) {
+			this.values = Arrays.copyOf(this.values, newCapacity);
+		}
+
+		@Override
+		void move(int from, int to, int count) {
+			System.arraycopy(this.values, from, this.values, to, count);
+		}
+
+		@Override
+		void copyTo(int from, Column target, int to, int count) {
+			System.arraycopy(this.values, from, ((CharColumn) target).values, to, count);
+		}
+	}
+
+	/**
+	 * Column of a boolean record component, kept in a boolean[]. Reads and scans it
+	 * without building records.
+	 * Row indexes are the list indexes; invalid ones throw IndexOutOfBoundsException.
+	 */
+	public final class BooleanColumn extends Column {
+		private boolean[] values;
+
+		private BooleanColumn(int field) {
+			super(field);
+			this.values = new boolean[capacity];
+		}
+
+		/** Return value at "row" */
+		public boolean get(int row) {
+			checkRow(row);
+			return this.values[row];
+		}
+
+		/** Replace value at "row" with "newValue" (the other components of the row are kept) */
+		public void set(int row, boolean newValue) {
+			checkRow(row);
+			this.values[row] = newValue;
+		}
+
+		/** Return first row whose value is "value", -1 if none */
+		public int findFirst(boolean value) {
+			for (int i=0; i < arraySize; i++) {
+				if (this.values[i] == value) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return last row whose value is "value", -1 if none */
+		public int findLast(boolean value) {
+			for (int i=arraySize - 1; i >= 0; i--) {
+				if (this.values[i] == value) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return number of rows whose value is "value" */
+		public int count(boolean value) {
+			int count = 0;
+			for (int i=0; i < arraySize; i++) {
+				if (this.values[i] == value) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/** Return new list holding the (whole) rows whose value is "value" */
+		public ColumnarDynamicList<E> select(boolean value) {
+			return selectRows(row -> this.values[row] == value);
+		}
+
+		/** Remove the rows whose value is "value"; return the number removed */
+		public int removeIf(boolean value) {
+			return compact(row -> this.values[row] == value);
+		}
+
+		/** Return the values as a new array, in row order */
+		public boolean[] toArray() {
+			return Arrays.copyOf(this.values, arraySize);
+		}
+
+		@Override
+		void store(int row, Object record) throws Throwable {
+			this.values[row] = (boolean) schema.accessors[this.field].invokeExact(record);
+		}
+
+		@Override
+		Object load(int row) {
+			return this.values[row];
+		}
+
+		@Override
+		void resize(int newCapacity) {
+			this.values = Arrays.copyOf(this.values, newCapacity);
+		}
+
+		@Override
+		void move(int from, int to, int count) {
+			System.arraycopy(this.values, from, this.values, to, count);
+		}
+
+		@Override
+		void copyTo(int from, Column target, int to, int count) {
+			System.arraycopy(this.values, from, ((BooleanColumn) target).values, to, count);
+		}
+	}
+
+	/**
+	 * Column of a record component of reference type. Reads and scans it without
+	 * building records.
+	 * Row indexes are the list indexes; invalid ones throw IndexOutOfBoundsException.
+	 */
+	public final class ObjectColumn<T> extends Column {
+		private Object[] values;
+
+		private ObjectColumn(int field) {
+			super(field);
+			this.values = new Object[capacity];
+		}
+
+		/** Return value at "row" */
+		@SuppressWarnings("unchecked")
+		public T get(int row) {
+			checkRow(row);
+			return (T) this.values[row];
+		}
+
+		/**
+		 * Replace value at "row" with "newValue" (the other components of the row are kept).
+		 * Throws ClassCastException if "newValue" is not of the component's type (T may be a
+		 * supertype of it).
+		 */
+		public void set(int row, T newValue) {
+			checkRow(row);
+			this.values[row] = schema.types[this.field].cast(newValue);
+		}
+
+		/** Return first row whose value matches (where searchFct outputs true), -1 if none */
+		@SuppressWarnings("unchecked")
+		public int findFirst(Predicate<? super T> searchFct) {
+			for (int i=0; i < arraySize; i++) {
+				if (searchFct.test((T) this.values[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return last row whose value matches (where searchFct outputs true), -1 if none */
+		@SuppressWarnings("unchecked")
+		public int findLast(Predicate<? super T> searchFct) {
+			for (int i=arraySize - 1; i >= 0; i--) {
+				if (searchFct.test((T) this.values[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Return number of rows whose value matches (where searchFct outputs true) */
+		@SuppressWarnings("unchecked")
+		public int count(Predicate<? super T> searchFct) {
+			int count = 0;
+			for (int i=0; i < arraySize; i++) {
+				if (searchFct.test((T) this.values[i])) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/** Return new list holding the (whole) rows whose value matches selectFct */
+		@SuppressWarnings("unchecked")
+		public ColumnarDynamicList<E> select(Predicate<? super T> selectFct) {
+			return selectRows(row -> selectFct.test((T) this.values[row]));
+		}
+
+		/** Remove the rows whose value matches searchFct; return the number removed */
+		@SuppressWarnings("unchecked")
+		public int removeIf(Predicate<? super T> searchFct) {
+			return compact(row -> searchFct.test((T) this.values[row]));
+		}
+
+		/** Performs actionFct on every value, in row order */
+		@SuppressWarnings("unchecked")
+		public void forEach(Consumer<? super T> actionFct) {
+			for (int i=0; i < arraySize; i++) {
+				actionFct.accept((T) this.values[i]);
+			}
+		}
+
+		@Override
+		void store(int row, Object record) throws Throwable {
+			this.values[row] = (Object) schema.accessors[this.field].invokeExact(record);
+		}
+
+		@Override
+		Object load(int row) {
+			return this.values[row];
+		}
+
+		@Override
+		void resize(int newCapacity) {
+			this.values = Arrays.copyOf(this.values, newCapacity);
+		}
+
+		@Override
+		void move(int from, int to, int count) {
+			System.arraycopy(this.values, from, this.values, to, count);
+		}
+
+		@Override
+		void copyTo(int from, Column target, int to, int count) {
+			System.arraycopy(this.values, from, ((ObjectColumn<?>) target).values, to, count);
+		}
+
+		@Override
+		void clear(int from, int to) {
+			Arrays.fill(this.values, from, to, null);
+		}
+	}
+
+	// ---------------------- Iterators ----------------------
+
+	// Iterates over the rows in order, materializing each one
+	private class RowIterator implements StructureIterator<E> {
+		private int cursor = 0;
+		private final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return this.cursor < arraySize;
+		}
+
+		@Override
+		public E next() {
+			E elem = this.peek();
+			this.cursor++;
+			return elem;
+		}
+
+		@Override
+		public E peek() {
+			if (modCount != this.expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (this.cursor >= arraySize) {
+				throw new NoSuchElementException();
+			}
+			return row(this.cursor);
+		}
+	}
+}
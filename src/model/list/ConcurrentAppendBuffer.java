@@ -0,0 +1,196 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Concurrent Append Buffer
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Append-only buffer that many producer threads can add to without locking,
+ *	and that a consumer periodically drains into a DynamicList.
+ *
+ *	A producer reserves its slot by atomically incrementing the size counter and
+ *	then writes into that slot. Storage is a directory of chunks that double in
+ *	size, so growing only ever allocates a new chunk: elements already written are
+ *	never copied while other threads are writing.
+ *
+ *	drainTo swaps in a fresh, empty generation of chunks, waits for the producers
+ *	still writing into the old generation to finish, and then block-copies the
+ *	old chunks, in reservation order, into the target list.
+ *	Null elements are not allowed (they would end a drained block early).
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import model.linearpub.DynamicList;
+
+public class ConcurrentAppendBuffer<E> {
+
+	// Size of the first chunk; chunk k holds FIRST_CHUNK << k elements
+	private static final int FIRST_CHUNK = 16;
+	private static final int FIRST_CHUNK_SHIFT = 4;
+	// Number of chunks needed to address every int index
+	private static final int MAX_CHUNKS = 32 - FIRST_CHUNK_SHIFT;
+	// Most elements one generation can hold (like the largest array the JVM allows)
+	private static final int MAX_ELEMENTS = Integer.MAX_VALUE - 8;
+
+    //---------------------------------
+    // Instance Variables
+	private final AtomicReference<Generation> current = new AtomicReference<>(new Generation());
+
+	//-------------------- Producers ---------------------
+
+	/**
+	 * Add the passed element to the end of the buffer. Safe to call from any thread.
+	 * Throws NullPointerException if "newElem" is null.
+	 * Throws IllegalStateException if the buffer holds too many undrained elements.
+	 */
+	public void add(E newElem) {
+		if (newElem == null) {
+			throw new NullPointerException();
+		}
+		Generation generation = this.enter();
+		try {
+			generation.store(generation.reserve(1), newElem);
+		} finally {
+			generation.writers.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Add all elements of "array" to the buffer as one contiguous block
+	 * (stops at the first null element, like DynamicArray). Safe to call from any thread.
+	 */
+	public void addAll(E[] array) {
+		int count = 0;
+		while (count < array.length && array[count] != null) {
+			count++;
+		}
+		if (count == 0) {
+			return;
+		}
+		Generation generation = this.enter();
+		try {
+			int first = generation.reserve(count);
+			for (int i=0; i < count; i++) {
+				generation.store(first + i, array[i]);
+			}
+		} finally {
+			generation.writers.decrementAndGet();
+		}
+	}
+
+	//-------------------- Consumers ---------------------
+
+	/**
+	 * Return number of elements reserved so far and not yet drained
+	 * (some of them may still be being written).
+	 */
+	public int size() {
+		return Math.min(this.current.get().reserved.get(), MAX_ELEMENTS);
+	}
+
+	/**
+	 * Return true if no element is waiting to be drained.
+	 */
+	public boolean isEmpty() {
+		return this.size() == 0;
+	}
+
+	/**
+	 * Move every element added so far into "target" (after its current elements),
+	 * in the order their slots were reserved, leaving this buffer empty.
+	 * Producers may keep adding while this runs; their elements go to the next drain.
+	 * Only one thread drains at a time.
+	 * Return the number of elements moved.
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized int drainTo(DynamicList<E> target) {
+		Generation old = this.current.getAndSet(new Generation());
+		while (old.writers.get() != 0) {
+			Thread.onSpinWait();
+		}
+		int count = Math.min(old.reserved.get(), MAX_ELEMENTS);
+		for (int chunk=0; chunk < MAX_CHUNKS && chunkStart(chunk) < count; chunk++) {
+			E[] elements = (E[]) old.chunks.get(chunk);
+			if (count - chunkStart(chunk) < elements.length) {
+				elements = Arrays.copyOf(elements, count - chunkStart(chunk));
+			}
+			target.addAll(elements);
+		}
+		return count;
+	}
+
+	/**
+	 * Return a new DynamicArray holding every element added so far (draining this buffer).
+	 */
+	public DynamicList<E> drain() {
+		DynamicList<E> list = DynamicArray.newEmpty();
+		this.drainTo(list);
+		return list;
+	}
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Registers the calling producer as a writer of the current generation. The generation is
+	// re-checked after registering, so a drain that already swapped it out never misses a writer.
+	private Generation enter() {
+		while (true) {
+			Generation generation = this.current.get();
+			generation.writers.incrementAndGet();
+			if (this.current.get() == generation) {
+				return generation;
+			}
+			generation.writers.decrementAndGet();
+		}
+	}
+
+	// Returns the chunk holding "index"
+	private static int chunkOf(int index) {
+		return 31 - Integer.numberOfLeadingZeros((index >>> FIRST_CHUNK_SHIFT) + 1);
+	}
+
+	// Returns the index of the first element of "chunk"
+	private static int chunkStart(int chunk) {
+		return (int) Math.min(((long) FIRST_CHUNK << chunk) - FIRST_CHUNK, Integer.MAX_VALUE);
+	}
+
+	// One set of chunks; replaced by an empty one on every drain
+	private static final class Generation {
+		private final AtomicInteger reserved = new AtomicInteger();
+		private final AtomicInteger writers = new AtomicInteger();
+		private final AtomicReferenceArray<Object[]> chunks = new AtomicReferenceArray<>(MAX_CHUNKS);
+
+		// Reserves "count" consecutive slots and returns the first one
+		int reserve(int count) {
+			int first = this.reserved.getAndAdd(count);
+			if (first < 0 || first > MAX_ELEMENTS - count) {
+				this.reserved.getAndAdd(-count);
+				throw new IllegalStateException("Append buffer is full, drain it first");
+			}
+			return first;
+		}
+
+		// Writes "elem" into the reserved slot "index", allocating its chunk if nobody has yet
+		void store(int index, Object elem) {
+			int chunk = chunkOf(index);
+			Object[] elements = this.chunks.get(chunk);
+			if (elements == null) {
+				int length = (int) Math.min((long) FIRST_CHUNK << chunk, (long) MAX_ELEMENTS - chunkStart(chunk));
+				this.chunks.compareAndSet(chunk, null, new Object[length]);
+				elements = this.chunks.get(chunk);
+			}
+			elements[index - chunkStart(chunk)] = elem;
+		}
+	}
+}
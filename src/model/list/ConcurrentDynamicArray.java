@@ -0,0 +1,629 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Concurrent Dynamic Array
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	This class is a thread-safe implementation of the Dynamic Array data structure
+ *	for read-heavy workloads.
+ *
+ *	Reads never lock: every read works on an immutable snapshot (backing array +
+ *	size) published through a volatile field. Writers are serialized by a lock.
+ *	An append writes into a slot that no published snapshot can see yet and then
+ *	publishes a snapshot with the bigger size, so appends are amortized O(1).
+ *	Every other write (set, insert, remove...) copies the array first
+ *	(copy-on-write), so it never changes what an existing snapshot sees.
+ *
+ *	Iteration contract: forEach, iterator, spliterator/stream and the utility
+ *	methods all work on the snapshot taken when they start. They never throw
+ *	ConcurrentModificationException and never see writes made after they started.
+ *	Lists returned by subList, join, map, select and reject are plain DynamicArrays.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import model.linearpub.DynamicList;
+import model.linearpub.StructureIterator;
+
+public class ConcurrentDynamicArray<E> implements DynamicList<E> {
+
+    //---------------------------------
+    // Instance Variables
+	private volatile Snapshot<E> snapshot;
+	private final ReentrantLock writeLock = new ReentrantLock();
+	private final double growthFactor;
+	// Highest size ever published for the current backing array (guarded by writeLock).
+	// Slots at or above it are invisible to every reader and can be written in place.
+	private int highWater;
+
+    //---------------------------------
+    // Private Constructors
+
+    /** Constructs and returns new ConcurrentDynamicArray with "aGrowthFactor" */
+	@SuppressWarnings("unchecked")
+	private ConcurrentDynamicArray(double aGrowthFactor) {
+		this.growthFactor = aGrowthFactor;
+		this.snapshot = new Snapshot<>((E[]) new Object[DynamicArray.defaultInitialCapacity()], 0);
+		this.highWater = 0;
+	}
+
+	//-------------------- List Statistics ---------------------
+
+	/**
+	 * Return number of elements in this list.
+	 */
+	@Override
+	public int size() {
+		return this.snapshot.size;
+	}
+
+	/**
+	 * Return true is this list contains no elements.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return this.size() == 0;
+	}
+
+	//------------------ Accessing Elements --------------------
+
+	/**
+	 * Return element at given index.
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	public E get(int index) {
+		return this.snapshot.get(index);
+	}
+
+	/**
+	 * Return first element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E first() {
+		Snapshot<E> current = this.snapshot;
+		if (current.size == 0) {
+			throw new RuntimeException();
+		}
+		return current.array[0];
+	}
+
+	/**
+	 * Return last element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E last() {
+		Snapshot<E> current = this.snapshot;
+		if (current.size == 0) {
+			throw new RuntimeException();
+		}
+		return current.array[current.size - 1];
+	}
+
+	/**
+	 * Return a new DynamicArray containing the elements of this list
+	 * between the given index "start" (inclusive) and
+	 * the given index "stop" (exclusive).
+	 * Throws IndexOutOfBoundsException if either passed index is invalid.
+	 */
+	@Override
+	public DynamicList<E> subList(int start, int stop) {
+		Snapshot<E> current = this.snapshot;
+		if (start < 0 || start > stop || stop > current.size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return DynamicArray.wrap(Arrays.copyOfRange(current.array, start, Math.max(stop, start + 1)),
+				stop - start, this.growthFactor);
+	}
+
+	/**
+	 * Return index of first matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	public int findFirst(Function<E, Boolean> searchFct) {
+		return this.snapshot.findFirst(searchFct);
+	}
+
+	/**
+	 * Return index of last matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	public int findLast(Function<E, Boolean> searchFct) {
+		Snapshot<E> current = this.snapshot;
+		for (int i=current.size - 1; i >= 0; i--) {
+			if (searchFct.apply(current.array[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	//------------------- Setting Elements ---------------------
+
+	/**
+	 * Insert passed arg "newElem" into position "index"
+	 * Return previous (replaced) elem at "index"
+	 * If "index" is invalid, throws IndexOutOfBoundsException.
+	*/
+	@Override
+	public E set(int index, E newElem) {
+		this.writeLock.lock();
+		try {
+			Snapshot<E> current = this.snapshot;
+			E oldElem = current.get(index);
+			E[] copy = current.array.clone();
+			copy[index] = newElem;
+			this.publish(copy, current.size);
+			return oldElem;
+		} finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	//------- Inserting, Appending & Replacing Elements --------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Add the passed element to start of list
+	 */
+	@Override
+	public void addFirst(E newElem) {
+		this.insert(0, newElem);
+	}
+
+	/**
+	 * Add the passed element to end of list
+	 */
+	@Override
+	public void addLast(E newElem) {
+		this.writeLock.lock();
+		try {
+			Snapshot<E> current = this.snapshot;
+			E[] target = this.appendTarget(current, 1);
+			target[current.size] = newElem;
+			this.publish(target, current.size + 1);
+		} finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Alias for "addLast" (same functionality)
+	 */
+	@Override
+	public void add(E newElem) {
+		this.addLast(newElem);
+	}
+
+	/**
+	 * Add all elements from "otherDynList" into "this" list
+	 * (stops at the first null element, like DynamicArray)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void addAll(DynamicList<E> otherDynList) {
+		E[] array = (E[]) new Object[otherDynList.size()];
+		for (int i=0; i < array.length; i++) {
+			array[i] = otherDynList.get(i);
+		}
+		this.addAll(array);
+	}
+
+	/**
+	 * Add all elements from passed fixed array "this" list
+	 * (stops at the first null element, like DynamicArray)
+	 */
+	@Override
+	public void addAll(E[] array) {
+		int count = 0;
+		while (count < array.length && array[count] != null) {
+			count++;
+		}
+		this.writeLock.lock();
+		try {
+			Snapshot<E> current = this.snapshot;
+			E[] target = this.appendTarget(current, count);
+			System.arraycopy(array, 0, target, current.size, count);
+			this.publish(target, current.size + count);
+		} finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Shift to the right the element currently at "insertIndex" (if any) and all elements to the right
+	 * Insert passed arg "newElem" into position "insertIndex"
+	 * Valid "insertIndex" values are between 0 and "size"
+	 * If "insertIndex" is invalid, throws IndexOutOfBoundsException
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void insert(int insertIndex, E newElem) {
+		this.writeLock.lock();
+		try {
+			Snapshot<E> current = this.snapshot;
+			if (insertIndex < 0 || insertIndex > current.size) {
+				throw new IndexOutOfBoundsException();
+			}
+			E[] copy = (E[]) new Object[this.capacityFor(current.array.length, current.size + 1)];
+			System.arraycopy(current.array, 0, copy, 0, insertIndex);
+			System.arraycopy(current.array, insertIndex, copy, insertIndex + 1, current.size - insertIndex);
+			copy[insertIndex] = newElem;
+			this.publish(copy, current.size + 1);
+		} finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	//------------------- Removing Elements --------------------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Remove first element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E removeFirst() {
+		this.writeLock.lock();
+		try {
+			if (this.isEmpty()) {
+				throw new RuntimeException();
+			}
+			return this.removeIndex(0);
+		} finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Remove last element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E removeLast() {
+		this.writeLock.lock();
+		try {
+			Snapshot<E> current = this.snapshot;
+			if (current.size == 0) {
+				throw new RuntimeException();
+			}
+			// older snapshots may still read the last slot, so it is left in place
+			this.snapshot = new Snapshot<>(current.array, current.size - 1);
+			return current.array[current.size - 1];
+		} finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Reset the list so it is empty.
+	 * If list is already empty, then do nothing
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void removeAll() {
+		this.writeLock.lock();
+		try {
+			if (!this.isEmpty()) {
+				this.publish((E[]) new Object[DynamicArray.defaultInitialCapacity()], 0);
+			}
+		} finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Remove elem at index
+	 * Return the removed element
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E removeIndex(int index) {
+		this.writeLock.lock();
+		try {
+			Snapshot<E> current = this.snapshot;
+			E removedElem = current.get(index);
+			E[] copy = (E[]) new Object[current.array.length];
+			System.arraycopy(current.array, 0, copy, 0, index);
+			System.arraycopy(current.array, index + 1, copy, index, current.size - index - 1);
+			this.publish(copy, current.size - 1);
+			return removedElem;
+		} finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Remove first matching element (where searchFct outputs true)
+	 * Return the removed element
+	 * If no match, return null
+	 */
+	@Override
+	public E removeFirstMatching(Function<E, Boolean> searchFct) {
+		this.writeLock.lock();
+		try {
+			int index = this.findFirst(searchFct);
+			if (index == -1) {
+				return null;
+			}
+			return this.removeIndex(index);
+		} finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Remove every matching element (where searchFct outputs true), publishing
+	 * the remaining elements as one new snapshot
+	 * Return the number of removed elements
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public int removeIf(Function<E, Boolean> searchFct) {
+		this.writeLock.lock();
+		try {
+			Snapshot<E> current = this.snapshot;
+			E[] copy = (E[]) new Object[current.array.length];
+			int write = 0;
+			for (int i=0; i < current.size; i++) {
+				if (!searchFct.apply(current.array[i])) {
+					copy[write++] = current.array[i];
+				}
+			}
+			if (write != current.size) {
+				this.publish(copy, write);
+			}
+			return current.size - write;
+		} finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	//----------------- Convenience Methods ------------------
+
+	/**
+	 * Return this list as an array (maintain same order of elements)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray() {
+		Snapshot<E> current = this.snapshot;
+		if (current.size == 0)
+			return (E[]) Array.newInstance(Object.class, 0);
+		E[] array = (E[]) Array.newInstance(current.array[0].getClass(), current.size);
+		System.arraycopy(current.array, 0, array, 0, current.size);
+		return array;
+	}
+
+	/**
+	 * Returns one-line user-friendly message about this object
+	 * Helpful method especially for debugging.
+	 */
+	@Override
+	public String toString() {
+		return "Growth Factor: " + growthFactor + ". Size: " + this.size() + ". Concurrent.";
+	}
+
+	/** Prints all elements to console, with newline after each */
+	@Override
+	public void printAll() {
+		this.forEach(System.out::println);
+	}
+
+	/** Iterates over the elements of the current snapshot. For each element,
+	 * performs actionFct (passing element being iterated on)
+	 */
+	@Override
+	public void forEach(Consumer<? super E> actionFct) {
+		Snapshot<E> current = this.snapshot;
+		for (int i=0; i < current.size; i++) {
+			actionFct.accept(current.array[i]);
+		}
+	}
+
+	/**
+	 * Return iterator over the current snapshot (never sees later writes;
+	 * "remove" is not supported)
+	 */
+	@Override
+	public StructureIterator<E> iterator() {
+		Snapshot<E> current = this.snapshot;
+		return new StructureIterator<>() {
+			private int cursor = 0;
+
+			@Override
+			public boolean hasNext() {
+				return this.cursor < current.size;
+			}
+
+			@Override
+			public E next() {
+				E elem = this.peek();
+				this.cursor++;
+				return elem;
+			}
+
+			@Override
+			public E peek() {
+				if (this.cursor >= current.size) {
+					throw new NoSuchElementException();
+				}
+				return current.array[this.cursor];
+			}
+		};
+	}
+
+	/**
+	 * Return a spliterator over the current snapshot
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		Snapshot<E> current = this.snapshot;
+		return Spliterators.spliterator(current.array, 0, current.size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+	}
+
+	/** Return new DynamicArray that is "this" list joined
+	 * 	with "otherList" list (this list's elements are
+	 * 	first followed by the "otherList" list)
+	 */
+	@Override
+	public DynamicList<E> join(DynamicList<E> otherList) {
+		Snapshot<E> current = this.snapshot;
+		DynamicList<E> newList = DynamicArray.wrap(Arrays.copyOf(current.array, Math.max(current.size, 1)),
+				current.size, this.growthFactor);
+		newList.addAll(otherList);
+		return newList;
+	}
+
+	//----------------- Utility Methods ------------------
+
+	/**
+	 * Returns new DynamicArray with "new elements". Each new element
+	 * is generated from mapFct invoked with an element from
+	 * this list.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> DynamicList<T> map(Function<E, T> mapFct) {
+		Snapshot<E> current = this.snapshot;
+		T[] result = (T[]) new Object[Math.max(current.size, 1)];
+		for (int i=0; i < current.size; i++) {
+			result[i] = mapFct.apply(current.array[i]);
+		}
+		return DynamicArray.wrap(result, current.size, this.growthFactor);
+	}
+
+	/**
+	 * Returns new DynamicArray which is elements
+	 * selected from this list via selectFct
+	 */
+	@Override
+	public DynamicList<E> select(Function<E, Boolean> selectFct) {
+		DynamicList<E> newList = DynamicArray.fromGrowthFactor(this.growthFactor);
+		this.forEach(each -> {
+			if (selectFct.apply(each)) {
+				newList.add(each);
+			}
+		});
+		return newList;
+	}
+
+	/**
+	 * Returns new DynamicArray which is this list
+	 * with elements rejected via rejectFct
+	 */
+	@Override
+	public DynamicList<E> reject(Function<E, Boolean> rejectFct) {
+		return this.select(each -> !rejectFct.apply(each));
+	}
+
+	/** Accumulate a value by iterating over the current snapshot
+	  * and accumulating during iteration.
+	  */
+	@Override
+	public <T> T accumulate(BiFunction<T, E, T> fct, T initialValue) {
+		Snapshot<E> current = this.snapshot;
+		T sum = initialValue;
+		for (int i=0; i < current.size; i++) {
+			sum = fct.apply(sum, current.array[i]);
+		}
+		return sum;
+	}
+
+    //---------------------------------
+    // Public Constructors (Static Factory Constructor Methods)
+	//---------------------------------
+
+    /** Returns a new empty thread-safe DynamicList */
+    public static <T> DynamicList<T> newEmpty() {
+        return new ConcurrentDynamicArray<>(DynamicArray.defaultGrowthFactor());
+    }
+
+    /** Return a new empty thread-safe DynamicList with "growthFactor" */
+    public static <T> DynamicList<T> fromGrowthFactor(double growthFactor) {
+        return new ConcurrentDynamicArray<>(growthFactor);
+    }
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Publishes a new snapshot (caller holds writeLock). A new backing array starts a new high-water mark.
+	private void publish(E[] array, int size) {
+		if (array != this.snapshot.array) {
+			this.highWater = 0;
+		}
+		this.highWater = Math.max(this.highWater, size);
+		this.snapshot = new Snapshot<>(array, size);
+	}
+
+	// Returns an array that "count" elements can be appended to after the elements of "current" without
+	// changing anything a reader can see: the current array when its free slots were never published,
+	// otherwise a (bigger, if needed) copy. Caller holds writeLock.
+	private E[] appendTarget(Snapshot<E> current, int count) {
+		int needed = current.size + count;
+		if (current.size == this.highWater && needed <= current.array.length) {
+			return current.array;
+		}
+		return Arrays.copyOf(current.array, this.capacityFor(current.array.length, needed));
+	}
+
+	// Multiplies "capacity" by the growthFactor until it can hold at least minCapacity elements
+	private int capacityFor(int capacity, int minCapacity) {
+		int newSize = Math.max(capacity, 1);
+		while (newSize < minCapacity) {
+			int nextSize = (int) (this.growthFactor * newSize);
+			newSize = nextSize > newSize ? nextSize : minCapacity;
+		}
+		return newSize;
+	}
+
+	// Immutable view of the list: the first "size" slots of "array" never change once published
+	private static final class Snapshot<E> {
+		private final E[] array;
+		private final int size;
+
+		Snapshot(E[] anArray, int aSize) {
+			this.array = anArray;
+			this.size = aSize;
+		}
+
+		E get(int index) {
+			if (index < 0 || index >= this.size) {
+				throw new IndexOutOfBoundsException();
+			}
+			return this.array[index];
+		}
+
+		int findFirst(Function<E, Boolean> searchFct) {
+			for (int i=0; i < this.size; i++) {
+				if (searchFct.apply(this.array[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+	}
+}
@@ -16,13 +16,22 @@
 
 package model.list;
 
+import java.io.IOException;
 import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import model.linearpub.DynamicList;
+import model.linearpub.StructureIterator;
 
 public class DynamicArray<E> implements DynamicList<E> {
 
@@ -32,6 +41,11 @@ public class DynamicArray<E> implements DynamicList<E> {
 	private int arraySize;
 	private double growthFactor;
 	private int capacity;
+	private int modCount;
+	private GrowthPolicy growthPolicy;
+	private ShrinkPolicy shrinkPolicy;
+	private ArrayPool pool;
+	private KeyIndex<E, ?>[] indexes;
 
     //---------------------------------
     // Private Constructors
@@ -42,6 +56,8 @@ public class DynamicArray<E> implements DynamicList<E> {
 		this.growthFactor = defaultGrowthFactor();
 		this.capacity = defaultInitialCapacity();
 		this.arraySize = 0;
+		this.growthPolicy = GrowthPolicy.multiplicative(this.growthFactor);
+		this.shrinkPolicy = ShrinkPolicy.NEVER;
 	}
 
     /** Constructs and returns new DynamicArray with "aGrowthFactor" */
@@ -50,6 +66,46 @@ public class DynamicArray<E> implements DynamicList<E> {
 		this.growthFactor = aGrowthFactor;
 		this.capacity = defaultInitialCapacity();
 		this.arraySize = 0;
+		this.growthPolicy = GrowthPolicy.multiplicative(aGrowthFactor);
+		this.shrinkPolicy = ShrinkPolicy.NEVER;
+	}
+
+    /** Constructs and returns new DynamicArray holding the first "size" elements of "anArray" */
+	private DynamicArray(E[] anArray, int size, double aGrowthFactor) {
+		this.fixedArray = anArray;
+		this.growthFactor = aGrowthFactor;
+		this.capacity = anArray.length;
+		this.arraySize = size;
+		this.growthPolicy = GrowthPolicy.multiplicative(aGrowthFactor);
+		this.shrinkPolicy = ShrinkPolicy.NEVER;
+	}
+
+    /** Constructs and returns new DynamicArray with "initialCapacity" slots that grows
+     *	with "aGrowthPolicy" and shrinks with "aShrinkPolicy" */
+	@SuppressWarnings("unchecked")
+	private DynamicArray(GrowthPolicy aGrowthPolicy, ShrinkPolicy aShrinkPolicy, int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Negative initial capacity: " + initialCapacity);
+		}
+		this.fixedArray = (E[]) new Object[initialCapacity];
+		this.growthFactor = defaultGrowthFactor();
+		this.capacity = initialCapacity;
+		this.arraySize = 0;
+		this.growthPolicy = aGrowthPolicy;
+		this.shrinkPolicy = aShrinkPolicy;
+	}
+
+    /** Constructs and returns new DynamicArray with "aGrowthFactor" whose backing arrays
+     *	come from (and go back to) "aPool" */
+	@SuppressWarnings("unchecked")
+	private DynamicArray(ArrayPool aPool, double aGrowthFactor) {
+		this.pool = aPool;
+		this.fixedArray = (E[]) aPool.acquire(defaultInitialCapacity());
+		this.growthFactor = aGrowthFactor;
+		this.capacity = this.fixedArray.length;
+		this.arraySize = 0;
+		this.growthPolicy = GrowthPolicy.multiplicative(aGrowthFactor);
+		this.shrinkPolicy = ShrinkPolicy.NEVER;
 	}
 
 	//------------------------------------------------
@@ -83,6 +139,63 @@ public class DynamicArray<E> implements DynamicList<E> {
 		return this.size() == 0;
 	}
 
+	/**
+	 * Return the factor the capacity is multiplied by when the list grows
+	 * (lists made with fromPolicies report the default growth factor).
+	 */
+	public double growthFactor() {
+		return this.growthFactor;
+	}
+
+	/**
+	 * Return number of elements the backing array can hold before it has to grow.
+	 */
+	public int capacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Grow the backing array (if needed) so that it can hold at least
+	 * "minCapacity" elements without growing again.
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		this.ensureCapacityFor(minCapacity);
+	}
+
+	/**
+	 * Shrink the backing array so that its capacity is the size of the list.
+	 */
+	@Override
+	public void trimToSize() {
+		if (this.capacity > this.arraySize) {
+			if (ListMetrics.ENABLED) {
+				ListMetrics.recordResize(this.capacity, this.arraySize, this.arraySize, this.arraySize);
+			}
+			E[] oldArray = this.fixedArray;
+			this.fixedArray = Arrays.copyOf(oldArray, this.arraySize);
+			this.capacity = this.arraySize;
+			this.recycle(oldArray);
+		}
+	}
+
+	/**
+	 * Empty the list and give its backing array back to its ArrayPool (if any).
+	 * The list stays usable; it takes a new array from the pool when it grows again.
+	 * Streams, spliterators, parallel views and queries read the backing array without
+	 * checking for changes, so none of them may still be in use when this is called:
+	 * the array may already belong to another list.
+	 */
+	@SuppressWarnings("unchecked")
+	public void release() {
+		E[] oldArray = this.fixedArray;
+		this.fixedArray = (E[]) new Object[0];
+		this.capacity = 0;
+		this.arraySize = 0;
+		this.modCount++;
+		this.recycle(oldArray);
+	}
+
 	//------------------ Accessing Elements --------------------
 
 	/**
@@ -138,7 +251,7 @@ public class DynamicArray<E> implements DynamicList<E> {
 		if (stop > this.size() - 1) {
 			throw new IndexOutOfBoundsException();
 		}
-		DynamicList<E> newList = DynamicArray.newEmpty();
+		DynamicList<E> newList = this.newResultList();
 		for (int i=start; i < stop; i++) {
 			newList.add(this.fixedArray[i]);
 		}
@@ -148,6 +261,20 @@ public class DynamicArray<E> implements DynamicList<E> {
 		return newList;
 	}
 
+	/**
+	 * Return a read-only view of the elements of this list between the given index
+	 * "start" (inclusive) and the given index "stop" (exclusive), in O(1): the view
+	 * reads this list's backing array directly. The view becomes invalid (throws
+	 * ConcurrentModificationException) once this list is structurally modified.
+	 * Throws IndexOutOfBoundsException if either passed index is invalid.
+	 */
+	public ListView<E> subListView(int start, int stop) {
+		if (start < 0 || start > stop || stop > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new ListView.Slice<>(this, start, stop - start);
+	}
+
 	/**
 	 * Return index of first matching element (where searchFct outputs true)
 	 * Return -1 if no match
@@ -159,9 +286,15 @@ public class DynamicArray<E> implements DynamicList<E> {
 	public int findFirst(Function<E, Boolean> searchFct) {
 		for (int i=0; i < this.size(); i++) {
 			if (searchFct.apply(this.get(i))) {
+				if (ListMetrics.ENABLED) {
+					ListMetrics.recordScan(i + 1);
+				}
 				return i;
 			}
 		}
+		if (ListMetrics.ENABLED) {
+			ListMetrics.recordScan(this.size());
+		}
 		return -1;
 	}
 
@@ -176,9 +309,15 @@ public class DynamicArray<E> implements DynamicList<E> {
 	public int findLast(Function<E, Boolean> searchFct) {
 		for (int i=this.size() - 1; i >= 0; i--) {
 			if (searchFct.apply(this.get(i))) {
+				if (ListMetrics.ENABLED) {
+					ListMetrics.recordScan(this.size() - i);
+				}
 				return i;
 			}
 		}
+		if (ListMetrics.ENABLED) {
+			ListMetrics.recordScan(this.size());
+		}
 		return -1;
 	}
 
@@ -197,6 +336,11 @@ public class DynamicArray<E> implements DynamicList<E> {
 		}
 		E oldElem = this.get(index);
 		this.fixedArray[index] = newElem;
+		if (this.indexes != null) {
+			for (KeyIndex<E, ?> keyIndex : this.indexes) {
+				keyIndex.replaced(index, oldElem, newElem);
+			}
+		}
 		return oldElem;
 	}
 
@@ -214,6 +358,7 @@ public class DynamicArray<E> implements DynamicList<E> {
 		this.shiftToRight(0);
 		fixedArray[0] = newElem;
 		this.arraySize++;
+		this.modCount++;
 	}
 
 	/**
@@ -226,6 +371,12 @@ public class DynamicArray<E> implements DynamicList<E> {
 		}
 		fixedArray[this.size()] = newElem;
 		this.arraySize++;
+		this.modCount++;
+		if (this.indexes != null) {
+			for (KeyIndex<E, ?> keyIndex : this.indexes) {
+				keyIndex.appended(this.arraySize - 1, newElem);
+			}
+		}
 	}
 
 	/**
@@ -244,15 +395,21 @@ public class DynamicArray<E> implements DynamicList<E> {
 	 */
 	@Override
 	public void addAll(DynamicList<E> otherDynList) {
-		if (this.arraySize + otherDynList.size() > capacity) {
-			this.fixedArray = this.grow();
+		if (otherDynList instanceof DynamicArray) {
+			DynamicArray<E> other = (DynamicArray<E>) otherDynList;
+			this.appendBlock(other.fixedArray, other.size());
+			return;
 		}
-		for (int i=0; i < otherDynList.size(); i++) {
-			if (otherDynList.get(i) == null) {
-				break;
-			}
-			this.add(otherDynList.get(i));
+		int count = 0;
+		while (count < otherDynList.size() && otherDynList.get(count) != null) {
+			count++;
+		}
+		this.ensureCapacityFor(this.arraySize + count);
+		for (int i=0; i < count; i++) {
+			this.fixedArray[this.arraySize + i] = otherDynList.get(i);
 		}
+		this.arraySize += count;
+		this.modCount++;
 	}
 
 	/**
@@ -260,15 +417,32 @@ public class DynamicArray<E> implements DynamicList<E> {
 	 */
 	@Override
 	public void addAll(E[] array) {
-		if (this.arraySize + array.length > capacity) {
-			this.fixedArray = this.grow();
+		this.appendBlock(array, array.length);
+	}
+
+	/**
+	 * Append up to "maxCount" elements that "source" writes straight into the backing
+	 * array after the last element (growing it at most once). Unlike addAll, null
+	 * elements are kept. Return the number of elements appended.
+	 * Throws IllegalArgumentException if "maxCount" is negative or the list cannot
+	 * grow by "maxCount" elements.
+	 */
+	public int appendBatch(BatchSource<E> source, int maxCount) throws IOException {
+		if (maxCount < 0 || maxCount > GrowthPolicy.MAX_CAPACITY - this.arraySize) {
+			throw new IllegalArgumentException("Cannot append a batch of " + maxCount + " elements to a list of "
+					+ this.arraySize);
 		}
-		for (int i=0; i < array.length; i++) {
-			if (array[i] == null) {
-				break;
-			}
-			this.add(array[i]);
+		this.ensureCapacityFor(this.arraySize + maxCount);
+		int count = source.read(this.fixedArray, this.arraySize, maxCount);
+		if (count < 0 || count > maxCount) {
+			throw new IllegalStateException("Batch source wrote " + count + " elements, at most " + maxCount
+					+ " were allowed");
+		}
+		if (count > 0) {
+			this.arraySize += count;
+			this.modCount++;
 		}
+		return count;
 	}
 
 	/**
@@ -292,6 +466,7 @@ public class DynamicArray<E> implements DynamicList<E> {
 			this.shiftToRight(insertIndex);
 			fixedArray[insertIndex] = newElem;
 			this.arraySize++;
+			this.modCount++;
 		}
 	}
 
@@ -311,6 +486,9 @@ public class DynamicArray<E> implements DynamicList<E> {
 		E removedElem = this.get(0);
 		this.shiftToLeft(1);
 		this.arraySize--;
+		this.modCount++;
+		this.notifyRemoved(0, removedElem);
+		this.shrinkIfNeeded();
 		return removedElem;
 	}
 
@@ -323,6 +501,9 @@ public class DynamicArray<E> implements DynamicList<E> {
 	public E removeLast() {
 		E removedElem = this.get(this.size() - 1);
 		this.arraySize--;
+		this.modCount++;
+		this.notifyRemoved(this.arraySize, removedElem);
+		this.shrinkIfNeeded();
 		return removedElem;
 	}
 
@@ -337,6 +518,8 @@ public class DynamicArray<E> implements DynamicList<E> {
 		if (isEmpty()) {
 		} else {
 			this.arraySize = 0;
+			this.modCount++;
+			this.shrinkIfNeeded();
 		}
 	}
 
@@ -350,6 +533,9 @@ public class DynamicArray<E> implements DynamicList<E> {
 		E removedElem = this.get(index);
 		this.shiftToLeft(index + 1);
 		this.arraySize--;
+		this.modCount++;
+		this.notifyRemoved(index, removedElem);
+		this.shrinkIfNeeded();
 		return removedElem;
 	}
 
@@ -371,6 +557,51 @@ public class DynamicArray<E> implements DynamicList<E> {
 		}
 	}
 
+	/**
+	 * Remove every matching element (where searchFct outputs true) with one
+	 * compaction pass: kept elements slide down over the removed ones and the
+	 * vacated slots at the end are cleared. O(n) whatever the number of matches.
+	 * Return the number of removed elements
+	 */
+	@Override
+	public int removeIf(Function<E, Boolean> searchFct) {
+		int write = 0;
+		int read = 0;
+		int removed;
+		try {
+			for (; read < this.arraySize; read++) {
+				E elem = this.fixedArray[read];
+				if (!searchFct.apply(elem)) {
+					this.fixedArray[write++] = elem;
+				}
+			}
+		} finally {
+			// if searchFct threw, the elements not tested yet are kept
+			System.arraycopy(this.fixedArray, read, this.fixedArray, write, this.arraySize - read);
+			removed = this.truncate(write + this.arraySize - read);
+		}
+		return removed;
+	}
+
+	/**
+	 * Remove the elements whose bit is set in "marks" (bit i of word i / 64 stands
+	 * for index i), moving each run of kept elements with one block copy.
+	 * Return the number of removed elements
+	 */
+	int removeMarked(long[] marks) {
+		int write = 0;
+		int read = 0;
+		while (read < this.arraySize) {
+			int removeStart = nextMarked(marks, read, this.arraySize);
+			if (write != read) {
+				System.arraycopy(this.fixedArray, read, this.fixedArray, write, removeStart - read);
+			}
+			write += removeStart - read;
+			read = nextKept(marks, removeStart, this.arraySize);
+		}
+		return this.truncate(write);
+	}
+
 	//----------------- Convenience Methods ------------------
 
 	/** Return this list as array
@@ -391,6 +622,14 @@ public class DynamicArray<E> implements DynamicList<E> {
 		return array;
 	}
 
+	/**
+	 * Return an immutable snapshot of this list as a PersistentVector (one block copy
+	 * per 32 elements), which can be handed to other threads without further copying
+	 */
+	public PersistentVector<E> toPersistent() {
+		return PersistentVector.<E>builder().addRange(this.fixedArray, 0, this.arraySize).build();
+	}
+
 	/**
 	 * Returns one-line user-friendly message about this object
 	 * Helpful method especially for debugging.
@@ -401,6 +640,27 @@ public class DynamicArray<E> implements DynamicList<E> {
 		return "Growth Factor: " + growthFactor + ". Size: " + this.size() + ".";
 	}
 
+	/**
+	 * Return iterator on this list. The iterator fails fast: once the list is
+	 * structurally modified other than through the iterator's own "remove",
+	 * its next call throws ConcurrentModificationException.
+	 */
+	@Override
+	public StructureIterator<E> iterator() {
+		return new ArrayIterator();
+	}
+
+	/**
+	 * Return iterator on this list whose "remove" only marks the element; the
+	 * kept elements are compacted towards the front as iteration goes on, so
+	 * removing any number of elements costs one O(n) pass. The list is updated
+	 * when iteration reaches the end (hasNext returns false) or on close(),
+	 * and must not be used in between.
+	 */
+	public CompactingIterator compactingIterator() {
+		return new CompactingIterator();
+	}
+
 	/** Prints all elements to console, with newline after each */
 	@Override
 	public void printAll() {
@@ -427,12 +687,29 @@ public class DynamicArray<E> implements DynamicList<E> {
 	 */
 	@Override
 	public DynamicList<E> join(DynamicList<E> otherList) {
-		DynamicList<E> newList = DynamicArray.newEmpty();
+		DynamicList<E> newList = this.newResultList();
 		newList.addAll(this.fixedArray);
 		newList.addAll(otherList);
 		return newList;
 	}
 
+	/** Return a read-only view that is "this" list joined with "otherList" list,
+	 * 	in O(1) (nothing is copied). The view becomes invalid (throws
+	 * 	ConcurrentModificationException) once either list is structurally modified.
+	 */
+	public ListView<E> joinView(DynamicArray<E> otherList) {
+		return new ListView.Joined<>(this, otherList);
+	}
+
+	/** Return a read-only view that is "this" list joined with the view "otherList",
+	 * 	in O(1) (nothing is copied). The view becomes invalid (throws
+	 * 	ConcurrentModificationException) once either list is structurally modified
+	 * 	(for "otherList", once it is no longer valid).
+	 */
+	public ListView<E> joinView(ListView<E> otherList) {
+		return new ListView.Joined<>(this, otherList);
+	}
+
 	//----------------- Utility Methods ------------------
 
 	/**
@@ -442,7 +719,7 @@ public class DynamicArray<E> implements DynamicList<E> {
 	 */
 	@Override
 	public <T> DynamicList<T> map(Function<E, T> mapFct) {
-		DynamicList<T> newList = DynamicArray.newEmpty();
+		DynamicList<T> newList = this.newResultList();
 		for (int i=0; i < this.size(); i++) {
 			newList.add(mapFct.apply(this.get(i)));
 		}
@@ -457,7 +734,7 @@ public class DynamicArray<E> implements DynamicList<E> {
 	 */
 	@Override
 	public DynamicList<E> select(Function<E, Boolean> selectFct) {
-		DynamicList<E> newList = DynamicArray.newEmpty();
+		DynamicList<E> newList = this.newResultList();
 		for (int i=0; i < this.size(); i++) {
 			if(selectFct.apply(this.get(i))) {
 				newList.add(this.get(i));
@@ -472,9 +749,9 @@ public class DynamicArray<E> implements DynamicList<E> {
 	 */
 	@Override
 	public DynamicList<E> reject(Function<E, Boolean> rejectFct) {
-		DynamicList<E> newList = DynamicArray.newEmpty();
+		DynamicList<E> newList = this.newResultList();
 		for (int i=0; i < this.size(); i++) {
-			if(rejectFct.apply(this.get(i))) {
+			if (!rejectFct.apply(this.get(i))) {
 				newList.add(this.get(i));
 			}
 		}
@@ -498,6 +775,101 @@ public class DynamicArray<E> implements DynamicList<E> {
 		return sum;
 	}
 
+	/**
+	 * Sort this list in place (a stable merge sort over the backing array)
+	 * in the order given by "comparator"
+	 */
+	public void sort(Comparator<? super E> comparator) {
+		Arrays.sort(this.fixedArray, 0, this.arraySize, comparator);
+		this.modCount++;
+	}
+
+	/**
+	 * Sort this list in place like "sort", splitting the work over the
+	 * common ForkJoinPool (faster for large lists, same result)
+	 */
+	public void parallelSort(Comparator<? super E> comparator) {
+		Arrays.parallelSort(this.fixedArray, 0, this.arraySize, comparator);
+		this.modCount++;
+	}
+
+	/**
+	 * Return a SIZED, SUBSIZED and ORDERED spliterator directly over the backing array
+	 * (splitting hands out halves of the array, nothing is copied)
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return Spliterators.spliterator(this.fixedArray, 0, this.arraySize, Spliterator.ORDERED);
+	}
+
+	/**
+	 * Returns a lazy query over this list: its stages are fused into a single
+	 * pass over the backing array when a terminal operation runs (see Query).
+	 */
+	public Query<E> query() {
+		return Query.overArray(this);
+	}
+
+	/**
+	 * Attach a hash index that maps the key keyFct extracts from each element to its
+	 * positions, so lookups and removals by key run in O(1) expected time (see KeyIndex).
+	 * The index is kept up to date by this list's mutators; it is built on first use.
+	 */
+	public <K> KeyIndex<E, K> addIndex(Function<E, K> keyFct) {
+		KeyIndex<E, K> keyIndex = new KeyIndex<>(this, keyFct);
+		if (this.indexes == null) {
+			@SuppressWarnings("unchecked")
+			KeyIndex<E, ?>[] first = (KeyIndex<E, ?>[]) new KeyIndex<?, ?>[] {keyIndex};
+			this.indexes = first;
+		} else {
+			this.indexes = Arrays.copyOf(this.indexes, this.indexes.length + 1);
+			this.indexes[this.indexes.length - 1] = keyIndex;
+		}
+		return keyIndex;
+	}
+
+	/**
+	 * Detach "keyIndex" from this list (it is no longer updated)
+	 * Return false if it was not attached to this list
+	 */
+	public boolean dropIndex(KeyIndex<E, ?> keyIndex) {
+		if (this.indexes == null) {
+			return false;
+		}
+		for (int i=0; i < this.indexes.length; i++) {
+			if (this.indexes[i] == keyIndex) {
+				if (this.indexes.length == 1) {
+					this.indexes = null;
+				} else {
+					@SuppressWarnings("unchecked")
+					KeyIndex<E, ?>[] remaining = (KeyIndex<E, ?>[]) new KeyIndex<?, ?>[this.indexes.length - 1];
+					System.arraycopy(this.indexes, 0, remaining, 0, i);
+					System.arraycopy(this.indexes, i + 1, remaining, i, remaining.length - i);
+					this.indexes = remaining;
+				}
+				keyIndex.invalidate();
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a view whose map, select, reject and accumulate split this list
+	 * into ranges processed in parallel on the common ForkJoinPool.
+	 */
+	public ParallelView<E> parallel() {
+		return new ParallelView<>(this, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns a view whose map, select, reject and accumulate split this list
+	 * into ranges processed in parallel on "pool".
+	 */
+	public ParallelView<E> parallel(ForkJoinPool pool) {
+		return new ParallelView<>(this, pool);
+	}
+
     //---------------------------------
     // Public Constructors (Static Factory Constructor Methods)
 	//---------------------------------
@@ -507,11 +879,39 @@ public class DynamicArray<E> implements DynamicList<E> {
         return new DynamicArray<>();
     }
 
+    /** Returns a new empty DynamicList backed by a circular buffer, so that
+     *	adding and removing at either end is amortized O(1) */
+    public static <T> DynamicList<T> newCircular() {
+        return CircularDynamicArray.newEmpty();
+    }
+
     /** Return a new empty DynamicArray with "growthFactor" */
     public static <T> DynamicList<T> fromGrowthFactor(double growthFactor) {
         return new DynamicArray<>(growthFactor);
     }
 
+    /** Return a new empty DynamicList whose backing array starts with "initialCapacity" slots */
+    public static <T> DynamicList<T> withInitialCapacity(int initialCapacity) {
+        return new DynamicArray<>(GrowthPolicy.multiplicative(defaultGrowthFactor()), ShrinkPolicy.NEVER, initialCapacity);
+    }
+
+    /** Return a new empty DynamicList whose backing array starts with "initialCapacity" slots,
+     *	grows with "growthPolicy" and shrinks with "shrinkPolicy" */
+    public static <T> DynamicList<T> fromPolicies(GrowthPolicy growthPolicy, ShrinkPolicy shrinkPolicy,
+    		int initialCapacity) {
+        return new DynamicArray<>(growthPolicy, shrinkPolicy, initialCapacity);
+    }
+
+    /** Return a new empty DynamicArray whose backing arrays come from (and, on growth or
+     *	release(), go back to) "pool". Lists made from it by subList, join, map, select
+     *	and reject use the same pool.
+     *	A stream, spliterator, parallel view or query over such a list reads its backing
+     *	array directly, so it must be finished before the list grows, shrinks or is
+     *	released; after that the array may be reused by another list. */
+    public static <T> DynamicArray<T> fromPool(ArrayPool pool) {
+        return new DynamicArray<>(pool, defaultGrowthFactor());
+    }
+
     /** Return a new DynamicList that contains all elements from the
      *	param "aFixedArray" */
     public static <T> DynamicList<T> from(T[] aFixedArray) {
@@ -521,34 +921,314 @@ public class DynamicArray<E> implements DynamicList<E> {
         return dynamic;
     }
 
+    /** Return a new DynamicArray that takes ownership of "anArray" and holds its first "size" elements */
+    static <T> DynamicArray<T> wrap(T[] anArray, int size, double growthFactor) {
+        return new DynamicArray<>(anArray, size, growthFactor);
+    }
+
 	//----------------------------------------------------------
 
 	// ---------------------- Helper Methods ----------------------
 
+	// Throws ConcurrentModificationException if the list was structurally modified since "expectedModCount"
+	private void checkForComodification(int expectedModCount) {
+		if (this.modCount != expectedModCount) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	// Returns the number of structural modifications so far (used by views to detect them)
+	int modCount() {
+		return this.modCount;
+	}
+
+	// Returns the backing array (only the first size() slots hold elements)
+	E[] backingArray() {
+		return this.fixedArray;
+	}
+
+	// Merges the first "count" elements of "sorted" into this list, which must already be sorted by
+	// "comparator", with one linear pass from the back (elements equal to existing ones go after them)
+	void mergeSorted(E[] sorted, int count, Comparator<? super E> comparator) {
+		this.ensureCapacityFor(this.arraySize + count);
+		int read = this.arraySize - 1;
+		int write = this.arraySize + count - 1;
+		for (int j=count - 1; j >= 0; j--) {
+			while (read >= 0 && comparator.compare(this.fixedArray[read], sorted[j]) > 0) {
+				this.fixedArray[write--] = this.fixedArray[read--];
+			}
+			this.fixedArray[write--] = sorted[j];
+		}
+		this.arraySize += count;
+		this.modCount++;
+	}
+
+	// Cuts the list down to its first "newSize" elements after a compaction, clearing the vacated
+	// slots so they keep no elements alive. Returns the number of elements cut off.
+	private int truncate(int newSize) {
+		int removed = this.arraySize - newSize;
+		if (removed == 0) {
+			return 0;
+		}
+		Arrays.fill(this.fixedArray, newSize, this.arraySize, null);
+		this.arraySize = newSize;
+		this.modCount++;
+		this.shrinkIfNeeded();
+		return removed;
+	}
+
+	// Returns the first index in [from, limit) whose bit is set in "marks" (limit if none)
+	private static int nextMarked(long[] marks, int from, int limit) {
+		if (from >= limit) {
+			return limit;
+		}
+		int word = from >>> 6;
+		long bits = marks[word] & (-1L << from);
+		while (bits == 0) {
+			if (++word >= marks.length) {
+				return limit;
+			}
+			bits = marks[word];
+		}
+		return Math.min(limit, (word << 6) + Long.numberOfTrailingZeros(bits));
+	}
+
+	// Returns the first index in [from, limit) whose bit is clear in "marks" (limit if none)
+	private static int nextKept(long[] marks, int from, int limit) {
+		if (from >= limit) {
+			return limit;
+		}
+		int word = from >>> 6;
+		long bits = ~marks[word] & (-1L << from);
+		while (bits == 0) {
+			if (++word >= marks.length) {
+				return limit;
+			}
+			bits = ~marks[word];
+		}
+		return Math.min(limit, (word << 6) + Long.numberOfTrailingZeros(bits));
+	}
+
+	// Tells the attached key indexes (if any) that "removedElem" was removed from "index"
+	private void notifyRemoved(int index, E removedElem) {
+		if (this.indexes != null) {
+			for (KeyIndex<E, ?> keyIndex : this.indexes) {
+				keyIndex.removed(index, removedElem);
+			}
+		}
+	}
+
 	// Shifts all elements in the array to the right, overwriting the element at startingIndex
 	private void shiftToRight(int startingIndex) {
-		for (int i=this.size() - 1; i >= startingIndex; i--) {
-			this.fixedArray[i + 1] = this.get(i);
+		long start = ListMetrics.ENABLED ? System.nanoTime() : 0;
+		System.arraycopy(this.fixedArray, startingIndex, this.fixedArray, startingIndex + 1, this.size() - startingIndex);
+		if (ListMetrics.ENABLED) {
+			ListMetrics.recordShift(this.size() - startingIndex, System.nanoTime() - start);
 		}
 	}
 
 	// Shifts all elements in the array to the left, overwriting the element at startingIndex
 	private void shiftToLeft(int startingIndex) {
-		for (int i=startingIndex; i < this.size(); i++) {
-			this.fixedArray[i - 1] = this.get(i);
+		long start = ListMetrics.ENABLED ? System.nanoTime() : 0;
+		System.arraycopy(this.fixedArray, startingIndex, this.fixedArray, startingIndex - 1, this.size() - startingIndex);
+		if (ListMetrics.ENABLED) {
+			ListMetrics.recordShift(this.size() - startingIndex, System.nanoTime() - start);
+		}
+	}
+
+	// Appends the first "length" elements of "source" (stopping at the first null, like add-ing them one at
+	// a time would) with a single block copy, growing the backing array at most once for the whole batch.
+	private void appendBlock(E[] source, int length) {
+		int count = 0;
+		while (count < length && source[count] != null) {
+			count++;
 		}
+		this.ensureCapacityFor(this.arraySize + count);
+		System.arraycopy(source, 0, this.fixedArray, this.arraySize, count);
+		this.arraySize += count;
+		this.modCount++;
 	}
 
-	// Creates a new array with a capacity of the current arrays capacity multiplied by the growthFactor (a default
-	// of 2). Then copies all elements in the old array to the new array.
+	// Grows the backing array (if needed) so that it can hold at least minCapacity elements.
+	private void ensureCapacityFor(int minCapacity) {
+		if (minCapacity > this.capacity) {
+			this.fixedArray = this.grow(minCapacity);
+		}
+	}
+
+	// Creates a new array with a capacity chosen by the growthPolicy (by default the current arrays capacity
+	// multiplied by the growthFactor, a default of 2). Then copies all elements in the old array to the new array.
 	private E[] grow() {
+		return this.grow(this.capacity + 1);
+	}
+
+	// Asks the growthPolicy for a capacity of at least minCapacity, then copies all elements
+	// in the old array to the new array with one block copy.
+	private E[] grow(int minCapacity) {
+		int newSize = this.growthPolicy.grow(this.capacity, minCapacity);
+		if (this.pool == null) {
+			if (ListMetrics.ENABLED) {
+				// Arrays.copyOf copies every slot of the old array
+				ListMetrics.recordResize(this.capacity, newSize, this.arraySize, this.capacity);
+			}
+			E[] newFixedArr = Arrays.copyOf(this.fixedArray, newSize);
+			capacity = newSize;
+			return newFixedArr;
+		}
 		@SuppressWarnings("unchecked")
-		int newSize = (int) (this.growthFactor * this.capacity);
-		E[] newFixedArr = (E[]) new Object[newSize];
-		for (int i=0; i < this.size(); i++) {
-			newFixedArr[i] = this.get(i);
+		E[] newFixedArr = (E[]) this.pool.acquire(newSize);
+		if (ListMetrics.ENABLED) {
+			// the pool rounds newSize up to its size class
+			ListMetrics.recordResize(this.capacity, newFixedArr.length, this.arraySize, this.arraySize);
 		}
-		capacity = newSize;
+		System.arraycopy(this.fixedArray, 0, newFixedArr, 0, this.arraySize);
+		capacity = newFixedArr.length;
+		this.recycle(this.fixedArray);
 		return newFixedArr;
 	}
+
+	// Gives a backing array that is no longer used back to the pool (if any)
+	private void recycle(E[] oldArray) {
+		if (this.pool != null) {
+			this.pool.release(oldArray);
+		}
+	}
+
+	// Returns a new empty list for the results of subList, join, map, select and reject
+	// (drawing from the same pool as this list, if any)
+	private <T> DynamicList<T> newResultList() {
+		return this.pool == null ? DynamicArray.newEmpty() : new DynamicArray<>(this.pool, defaultGrowthFactor());
+	}
+
+	// Replaces the backing array by a smaller one when the shrinkPolicy asks for it
+	private void shrinkIfNeeded() {
+		int newSize = this.shrinkPolicy.shrink(this.capacity, this.arraySize);
+		if (newSize < this.capacity) {
+			if (ListMetrics.ENABLED) {
+				ListMetrics.recordResize(this.capacity, Math.max(newSize, this.arraySize), this.arraySize,
+						Math.max(newSize, this.arraySize));
+			}
+			E[] oldArray = this.fixedArray;
+			this.fixedArray = Arrays.copyOf(oldArray, Math.max(newSize, this.arraySize));
+			this.capacity = this.fixedArray.length;
+			this.recycle(oldArray);
+		}
+	}
+
+	// ---------------------- Iterators ----------------------
+
+	// Iterates over the elements in order; "remove" removes the last returned element right away
+	private class ArrayIterator implements StructureIterator<E> {
+		private int cursor = 0;
+		private int lastReturned = -1;
+		private int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return this.cursor < arraySize;
+		}
+
+		@Override
+		public E next() {
+			E elem = this.peek();
+			this.lastReturned = this.cursor++;
+			return elem;
+		}
+
+		@Override
+		public E peek() {
+			checkForComodification(this.expectedModCount);
+			if (this.cursor >= arraySize) {
+				throw new NoSuchElementException();
+			}
+			return fixedArray[this.cursor];
+		}
+
+		@Override
+		public void remove() {
+			if (this.lastReturned < 0) {
+				throw new IllegalStateException();
+			}
+			checkForComodification(this.expectedModCount);
+			removeIndex(this.lastReturned);
+			this.cursor = this.lastReturned;
+			this.lastReturned = -1;
+			this.expectedModCount = modCount;
+		}
+	}
+
+	/** Iterator whose "remove" is O(1); see compactingIterator() */
+	public class CompactingIterator implements StructureIterator<E>, AutoCloseable {
+		private int read = 0;
+		private int write = 0;
+		private boolean canRemove = false;
+		private boolean finished = false;
+		private final int expectedModCount = modCount;
+
+		/**
+		 * Return true if there are more elements to iterate over.
+		 * Once there are none, the removals are applied to the list.
+		 */
+		@Override
+		public boolean hasNext() {
+			if (!this.finished && this.read < arraySize) {
+				return true;
+			}
+			this.close();
+			return false;
+		}
+
+		@Override
+		public E next() {
+			E elem = this.peek();
+			// kept elements slide down over the slots of removed ones
+			fixedArray[this.write++] = elem;
+			this.read++;
+			this.canRemove = true;
+			return elem;
+		}
+
+		@Override
+		public E peek() {
+			if (this.finished) {
+				throw new IllegalStateException("Iterator has been closed");
+			}
+			checkForComodification(this.expectedModCount);
+			if (this.read >= arraySize) {
+				throw new NoSuchElementException();
+			}
+			return fixedArray[this.read];
+		}
+
+		@Override
+		public void remove() {
+			if (!this.canRemove || this.finished) {
+				throw new IllegalStateException();
+			}
+			this.write--;
+			this.canRemove = false;
+		}
+
+		/**
+		 * Apply the removals to the list: move the elements not yet iterated over
+		 * next to the kept ones and clear the vacated slots.
+		 * Calling close() more than once does nothing.
+		 */
+		@Override
+		public void close() {
+			if (this.finished) {
+				return;
+			}
+			this.finished = true;
+			checkForComodification(this.expectedModCount);
+			int newSize = this.write + (arraySize - this.read);
+			System.arraycopy(fixedArray, this.read, fixedArray, this.write, arraySize - this.read);
+			Arrays.fill(fixedArray, newSize, arraySize, null);
+			if (newSize != arraySize) {
+				arraySize = newSize;
+				modCount++;
+				shrinkIfNeeded();
+			}
+		}
+	}
 }
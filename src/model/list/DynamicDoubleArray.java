@@ -0,0 +1,507 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Dynamic Double Array
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	This class is a implementation of the Dynamic Array data structure specialized
+ *	for double elements. It mirrors the DynamicList operations, but keeps its elements
+ *	in a double[] and takes primitive functional interfaces, so nothing is ever boxed.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+public class DynamicDoubleArray {
+
+    //---------------------------------
+    // Instance Variables
+	private double[] fixedArray;
+	private int arraySize;
+	private double growthFactor;
+	private int capacity;
+
+    //---------------------------------
+    // Private Constructors
+
+    /** Constructs and returns new DynamicDoubleArray (no args constructor) */
+	private DynamicDoubleArray() {
+		this(DynamicArray.defaultGrowthFactor());
+	}
+
+    /** Constructs and returns new DynamicDoubleArray with "aGrowthFactor" */
+	private DynamicDoubleArray(double aGrowthFactor) {
+		this.fixedArray = new double[DynamicArray.defaultInitialCapacity()];
+		this.growthFactor = aGrowthFactor;
+		this.capacity = DynamicArray.defaultInitialCapacity();
+		this.arraySize = 0;
+	}
+
+	//-------------------- List Statistics ---------------------
+
+	/**
+	 * Return number of elements in this list.
+	 */
+	public int size() {
+		return this.arraySize;
+	}
+
+	/**
+	 * Return true is this list contains no elements.
+	 */
+	public boolean isEmpty() {
+		return this.size() == 0;
+	}
+
+	//------------------ Accessing Elements --------------------
+
+	/**
+	 * Return element at given index.
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	public double get(int index) {
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		return this.fixedArray[index];
+	}
+
+	/**
+	 * Return first element
+	 * Throws RuntimeException if list is empty
+	 */
+	public double first() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.fixedArray[0];
+	}
+
+	/**
+	 * Return last element
+	 * Throws RuntimeException if list is empty
+	 */
+	public double last() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.fixedArray[this.size() - 1];
+	}
+
+	/**
+	 * Return a new list containing the elements of this list
+	 * between the given index "start" (inclusive) and
+	 * the given index "stop" (exclusive).
+	 * Throws IndexOutOfBoundsException if either passed index is invalid.
+	 */
+	public DynamicDoubleArray subList(int start, int stop) {
+		if (start < 0 || start > stop || stop > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		DynamicDoubleArray newList = new DynamicDoubleArray(this.growthFactor);
+		newList.appendBlock(this.fixedArray, start, stop - start);
+		return newList;
+	}
+
+	/**
+	 * Return index of first matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	public int findFirst(DoublePredicate searchFct) {
+		for (int i=0; i < this.size(); i++) {
+			if (searchFct.test(this.fixedArray[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Return index of last matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	public int findLast(DoublePredicate searchFct) {
+		for (int i=this.size() - 1; i >= 0; i--) {
+			if (searchFct.test(this.fixedArray[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	//------------------- Setting Elements ---------------------
+
+	/**
+	 * Insert passed arg "newElem" into position "index"
+	 * Return previous (replaced) elem at "index"
+	 * If "index" is invalid, throws IndexOutOfBoundsException.
+	*/
+	public double set(int index, double newElem) {
+		double oldElem = this.get(index);
+		this.fixedArray[index] = newElem;
+		return oldElem;
+	}
+
+	//------- Inserting, Appending & Replacing Elements --------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Add the passed element to start of list
+	 */
+	public void addFirst(double newElem) {
+		this.insert(0, newElem);
+	}
+
+	/**
+	 * Add the passed element to end of list
+	 */
+	public void addLast(double newElem) {
+		this.ensureCapacityFor(this.arraySize + 1);
+		this.fixedArray[this.arraySize++] = newElem;
+	}
+
+	/**
+	 * Alias for "addLast" (same functionality)
+	 */
+	public void add(double newElem) {
+		this.addLast(newElem);
+	}
+
+	/**
+	 * Add all elements from "otherList" into "this" list
+	 */
+	public void addAll(DynamicDoubleArray otherList) {
+		this.appendBlock(otherList.fixedArray, 0, otherList.size());
+	}
+
+	/**
+	 * Add all elements from passed fixed array "this" list
+	 */
+	public void addAll(double[] array) {
+		this.appendBlock(array, 0, array.length);
+	}
+
+	/**
+	 * Shift to the right the element currently at "insertIndex" (if any) and all elements to the right
+	 * Insert passed arg "newElem" into position "insertIndex"
+	 * Valid "insertIndex" values are between 0 and "size"
+	 * If "insertIndex" is invalid, throws IndexOutOfBoundsException
+	 */
+	public void insert(int insertIndex, double newElem) {
+		if (insertIndex < 0 || insertIndex > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.ensureCapacityFor(this.arraySize + 1);
+		System.arraycopy(this.fixedArray, insertIndex, this.fixedArray, insertIndex + 1, this.arraySize - insertIndex);
+		this.fixedArray[insertIndex] = newElem;
+		this.arraySize++;
+	}
+
+	//------------------- Removing Elements --------------------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Remove first element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	public double removeFirst() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.removeIndex(0);
+	}
+
+	/**
+	 * Remove last element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	public double removeLast() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.fixedArray[--this.arraySize];
+	}
+
+	/**
+	 * Reset the list so it is empty.
+	 */
+	public void removeAll() {
+		this.arraySize = 0;
+	}
+
+	/**
+	 * Remove elem at index
+	 * Return the removed element
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	public double removeIndex(int index) {
+		double removedElem = this.get(index);
+		System.arraycopy(this.fixedArray, index + 1, this.fixedArray, index, this.arraySize - index - 1);
+		this.arraySize--;
+		return removedElem;
+	}
+
+	/**
+	 * Remove first matching element (where searchFct outputs true)
+	 * Return true if an element was removed, false if there was no match
+	 */
+	public boolean removeFirstMatching(DoublePredicate searchFct) {
+		int index = this.findFirst(searchFct);
+		if (index == -1) {
+			return false;
+		}
+		this.removeIndex(index);
+		return true;
+	}
+
+	//----------------- Convenience Methods ------------------
+
+	/**
+	 * Return this list as an array (maintain same order of elements)
+	 */
+	public double[] toArray() {
+		return Arrays.copyOf(this.fixedArray, this.arraySize);
+	}
+
+	/**
+	 * Returns one-line user-friendly message about this object
+	 * Helpful method especially for debugging.
+	 */
+	@Override
+	public String toString() {
+		return "Growth Factor: " + growthFactor + ". Size: " + this.size() + ".";
+	}
+
+	/** Prints all elements to console, with newline after each */
+	public void printAll() {
+		for (int i=0; i < this.size(); i++) {
+			System.out.println(this.fixedArray[i]);
+		}
+	}
+
+	/** Iterates over elements in "this" object. For each element,
+	 * performs actionFct (passing element being iterated on)
+	 */
+	public void forEach(DoubleConsumer actionFct) {
+		for (int i=0; i < this.size(); i++) {
+			actionFct.accept(this.fixedArray[i]);
+		}
+	}
+
+	/** Return a DoubleStream over the elements of this list (directly over the backing array) */
+	public DoubleStream stream() {
+		return Arrays.stream(this.fixedArray, 0, this.arraySize);
+	}
+
+	/** Return new list that is "this" list joined
+	 * 	with "otherList" list (this list's elements are
+	 * 	first followed by the "otherList" list)
+	 */
+	public DynamicDoubleArray join(DynamicDoubleArray otherList) {
+		DynamicDoubleArray newList = new DynamicDoubleArray(this.growthFactor);
+		newList.ensureCapacityFor(this.size() + otherList.size());
+		newList.addAll(this);
+		newList.addAll(otherList);
+		return newList;
+	}
+
+	//----------------- Utility Methods ------------------
+
+	/**
+	 * Returns new list with "new elements". Each new element
+	 * is generated from mapFct invoked with an element from
+	 * this list.
+	 */
+	public DynamicDoubleArray map(DoubleUnaryOperator mapFct) {
+		DynamicDoubleArray newList = new DynamicDoubleArray(this.growthFactor);
+		newList.ensureCapacityFor(this.size());
+		for (int i=0; i < this.size(); i++) {
+			newList.fixedArray[i] = mapFct.applyAsDouble(this.fixedArray[i]);
+		}
+		newList.arraySize = this.size();
+		return newList;
+	}
+
+	/**
+	 * Returns new list which is elements
+	 * selected from this list via selectFct
+	 */
+	public DynamicDoubleArray select(DoublePredicate selectFct) {
+		DynamicDoubleArray newList = new DynamicDoubleArray(this.growthFactor);
+		for (int i=0; i < this.size(); i++) {
+			if (selectFct.test(this.fixedArray[i])) {
+				newList.addLast(this.fixedArray[i]);
+			}
+		}
+		return newList;
+	}
+
+	/**
+	 * Returns new list which is this list
+	 * with elements rejected via rejectFct
+	 */
+	public DynamicDoubleArray reject(DoublePredicate rejectFct) {
+		return this.select(rejectFct.negate());
+	}
+
+	/** Accumulate a value by iterating over the collection
+	  * and accumulating during iteration (e.g., a "sum")
+	  */
+	public double accumulate(DoubleBinaryOperator fct, double initialValue) {
+		double sum = initialValue;
+		for (int i=0; i < this.size(); i++) {
+			sum = fct.applyAsDouble(sum, this.fixedArray[i]);
+		}
+		return sum;
+	}
+
+	//----------------- Numeric Methods ------------------
+	//---------- (SIMD kernels when Kernels.VECTORIZED) ----------
+
+	/**
+	 * Return sum of the elements (the order of the additions, and so the
+	 * rounding, depends on the kernels in use)
+	 */
+	public double sum() {
+		return Kernels.INSTANCE.sum(this.fixedArray, this.arraySize);
+	}
+
+	/**
+	 * Return smallest element (NaN if any element is NaN)
+	 * Throws RuntimeException if list is empty
+	 */
+	public double min() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return Kernels.INSTANCE.min(this.fixedArray, this.arraySize);
+	}
+
+	/**
+	 * Return largest element (NaN if any element is NaN)
+	 * Throws RuntimeException if list is empty
+	 */
+	public double max() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return Kernels.INSTANCE.max(this.fixedArray, this.arraySize);
+	}
+
+	/**
+	 * Return index of first element equal to "value"
+	 * Return -1 if no match
+	 */
+	public int indexOf(double value) {
+		return Kernels.INSTANCE.indexOf(this.fixedArray, this.arraySize, value);
+	}
+
+	/**
+	 * Return number of elements between "low" and "high" (inclusive; NaN is in no range)
+	 */
+	public int countInRange(double low, double high) {
+		return Kernels.INSTANCE.countInRange(this.fixedArray, this.arraySize, low, high);
+	}
+
+	/**
+	 * Return index of first element between "low" and "high" (inclusive)
+	 * Return -1 if no match
+	 */
+	public int findFirstInRange(double low, double high) {
+		return Kernels.INSTANCE.findFirstInRange(this.fixedArray, this.arraySize, low, high);
+	}
+
+	/**
+	 * Returns new list holding the elements between "low" and "high" (inclusive), in order
+	 */
+	public DynamicDoubleArray selectInRange(double low, double high) {
+		DynamicDoubleArray newList = new DynamicDoubleArray(this.growthFactor);
+		newList.ensureCapacityFor(this.size());
+		newList.arraySize = Kernels.INSTANCE.selectInRange(this.fixedArray, this.arraySize, low, high,
+				newList.fixedArray);
+		return newList;
+	}
+
+	/**
+	 * Return number of elements greater than or equal to "threshold"
+	 */
+	public int countAtLeast(double threshold) {
+		return this.countInRange(threshold, Double.POSITIVE_INFINITY);
+	}
+
+	/**
+	 * Return index of first element greater than or equal to "threshold"
+	 * Return -1 if no match
+	 */
+	public int findFirstAtLeast(double threshold) {
+		return this.findFirstInRange(threshold, Double.POSITIVE_INFINITY);
+	}
+
+	/**
+	 * Returns new list holding the elements greater than or equal to "threshold", in order
+	 */
+	public DynamicDoubleArray selectAtLeast(double threshold) {
+		return this.selectInRange(threshold, Double.POSITIVE_INFINITY);
+	}
+
+    //---------------------------------
+    // Public Constructors (Static Factory Constructor Methods)
+	//---------------------------------
+
+    /** Returns a new empty DynamicDoubleArray */
+    public static DynamicDoubleArray newEmpty() {
+        return new DynamicDoubleArray();
+    }
+
+    /** Return a new empty DynamicDoubleArray with "growthFactor" */
+    public static DynamicDoubleArray fromGrowthFactor(double growthFactor) {
+        return new DynamicDoubleArray(growthFactor);
+    }
+
+    /** Return a new DynamicDoubleArray that contains all elements from the
+     *	param "aFixedArray" */
+    public static DynamicDoubleArray from(double[] aFixedArray) {
+    	DynamicDoubleArray dynamic = new DynamicDoubleArray();
+    	dynamic.addAll(aFixedArray);
+        return dynamic;
+    }
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Appends "length" elements of "source" starting at "offset" with a single block copy
+	private void appendBlock(double[] source, int offset, int length) {
+		this.ensureCapacityFor(this.arraySize + length);
+		System.arraycopy(source, offset, this.fixedArray, this.arraySize, length);
+		this.arraySize += length;
+	}
+
+	// Grows the backing array (if needed) by multiplying the capacity by the growthFactor
+	// until it can hold at least minCapacity elements.
+	private void ensureCapacityFor(int minCapacity) {
+		if (minCapacity <= this.capacity) {
+			return;
+		}
+		int newSize = this.capacity;
+		while (newSize < minCapacity) {
+			int nextSize = (int) (this.growthFactor * newSize);
+			newSize = nextSize > newSize ? nextSize : minCapacity;
+		}
+		this.fixedArray = Arrays.copyOf(this.fixedArray, newSize);
+		this.capacity = newSize;
+	}
+}
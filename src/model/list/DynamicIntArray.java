@@ -0,0 +1,504 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Dynamic Int Array
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	This class is a implementation of the Dynamic Array data structure specialized
+ *	for int elements. It mirrors the DynamicList operations, but keeps its elements
+ *	in an int[] and takes primitive functional interfaces, so nothing is ever boxed.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+public class DynamicIntArray {
+
+    //---------------------------------
+    // Instance Variables
+	private int[] fixedArray;
+	private int arraySize;
+	private double growthFactor;
+	private int capacity;
+
+    //---------------------------------
+    // Private Constructors
+
+    /** Constructs and returns new DynamicIntArray (no args constructor) */
+	private DynamicIntArray() {
+		this(DynamicArray.defaultGrowthFactor());
+	}
+
+    /** Constructs and returns new DynamicIntArray with "aGrowthFactor" */
+	private DynamicIntArray(double aGrowthFactor) {
+		this.fixedArray = new int[DynamicArray.defaultInitialCapacity()];
+		this.growthFactor = aGrowthFactor;
+		this.capacity = DynamicArray.defaultInitialCapacity();
+		this.arraySize = 0;
+	}
+
+	//-------------------- List Statistics ---------------------
+
+	/**
+	 * Return number of elements in this list.
+	 */
+	public int size() {
+		return this.arraySize;
+	}
+
+	/**
+	 * Return true is this list contains no elements.
+	 */
+	public boolean isEmpty() {
+		return this.size() == 0;
+	}
+
+	//------------------ Accessing Elements --------------------
+
+	/**
+	 * Return element at given index.
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	public int get(int index) {
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		return this.fixedArray[index];
+	}
+
+	/**
+	 * Return first element
+	 * Throws RuntimeException if list is empty
+	 */
+	public int first() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.fixedArray[0];
+	}
+
+	/**
+	 * Return last element
+	 * Throws RuntimeException if list is empty
+	 */
+	public int last() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.fixedArray[this.size() - 1];
+	}
+
+	/**
+	 * Return a new list containing the elements of this list
+	 * between the given index "start" (inclusive) and
+	 * the given index "stop" (exclusive).
+	 * Throws IndexOutOfBoundsException if either passed index is invalid.
+	 */
+	public DynamicIntArray subList(int start, int stop) {
+		if (start < 0 || start > stop || stop > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		DynamicIntArray newList = new DynamicIntArray(this.growthFactor);
+		newList.appendBlock(this.fixedArray, start, stop - start);
+		return newList;
+	}
+
+	/**
+	 * Return index of first matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	public int findFirst(IntPredicate searchFct) {
+		for (int i=0; i < this.size(); i++) {
+			if (searchFct.test(this.fixedArray[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Return index of last matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	public int findLast(IntPredicate searchFct) {
+		for (int i=this.size() - 1; i >= 0; i--) {
+			if (searchFct.test(this.fixedArray[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	//------------------- Setting Elements ---------------------
+
+	/**
+	 * Insert passed arg "newElem" into position "index"
+	 * Return previous (replaced) elem at "index"
+	 * If "index" is invalid, throws IndexOutOfBoundsException.
+	*/
+	public int set(int index, int newElem) {
+		int oldElem = this.get(index);
+		this.fixedArray[index] = newElem;
+		return oldElem;
+	}
+
+	//------- Inserting, Appending & Replacing Elements --------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Add the passed element to start of list
+	 */
+	public void addFirst(int newElem) {
+		this.insert(0, newElem);
+	}
+
+	/**
+	 * Add the passed element to end of list
+	 */
+	public void addLast(int newElem) {
+		this.ensureCapacityFor(this.arraySize + 1);
+		this.fixedArray[this.arraySize++] = newElem;
+	}
+
+	/**
+	 * Alias for "addLast" (same functionality)
+	 */
+	public void add(int newElem) {
+		this.addLast(newElem);
+	}
+
+	/**
+	 * Add all elements from "otherList" into "this" list
+	 */
+	public void addAll(DynamicIntArray otherList) {
+		this.appendBlock(otherList.fixedArray, 0, otherList.size());
+	}
+
+	/**
+	 * Add all elements from passed fixed array "this" list
+	 */
+	public void addAll(int[] array) {
+		this.appendBlock(array, 0, array.length);
+	}
+
+	/**
+	 * Shift to the right the element currently at "insertIndex" (if any) and all elements to the right
+	 * Insert passed arg "newElem" into position "insertIndex"
+	 * Valid "insertIndex" values are between 0 and "size"
+	 * If "insertIndex" is invalid, throws IndexOutOfBoundsException
+	 */
+	public void insert(int insertIndex, int newElem) {
+		if (insertIndex < 0 || insertIndex > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.ensureCapacityFor(this.arraySize + 1);
+		System.arraycopy(this.fixedArray, insertIndex, this.fixedArray, insertIndex + 1, this.arraySize - insertIndex);
+		this.fixedArray[insertIndex] = newElem;
+		this.arraySize++;
+	}
+
+	//------------------- Removing Elements --------------------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Remove first element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	public int removeFirst() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.removeIndex(0);
+	}
+
+	/**
+	 * Remove last element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	public int removeLast() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.fixedArray[--this.arraySize];
+	}
+
+	/**
+	 * Reset the list so it is empty.
+	 */
+	public void removeAll() {
+		this.arraySize = 0;
+	}
+
+	/**
+	 * Remove elem at index
+	 * Return the removed element
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	public int removeIndex(int index) {
+		int removedElem = this.get(index);
+		System.arraycopy(this.fixedArray, index + 1, this.fixedArray, index, this.arraySize - index - 1);
+		this.arraySize--;
+		return removedElem;
+	}
+
+	/**
+	 * Remove first matching element (where searchFct outputs true)
+	 * Return true if an element was removed, false if there was no match
+	 */
+	public boolean removeFirstMatching(IntPredicate searchFct) {
+		int index = this.findFirst(searchFct);
+		if (index == -1) {
+			return false;
+		}
+		this.removeIndex(index);
+		return true;
+	}
+
+	//----------------- Convenience Methods ------------------
+
+	/**
+	 * Return this list as an array (maintain same order of elements)
+	 */
+	public int[] toArray() {
+		return Arrays.copyOf(this.fixedArray, this.arraySize);
+	}
+
+	/**
+	 * Returns one-line user-friendly message about this object
+	 * Helpful method especially for debugging.
+	 */
+	@Override
+	public String toString() {
+		return "Growth Factor: " + growthFactor + ". Size: " + this.size() + ".";
+	}
+
+	/** Prints all elements to console, with newline after each */
+	public void printAll() {
+		for (int i=0; i < this.size(); i++) {
+			System.out.println(this.fixedArray[i]);
+		}
+	}
+
+	/** Iterates over elements in "this" object. For each element,
+	 * performs actionFct (passing element being iterated on)
+	 */
+	public void forEach(IntConsumer actionFct) {
+		for (int i=0; i < this.size(); i++) {
+			actionFct.accept(this.fixedArray[i]);
+		}
+	}
+
+	/** Return an IntStream over the elements of this list (directly over the backing array) */
+	public IntStream stream() {
+		return Arrays.stream(this.fixedArray, 0, this.arraySize);
+	}
+
+	/** Return new list that is "this" list joined
+	 * 	with "otherList" list (this list's elements are
+	 * 	first followed by the "otherList" list)
+	 */
+	public DynamicIntArray join(DynamicIntArray otherList) {
+		DynamicIntArray newList = new DynamicIntArray(this.growthFactor);
+		newList.ensureCapacityFor(this.size() + otherList.size());
+		newList.addAll(this);
+		newList.addAll(otherList);
+		return newList;
+	}
+
+	//----------------- Utility Methods ------------------
+
+	/**
+	 * Returns new list with "new elements". Each new element
+	 * is generated from mapFct invoked with an element from
+	 * this list.
+	 */
+	public DynamicIntArray map(IntUnaryOperator mapFct) {
+		DynamicIntArray newList = new DynamicIntArray(this.growthFactor);
+		newList.ensureCapacityFor(this.size());
+		for (int i=0; i < this.size(); i++) {
+			newList.fixedArray[i] = mapFct.applyAsInt(this.fixedArray[i]);
+		}
+		newList.arraySize = this.size();
+		return newList;
+	}
+
+	/**
+	 * Returns new list which is elements
+	 * selected from this list via selectFct
+	 */
+	public DynamicIntArray select(IntPredicate selectFct) {
+		DynamicIntArray newList = new DynamicIntArray(this.growthFactor);
+		for (int i=0; i < this.size(); i++) {
+			if (selectFct.test(this.fixedArray[i])) {
+				newList.addLast(this.fixedArray[i]);
+			}
+		}
+		return newList;
+	}
+
+	/**
+	 * Returns new list which is this list
+	 * with elements rejected via rejectFct
+	 */
+	public DynamicIntArray reject(IntPredicate rejectFct) {
+		return this.select(rejectFct.negate());
+	}
+
+	/** Accumulate a value by iterating over the collection
+	  * and accumulating during iteration (e.g., a "sum")
+	  */
+	public int accumulate(IntBinaryOperator fct, int initialValue) {
+		int sum = initialValue;
+		for (int i=0; i < this.size(); i++) {
+			sum = fct.applyAsInt(sum, this.fixedArray[i]);
+		}
+		return sum;
+	}
+
+	//----------------- Numeric Methods ------------------
+	//---------- (SIMD kernels when Kernels.VECTORIZED) ----------
+
+	/** Return sum of the elements (as a long, so it does not overflow) */
+	public long sum() {
+		return Kernels.INSTANCE.sum(this.fixedArray, this.arraySize);
+	}
+
+	/**
+	 * Return smallest element
+	 * Throws RuntimeException if list is empty
+	 */
+	public int min() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return Kernels.INSTANCE.min(this.fixedArray, this.arraySize);
+	}
+
+	/**
+	 * Return largest element
+	 * Throws RuntimeException if list is empty
+	 */
+	public int max() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return Kernels.INSTANCE.max(this.fixedArray, this.arraySize);
+	}
+
+	/**
+	 * Return index of first element equal to "value"
+	 * Return -1 if no match
+	 */
+	public int indexOf(int value) {
+		return Kernels.INSTANCE.indexOf(this.fixedArray, this.arraySize, value);
+	}
+
+	/**
+	 * Return number of elements between "low" and "high" (inclusive)
+	 */
+	public int countInRange(int low, int high) {
+		return Kernels.INSTANCE.countInRange(this.fixedArray, this.arraySize, low, high);
+	}
+
+	/**
+	 * Return index of first element between "low" and "high" (inclusive)
+	 * Return -1 if no match
+	 */
+	public int findFirstInRange(int low, int high) {
+		return Kernels.INSTANCE.findFirstInRange(this.fixedArray, this.arraySize, low, high);
+	}
+
+	/**
+	 * Returns new list holding the elements between "low" and "high" (inclusive), in order
+	 */
+	public DynamicIntArray selectInRange(int low, int high) {
+		DynamicIntArray newList = new DynamicIntArray(this.growthFactor);
+		newList.ensureCapacityFor(this.size());
+		newList.arraySize = Kernels.INSTANCE.selectInRange(this.fixedArray, this.arraySize, low, high,
+				newList.fixedArray);
+		return newList;
+	}
+
+	/**
+	 * Return number of elements greater than or equal to "threshold"
+	 */
+	public int countAtLeast(int threshold) {
+		return this.countInRange(threshold, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Return index of first element greater than or equal to "threshold"
+	 * Return -1 if no match
+	 */
+	public int findFirstAtLeast(int threshold) {
+		return this.findFirstInRange(threshold, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns new list holding the elements greater than or equal to "threshold", in order
+	 */
+	public DynamicIntArray selectAtLeast(int threshold) {
+		return this.selectInRange(threshold, Integer.MAX_VALUE);
+	}
+
+    //---------------------------------
+    // Public Constructors (Static Factory Constructor Methods)
+	//---------------------------------
+
+    /** Returns a new empty DynamicIntArray */
+    public static DynamicIntArray newEmpty() {
+        return new DynamicIntArray();
+    }
+
+    /** Return a new empty DynamicIntArray with "growthFactor" */
+    public static DynamicIntArray fromGrowthFactor(double growthFactor) {
+        return new DynamicIntArray(growthFactor);
+    }
+
+    /** Return a new DynamicIntArray that contains all elements from the
+     *	param "aFixedArray" */
+    public static DynamicIntArray from(int[] aFixedArray) {
+    	DynamicIntArray dynamic = new DynamicIntArray();
+    	dynamic.addAll(aFixedArray);
+        return dynamic;
+    }
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Appends "length" elements of "source" starting at "offset" with a single block copy
+	private void appendBlock(int[] source, int offset, int length) {
+		this.ensureCapacityFor(this.arraySize + length);
+		System.arraycopy(source, offset, this.fixedArray, this.arraySize, length);
+		this.arraySize += length;
+	}
+
+	// Grows the backing array (if needed) by multiplying the capacity by the growthFactor
+	// until it can hold at least minCapacity elements.
+	private void ensureCapacityFor(int minCapacity) {
+		if (minCapacity <= this.capacity) {
+			return;
+		}
+		int newSize = this.capacity;
+		while (newSize < minCapacity) {
+			int nextSize = (int) (this.growthFactor * newSize);
+			newSize = nextSize > newSize ? nextSize : minCapacity;
+		}
+		this.fixedArray = Arrays.copyOf(this.fixedArray, newSize);
+		this.capacity = newSize;
+	}
+}
@@ -0,0 +1,504 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Dynamic Long Array
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	This class is a implementation of the Dynamic Array data structure specialized
+ *	for long elements. It mirrors the DynamicList operations, but keeps its elements
+ *	in a long[] and takes primitive functional interfaces, so nothing is ever boxed.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.util.Arrays;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+public class DynamicLongArray {
+
+    //---------------------------------
+    // Instance Variables
+	private long[] fixedArray;
+	private int arraySize;
+	private double growthFactor;
+	private int capacity;
+
+    //---------------------------------
+    // Private Constructors
+
+    /** Constructs and returns new DynamicLongArray (no args constructor) */
+	private DynamicLongArray() {
+		this(DynamicArray.defaultGrowthFactor());
+	}
+
+    /** Constructs and returns new DynamicLongArray with "aGrowthFactor" */
+	private DynamicLongArray(double aGrowthFactor) {
+		this.fixedArray = new long[DynamicArray.defaultInitialCapacity()];
+		this.growthFactor = aGrowthFactor;
+		this.capacity = DynamicArray.defaultInitialCapacity();
+		this.arraySize = 0;
+	}
+
+	//-------------------- List Statistics ---------------------
+
+	/**
+	 * Return number of elements in this list.
+	 */
+	public int size() {
+		return this.arraySize;
+	}
+
+	/**
+	 * Return true is this list contains no elements.
+	 */
+	public boolean isEmpty() {
+		return this.size() == 0;
+	}
+
+	//------------------ Accessing Elements --------------------
+
+	/**
+	 * Return element at given index.
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	public long get(int index) {
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		return this.fixedArray[index];
+	}
+
+	/**
+	 * Return first element
+	 * Throws RuntimeException if list is empty
+	 */
+	public long first() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.fixedArray[0];
+	}
+
+	/**
+	 * Return last element
+	 * Throws RuntimeException if list is empty
+	 */
+	public long last() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.fixedArray[this.size() - 1];
+	}
+
+	/**
+	 * Return a new list containing the elements of this list
+	 * between the given index "start" (inclusive) and
+	 * the given index "stop" (exclusive).
+	 * Throws IndexOutOfBoundsException if either passed index is invalid.
+	 */
+	public DynamicLongArray subList(int start, int stop) {
+		if (start < 0 || start > stop || stop > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		DynamicLongArray newList = new DynamicLongArray(this.growthFactor);
+		newList.appendBlock(this.fixedArray, start, stop - start);
+		return newList;
+	}
+
+	/**
+	 * Return index of first matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	public int findFirst(LongPredicate searchFct) {
+		for (int i=0; i < this.size(); i++) {
+			if (searchFct.test(this.fixedArray[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Return index of last matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	public int findLast(LongPredicate searchFct) {
+		for (int i=this.size() - 1; i >= 0; i--) {
+			if (searchFct.test(this.fixedArray[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	//------------------- Setting Elements ---------------------
+
+	/**
+	 * Insert passed arg "newElem" into position "index"
+	 * Return previous (replaced) elem at "index"
+	 * If "index" is invalid, throws IndexOutOfBoundsException.
+	*/
+	public long set(int index, long newElem) {
+		long oldElem = this.get(index);
+		this.fixedArray[index] = newElem;
+		return oldElem;
+	}
+
+	//------- Inserting, Appending & Replacing Elements --------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Add the passed element to start of list
+	 */
+	public void addFirst(long newElem) {
+		this.insert(0, newElem);
+	}
+
+	/**
+	 * Add the passed element to end of list
+	 */
+	public void addLast(long newElem) {
+		this.ensureCapacityFor(this.arraySize + 1);
+		this.fixedArray[this.arraySize++] = newElem;
+	}
+
+	/**
+	 * Alias for "addLast" (same functionality)
+	 */
+	public void add(long newElem) {
+		this.addLast(newElem);
+	}
+
+	/**
+	 * Add all elements from "otherList" into "this" list
+	 */
+	public void addAll(DynamicLongArray otherList) {
+		this.appendBlock(otherList.fixedArray, 0, otherList.size());
+	}
+
+	/**
+	 * Add all elements from passed fixed array "this" list
+	 */
+	public void addAll(long[] array) {
+		this.appendBlock(array, 0, array.length);
+	}
+
+	/**
+	 * Shift to the right the element currently at "insertIndex" (if any) and all elements to the right
+	 * Insert passed arg "newElem" into position "insertIndex"
+	 * Valid "insertIndex" values are between 0 and "size"
+	 * If "insertIndex" is invalid, throws IndexOutOfBoundsException
+	 */
+	public void insert(int insertIndex, long newElem) {
+		if (insertIndex < 0 || insertIndex > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.ensureCapacityFor(this.arraySize + 1);
+		System.arraycopy(this.fixedArray, insertIndex, this.fixedArray, insertIndex + 1, this.arraySize - insertIndex);
+		this.fixedArray[insertIndex] = newElem;
+		this.arraySize++;
+	}
+
+	//------------------- Removing Elements --------------------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Remove first element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	public long removeFirst() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.removeIndex(0);
+	}
+
+	/**
+	 * Remove last element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	public long removeLast() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.fixedArray[--this.arraySize];
+	}
+
+	/**
+	 * Reset the list so it is empty.
+	 */
+	public void removeAll() {
+		this.arraySize = 0;
+	}
+
+	/**
+	 * Remove elem at index
+	 * Return the removed element
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	public long removeIndex(int index) {
+		long removedElem = this.get(index);
+		System.arraycopy(this.fixedArray, index + 1, this.fixedArray, index, this.arraySize - index - 1);
+		this.arraySize--;
+		return removedElem;
+	}
+
+	/**
+	 * Remove first matching element (where searchFct outputs true)
+	 * Return true if an element was removed, false if there was no match
+	 */
+	public boolean removeFirstMatching(LongPredicate searchFct) {
+		int index = this.findFirst(searchFct);
+		if (index == -1) {
+			return false;
+		}
+		this.removeIndex(index);
+		return true;
+	}
+
+	//----------------- Convenience Methods ------------------
+
+	/**
+	 * Return this list as an array (maintain same order of elements)
+	 */
+	public long[] toArray() {
+		return Arrays.copyOf(this.fixedArray, this.arraySize);
+	}
+
+	/**
+	 * Returns one-line user-friendly message about this object
+	 * Helpful method especially for debugging.
+	 */
+	@Override
+	public String toString() {
+		return "Growth Factor: " + growthFactor + ". Size: " + this.size() + ".";
+	}
+
+	/** Prints all elements to console, with newline after each */
+	public void printAll() {
+		for (int i=0; i < this.size(); i++) {
+			System.out.println(this.fixedArray[i]);
+		}
+	}
+
+	/** Iterates over elements in "this" object. For each element,
+	 * performs actionFct (passing element being iterated on)
+	 */
+	public void forEach(LongConsumer actionFct) {
+		for (int i=0; i < this.size(); i++) {
+			actionFct.accept(this.fixedArray[i]);
+		}
+	}
+
+	/** Return a LongStream over the elements of this list (directly over the backing array) */
+	public LongStream stream() {
+		return Arrays.stream(this.fixedArray, 0, this.arraySize);
+	}
+
+	/** Return new list that is "this" list joined
+	 * 	with "otherList" list (this list's elements are
+	 * 	first followed by the "otherList" list)
+	 */
+	public DynamicLongArray join(DynamicLongArray otherList) {
+		DynamicLongArray newList = new DynamicLongArray(this.growthFactor);
+		newList.ensureCapacityFor(this.size() + otherList.size());
+		newList.addAll(this);
+		newList.addAll(otherList);
+		return newList;
+	}
+
+	//----------------- Utility Methods ------------------
+
+	/**
+	 * Returns new list with "new elements". Each new element
+	 * is generated from mapFct invoked with an element from
+	 * this list.
+	 */
+	public DynamicLongArray map(LongUnaryOperator mapFct) {
+		DynamicLongArray newList = new DynamicLongArray(this.growthFactor);
+		newList.ensureCapacityFor(this.size());
+		for (int i=0; i < this.size(); i++) {
+			newList.fixedArray[i] = mapFct.applyAsLong(this.fixedArray[i]);
+		}
+		newList.arraySize = this.size();
+		return newList;
+	}
+
+	/**
+	 * Returns new list which is elements
+	 * selected from this list via selectFct
+	 */
+	public DynamicLongArray select(LongPredicate selectFct) {
+		DynamicLongArray newList = new DynamicLongArray(this.growthFactor);
+		for (int i=0; i < this.size(); i++) {
+			if (selectFct.test(this.fixedArray[i])) {
+				newList.addLast(this.fixedArray[i]);
+			}
+		}
+		return newList;
+	}
+
+	/**
+	 * Returns new list which is this list
+	 * with elements rejected via rejectFct
+	 */
+	public DynamicLongArray reject(LongPredicate rejectFct) {
+		return this.select(rejectFct.negate());
+	}
+
+	/** Accumulate a value by iterating over the collection
+	  * and accumulating during iteration (e.g., a "sum")
+	  */
+	public long accumulate(LongBinaryOperator fct, long initialValue) {
+		long sum = initialValue;
+		for (int i=0; i < this.size(); i++) {
+			sum = fct.applyAsLong(sum, this.fixedArray[i]);
+		}
+		return sum;
+	}
+
+	//----------------- Numeric Methods ------------------
+	//---------- (SIMD kernels when Kernels.VECTORIZED) ----------
+
+	/** Return sum of the elements (wraps around silently on overflow, like long addition) */
+	public long sum() {
+		return Kernels.INSTANCE.sum(this.fixedArray, this.arraySize);
+	}
+
+	/**
+	 * Return smallest element
+	 * Throws RuntimeException if list is empty
+	 */
+	public long min() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return Kernels.INSTANCE.min(this.fixedArray, this.arraySize);
+	}
+
+	/**
+	 * Return largest element
+	 * Throws RuntimeException if list is empty
+	 */
+	public long max() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return Kernels.INSTANCE.max(this.fixedArray, this.arraySize);
+	}
+
+	/**
+	 * Return index of first element equal to "value"
+	 * Return -1 if no match
+	 */
+	public int indexOf(long value) {
+		return Kernels.INSTANCE.indexOf(this.fixedArray, this.arraySize, value);
+	}
+
+	/**
+	 * Return number of elements between "low" and "high" (inclusive)
+	 */
+	public int countInRange(long low, long high) {
+		return Kernels.INSTANCE.countInRange(this.fixedArray, this.arraySize, low, high);
+	}
+
+	/**
+	 * Return index of first element between "low" and "high" (inclusive)
+	 * Return -1 if no match
+	 */
+	public int findFirstInRange(long low, long high) {
+		return Kernels.INSTANCE.findFirstInRange(this.fixedArray, this.arraySize, low, high);
+	}
+
+	/**
+	 * Returns new list holding the elements between "low" and "high" (inclusive), in order
+	 */
+	public DynamicLongArray selectInRange(long low, long high) {
+		DynamicLongArray newList = new DynamicLongArray(this.growthFactor);
+		newList.ensureCapacityFor(this.size());
+		newList.arraySize = Kernels.INSTANCE.selectInRange(this.fixedArray, this.arraySize, low, high,
+				newList.fixedArray);
+		return newList;
+	}
+
+	/**
+	 * Return number of elements greater than or equal to "threshold"
+	 */
+	public int countAtLeast(long threshold) {
+		return this.countInRange(threshold, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Return index of first element greater than or equal to "threshold"
+	 * Return -1 if no match
+	 */
+	public int findFirstAtLeast(long threshold) {
+		return this.findFirstInRange(threshold, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Returns new list holding the elements greater than or equal to "threshold", in order
+	 */
+	public DynamicLongArray selectAtLeast(long threshold) {
+		return this.selectInRange(threshold, Long.MAX_VALUE);
+	}
+
+    //---------------------------------
+    // Public Constructors (Static Factory Constructor Methods)
+	//---------------------------------
+
+    /** Returns a new empty DynamicLongArray */
+    public static DynamicLongArray newEmpty() {
+        return new DynamicLongArray();
+    }
+
+    /** Return a new empty DynamicLongArray with "growthFactor" */
+    public static DynamicLongArray fromGrowthFactor(double growthFactor) {
+        return new DynamicLongArray(growthFactor);
+    }
+
+    /** Return a new DynamicLongArray that contains all elements from the
+     *	param "aFixedArray" */
+    public static DynamicLongArray from(long[] aFixedArray) {
+    	DynamicLongArray dynamic = new DynamicLongArray();
+    	dynamic.addAll(aFixedArray);
+        return dynamic;
+    }
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Appends "length" elements of "source" starting at "offset" with a single block copy
+	private void appendBlock(long[] source, int offset, int length) {
+		this.ensureCapacityFor(this.arraySize + length);
+		System.arraycopy(source, offset, this.fixedArray, this.arraySize, length);
+		this.arraySize += length;
+	}
+
+	// Grows the backing array (if needed) by multiplying the capacity by the growthFactor
+	// until it can hold at least minCapacity elements.
+	private void ensureCapacityFor(int minCapacity) {
+		if (minCapacity <= this.capacity) {
+			return;
+		}
+		int newSize = this.capacity;
+		while (newSize < minCapacity) {
+			int nextSize = (int) (this.growthFactor * newSize);
+			newSize = nextSize > newSize ? nextSize : minCapacity;
+		}
+		this.fixedArray = Arrays.copyOf(this.fixedArray, newSize);
+		this.capacity = newSize;
+	}
+}
@@ -0,0 +1,62 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Fixed Width Codec
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Describes how an element of a fixed-size value layout is stored in a ByteBuffer.
+ *	Every element takes exactly "width" bytes, so the element at index i lives at
+ *	byte offset i * width.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.nio.ByteBuffer;
+
+public interface FixedWidthCodec<E> {
+
+	/** Layout for Integer elements (4 bytes each) */
+	FixedWidthCodec<Integer> INT = new FixedWidthCodec<>() {
+		public int width() { return Integer.BYTES; }
+		public void write(ByteBuffer buffer, int offset, Integer elem) { buffer.putInt(offset, elem); }
+		public Integer read(ByteBuffer buffer, int offset) { return buffer.getInt(offset); }
+	};
+
+	/** Layout for Long elements (8 bytes each) */
+	FixedWidthCodec<Long> LONG = new FixedWidthCodec<>() {
+		public int width() { return Long.BYTES; }
+		public void write(ByteBuffer buffer, int offset, Long elem) { buffer.putLong(offset, elem); }
+		public Long read(ByteBuffer buffer, int offset) { return buffer.getLong(offset); }
+	};
+
+	/** Layout for Double elements (8 bytes each) */
+	FixedWidthCodec<Double> DOUBLE = new FixedWidthCodec<>() {
+		public int width() { return Double.BYTES; }
+		public void write(ByteBuffer buffer, int offset, Double elem) { buffer.putDouble(offset, elem); }
+		public Double read(ByteBuffer buffer, int offset) { return buffer.getDouble(offset); }
+	};
+
+	/**
+	 * Return the number of bytes every element takes
+	 */
+	int width();
+
+	/**
+	 * Write "elem" into "buffer" starting at the absolute byte "offset"
+	 * (must write exactly "width" bytes and must not move the buffer position)
+	 */
+	void write(ByteBuffer buffer, int offset, E elem);
+
+	/**
+	 * Read the element starting at the absolute byte "offset" of "buffer"
+	 * (must not move the buffer position)
+	 */
+	E read(ByteBuffer buffer, int offset);
+}
@@ -0,0 +1,576 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Gap Buffer List
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	This class is a implementation of the Dynamic Array data structure as a gap
+ *	buffer, the layout text editors use: the free slots of the fixed array form
+ *	one "gap" that is kept at the position of the last insert or removal.
+ *
+ *	The elements before the gap sit at the start of the array and the elements
+ *	after it at the end. insert and removeIndex first move the gap to the index
+ *	(copying only the elements between the old and the new position, with one
+ *	block copy), then fill or widen the gap by one slot. Edits that stay close to
+ *	the previous one are therefore O(1) amortized, wherever they are in the list.
+ *	For inserts at scattered positions in very large lists see RopeList.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import model.linearpub.DynamicList;
+import model.linearpub.StructureIterator;
+
+public class GapBufferList<E> implements DynamicList<E> {
+
+    //---------------------------------
+    // Instance Variables
+	private E[] fixedArray;
+	private int gapStart;
+	private int gapEnd;
+	private double growthFactor;
+	private int modCount;
+
+    //---------------------------------
+    // Private Constructors
+
+    /** Constructs and returns new GapBufferList (no args constructor) */
+	private GapBufferList() {
+		this(DynamicArray.defaultGrowthFactor());
+	}
+
+    /** Constructs and returns new GapBufferList with "aGrowthFactor" */
+	@SuppressWarnings("unchecked")
+	private GapBufferList(double aGrowthFactor) {
+		this.fixedArray = (E[]) new Object[DynamicArray.defaultInitialCapacity()];
+		this.growthFactor = aGrowthFactor;
+		this.gapStart = 0;
+		this.gapEnd = this.fixedArray.length;
+	}
+
+	//-------------------- List Statistics ---------------------
+
+	/**
+	 * Return number of elements in this list.
+	 */
+	@Override
+	public int size() {
+		return this.fixedArray.length - (this.gapEnd - this.gapStart);
+	}
+
+	/**
+	 * Return true is this list contains no elements.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return this.size() == 0;
+	}
+
+	/**
+	 * Return index where the gap currently is (the position of the last edit)
+	 */
+	public int gapPosition() {
+		return this.gapStart;
+	}
+
+	/**
+	 * Grow the backing array (if needed) so that it can hold at least
+	 * "minCapacity" elements without growing again.
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > this.fixedArray.length) {
+			this.resize(minCapacity);
+		}
+	}
+
+	/**
+	 * Shrink the backing array so that its capacity is the size of the list
+	 * (the gap becomes empty).
+	 */
+	@Override
+	public void trimToSize() {
+		if (this.gapEnd > this.gapStart) {
+			this.resize(this.size());
+		}
+	}
+
+	//------------------ Accessing Elements --------------------
+
+	/**
+	 * Return element at given index.
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	public E get(int index) {
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		return this.fixedArray[this.physical(index)];
+	}
+
+	/**
+	 * Return first element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E first() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.get(0);
+	}
+
+	/**
+	 * Return last element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E last() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.get(this.size() - 1);
+	}
+
+	/**
+	 * Return a new list containing the elements of this list
+	 * between the given index "start" (inclusive) and
+	 * the given index "stop" (exclusive).
+	 * Throws IndexOutOfBoundsException if either passed index is invalid.
+	 */
+	@Override
+	public DynamicList<E> subList(int start, int stop) {
+		if (start < 0 || start > stop || stop > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		GapBufferList<E> newList = new GapBufferList<>(this.growthFactor);
+		newList.ensureCapacity(stop - start);
+		for (int i=start; i < stop; i++) {
+			newList.addLast(this.fixedArray[this.physical(i)]);
+		}
+		return newList;
+	}
+
+	/**
+	 * Return index of first matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	public int findFirst(Function<E, Boolean> searchFct) {
+		for (int i=0; i < this.size(); i++) {
+			if (searchFct.apply(this.fixedArray[this.physical(i)])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Return index of last matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	public int findLast(Function<E, Boolean> searchFct) {
+		for (int i=this.size() - 1; i >= 0; i--) {
+			if (searchFct.apply(this.fixedArray[this.physical(i)])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	//------------------- Setting Elements ---------------------
+
+	/**
+	 * Insert passed arg "newElem" into position "index"
+	 * Return previous (replaced) elem at "index"
+	 * Valid "index" values are between 0 and "size - 1"
+	 * If "index" is invalid, throws IndexOutOfBoundsException.
+	*/
+	@Override
+	public E set(int index, E newElem) {
+		E oldElem = this.get(index);
+		this.fixedArray[this.physical(index)] = newElem;
+		return oldElem;
+	}
+
+	//------- Inserting, Appending & Replacing Elements --------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Add the passed element to start of list
+	 */
+	@Override
+	public void addFirst(E newElem) {
+		this.insert(0, newElem);
+	}
+
+	/**
+	 * Add the passed element to end of list
+	 */
+	@Override
+	public void addLast(E newElem) {
+		this.insert(this.size(), newElem);
+	}
+
+	/**
+	 * Alias for "addLast" (same functionality)
+	 */
+	@Override
+	public void add(E newElem) {
+		this.addLast(newElem);
+	}
+
+	/**
+	 * Add all elements from "otherDynList" into "this" list
+	 * (stops at the first null element, like DynamicArray)
+	 */
+	@Override
+	public void addAll(DynamicList<E> otherDynList) {
+		this.moveGapTo(this.size());
+		for (int i=0; i < otherDynList.size(); i++) {
+			E elem = otherDynList.get(i);
+			if (elem == null) {
+				return;
+			}
+			this.addLast(elem);
+		}
+	}
+
+	/**
+	 * Add all elements from passed fixed array "this" list with one block copy
+	 * (stops at the first null element, like DynamicArray)
+	 */
+	@Override
+	public void addAll(E[] array) {
+		int count = 0;
+		while (count < array.length && array[count] != null) {
+			count++;
+		}
+		this.moveGapTo(this.size());
+		if (this.gapEnd - this.gapStart < count) {
+			this.resize(this.size() + count);
+		}
+		System.arraycopy(array, 0, this.fixedArray, this.gapStart, count);
+		this.gapStart += count;
+		this.modCount++;
+	}
+
+	/**
+	 * Shift to the right the element currently at "insertIndex" (if any) and all elements to the right
+	 * Insert passed arg "newElem" into position "insertIndex"
+	 * Valid "insertIndex" values are between 0 and "size"
+	 * If index = "size" then it becomes a simple "add" operation
+	 * If "insertIndex" is invalid, throws IndexOutOfBoundsException
+	 * (moves the gap to "insertIndex"; O(1) amortized next to the previous edit)
+	 */
+	@Override
+	public void insert(int insertIndex, E newElem) {
+		if (insertIndex < 0 || insertIndex > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.moveGapTo(insertIndex);
+		if (this.gapStart == this.gapEnd) {
+			this.resize(this.size() + 1);
+		}
+		this.fixedArray[this.gapStart++] = newElem;
+		this.modCount++;
+	}
+
+	//------------------- Removing Elements --------------------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Remove first element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E removeFirst() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.removeIndex(0);
+	}
+
+	/**
+	 * Remove last element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E removeLast() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.removeIndex(this.size() - 1);
+	}
+
+	/**
+	 * Reset the list so it is empty.
+	 * If list is already empty, then do nothing
+	 */
+	@Override
+	public void removeAll() {
+		if (isEmpty()) {
+			return;
+		}
+		Arrays.fill(this.fixedArray, null);
+		this.gapStart = 0;
+		this.gapEnd = this.fixedArray.length;
+		this.modCount++;
+	}
+
+	/**
+	 * Remove elem at index
+	 * Return the removed element
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 * (moves the gap to "index"; O(1) amortized next to the previous edit)
+	 */
+	@Override
+	public E removeIndex(int index) {
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.moveGapTo(index);
+		E removedElem = this.fixedArray[this.gapEnd];
+		this.fixedArray[this.gapEnd++] = null;
+		this.modCount++;
+		return removedElem;
+	}
+
+	/**
+	 * Remove first matching element (where searchFct outputs true)
+	 * Return the removed element
+	 * If no match, return null
+	 */
+	@Override
+	public E removeFirstMatching(Function<E, Boolean> searchFct) {
+		int index = this.findFirst(searchFct);
+		if (index == -1) {
+			return null;
+		}
+		return this.removeIndex(index);
+	}
+
+	//----------------- Convenience Methods ------------------
+
+	/**
+	 * Return this list as an array (maintain same order of elements)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray() {
+		if (this.isEmpty())
+			return (E[]) Array.newInstance(Object.class, 0);
+		E[] array = (E[]) Array.newInstance(this.first().getClass(), this.size());
+		System.arraycopy(this.fixedArray, 0, array, 0, this.gapStart);
+		System.arraycopy(this.fixedArray, this.gapEnd, array, this.gapStart, this.fixedArray.length - this.gapEnd);
+		return array;
+	}
+
+	/**
+	 * Returns one-line user-friendly message about this object
+	 * Helpful method especially for debugging.
+	 */
+	@Override
+	public String toString() {
+		return "Growth Factor: " + growthFactor + ". Size: " + this.size() + ". Gap: " + this.gapStart + "-"
+				+ this.gapEnd + ".";
+	}
+
+	/**
+	 * Return iterator on this list. The iterator fails fast: once the list is
+	 * structurally modified, its next call throws ConcurrentModificationException.
+	 */
+	@Override
+	public StructureIterator<E> iterator() {
+		return new GapIterator();
+	}
+
+	/** Prints all elements to console, with newline after each */
+	@Override
+	public void printAll() {
+		this.forEach(System.out::println);
+	}
+
+	/** Iterates over elements in "this" object. For each element,
+	 * performs actionFct (passing element being iterated on)
+	 */
+	@Override
+	public void forEach(Consumer<? super E> actionFct) {
+		for (int i=0; i < this.gapStart; i++) {
+			actionFct.accept(this.fixedArray[i]);
+		}
+		for (int i=this.gapEnd; i < this.fixedArray.length; i++) {
+			actionFct.accept(this.fixedArray[i]);
+		}
+	}
+
+	/** Return new list that is "this" list joined
+	 * 	with "otherList" list (this list's elements are
+	 * 	first followed by the "otherList" list)
+	 */
+	@Override
+	public DynamicList<E> join(DynamicList<E> otherList) {
+		GapBufferList<E> newList = new GapBufferList<>(this.growthFactor);
+		newList.ensureCapacity(this.size() + otherList.size());
+		this.forEach(newList::addLast);
+		otherList.forEach(newList::addLast);
+		return newList;
+	}
+
+	//----------------- Utility Methods ------------------
+
+	/**
+	 * Returns new DynamicList with "new elements". Each new element
+	 * is generated from mapFct invoked with an element from
+	 * this list.
+	 */
+	@Override
+	public <T> DynamicList<T> map(Function<E, T> mapFct) {
+		GapBufferList<T> newList = new GapBufferList<>(this.growthFactor);
+		newList.ensureCapacity(this.size());
+		this.forEach(each -> newList.addLast(mapFct.apply(each)));
+		return newList;
+	}
+
+	/**
+	 * Returns new DynamicList which is elements
+	 * selected from this list via selectFct
+	 */
+	@Override
+	public DynamicList<E> select(Function<E, Boolean> selectFct) {
+		GapBufferList<E> newList = new GapBufferList<>(this.growthFactor);
+		this.forEach(each -> {
+			if (selectFct.apply(each)) {
+				newList.addLast(each);
+			}
+		});
+		return newList;
+	}
+
+	/**
+	 * Returns new DynamicList which is this list
+	 * with elements rejected via rejectFct
+	 */
+	@Override
+	public DynamicList<E> reject(Function<E, Boolean> rejectFct) {
+		return this.select(each -> !rejectFct.apply(each));
+	}
+
+	/** Accumulate a value by iterating over the collection
+	  * and accumulating during iteration.
+	  */
+	@Override
+	public <T> T accumulate(BiFunction<T, E, T> fct, T initialValue) {
+		T sum = initialValue;
+		for (int i=0; i < this.size(); i++) {
+			sum = fct.apply(sum, this.fixedArray[this.physical(i)]);
+		}
+		return sum;
+	}
+
+    //---------------------------------
+    // Public Constructors (Static Factory Constructor Methods)
+	//---------------------------------
+
+    /** Returns a new empty gap buffer DynamicList */
+    public static <T> DynamicList<T> newEmpty() {
+        return new GapBufferList<>();
+    }
+
+    /** Return a new empty gap buffer DynamicList with "growthFactor" */
+    public static <T> DynamicList<T> fromGrowthFactor(double growthFactor) {
+        return new GapBufferList<>(growthFactor);
+    }
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Maps a list index to its slot in the fixed array (indexes at or after the gap skip over it)
+	private int physical(int index) {
+		return index < this.gapStart ? index : index + (this.gapEnd - this.gapStart);
+	}
+
+	// Moves the gap so that it starts at list index "index", copying the elements in between
+	// across the gap with one block copy and clearing the slots they left
+	private void moveGapTo(int index) {
+		if (index < this.gapStart) {
+			int count = this.gapStart - index;
+			System.arraycopy(this.fixedArray, index, this.fixedArray, this.gapEnd - count, count);
+			Arrays.fill(this.fixedArray, index, Math.min(this.gapStart, this.gapEnd - count), null);
+			this.gapStart = index;
+			this.gapEnd -= count;
+		} else if (index > this.gapStart) {
+			int count = index - this.gapStart;
+			System.arraycopy(this.fixedArray, this.gapEnd, this.fixedArray, this.gapStart, count);
+			Arrays.fill(this.fixedArray, Math.max(this.gapEnd, index), this.gapEnd + count, null);
+			this.gapStart = index;
+			this.gapEnd += count;
+		}
+	}
+
+	// Replaces the fixed array by one of at least "minCapacity" slots (growing by the growthFactor),
+	// keeping the gap where it is
+	@SuppressWarnings("unchecked")
+	private void resize(int minCapacity) {
+		int newCapacity = minCapacity;
+		if (minCapacity > this.fixedArray.length) {
+			newCapacity = (int) Math.min(Math.max((long) (this.fixedArray.length * this.growthFactor), minCapacity),
+					GrowthPolicy.MAX_CAPACITY);
+		}
+		E[] newFixedArr = (E[]) new Object[newCapacity];
+		int tail = this.fixedArray.length - this.gapEnd;
+		System.arraycopy(this.fixedArray, 0, newFixedArr, 0, this.gapStart);
+		System.arraycopy(this.fixedArray, this.gapEnd, newFixedArr, newCapacity - tail, tail);
+		this.fixedArray = newFixedArr;
+		this.gapEnd = newCapacity - tail;
+	}
+
+	// ---------------------- Iterators ----------------------
+
+	// Iterates over the elements in order, skipping the gap
+	private class GapIterator implements StructureIterator<E> {
+		private int cursor = 0;
+		private final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return this.cursor < size();
+		}
+
+		@Override
+		public E next() {
+			E elem = this.peek();
+			this.cursor++;
+			return elem;
+		}
+
+		@Override
+		public E peek() {
+			if (modCount != this.expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (this.cursor >= size()) {
+				throw new NoSuchElementException();
+			}
+			return fixedArray[physical(this.cursor)];
+		}
+	}
+}
@@ -0,0 +1,90 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Growth Policy
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Decides how big the backing array of a DynamicArray becomes when it is full.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+public interface GrowthPolicy {
+
+	// Largest array size the JVM reliably allows
+	int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	/**
+	 * Return the new capacity for a backing array of "currentCapacity" slots
+	 * that has to hold at least "minCapacity" elements.
+	 * The result is always at least "minCapacity".
+	 */
+	int grow(int currentCapacity, int minCapacity);
+
+	/**
+	 * Return a policy that multiplies the capacity by "growthFactor" until it is big enough
+	 * (the DynamicArray default, with a factor of 2)
+	 */
+	static GrowthPolicy multiplicative(double growthFactor) {
+		return (currentCapacity, minCapacity) -> {
+			long newSize = currentCapacity;
+			while (newSize < minCapacity) {
+				long nextSize = (long) (growthFactor * newSize);
+				newSize = nextSize > newSize ? nextSize : minCapacity;
+			}
+			return clamp(newSize, minCapacity);
+		};
+	}
+
+	/**
+	 * Return a policy that adds "increment" slots at a time until the capacity is big enough
+	 * (bounded waste, but O(n) copies per element in the worst case)
+	 */
+	static GrowthPolicy additive(int increment) {
+		if (increment <= 0) {
+			throw new IllegalArgumentException("increment must be positive");
+		}
+		return (currentCapacity, minCapacity) -> {
+			long missing = (long) minCapacity - currentCapacity;
+			long steps = (missing + increment - 1) / increment;
+			return clamp(currentCapacity + steps * increment, minCapacity);
+		};
+	}
+
+	/**
+	 * Return a policy that doubles the capacity and rounds it up to the next size class:
+	 * powers of two and the halfway points between them (8, 12, 16, 24, 32, 48, ...).
+	 * Arrays of a few fixed sizes are easier for allocators (and pools) to reuse.
+	 */
+	static GrowthPolicy sizeClassAligned() {
+		return (currentCapacity, minCapacity) -> {
+			long target = Math.max((long) currentCapacity * 2, minCapacity);
+			return clamp(sizeClassOf(target), minCapacity);
+		};
+	}
+
+	/**
+	 * Return the smallest size class (power of two, or 1.5 times a power of two)
+	 * that is at least "capacity"
+	 */
+	static long sizeClassOf(long capacity) {
+		if (capacity <= 4) {
+			return 4;
+		}
+		long power = Long.highestOneBit(capacity - 1) << 1;
+		long halfway = power / 4 * 3;
+		return capacity <= halfway ? halfway : power;
+	}
+
+	// Keeps a computed capacity within what an array can hold (and never below what is needed)
+	private static int clamp(long capacity, int minCapacity) {
+		return (int) Math.max(minCapacity, Math.min(capacity, MAX_CAPACITY));
+	}
+}
@@ -0,0 +1,70 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Kernels
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Picks, once per JVM, how the primitive lists run their bulk numeric methods
+ *	(sum, min, max, indexOf and the range/threshold methods of DynamicIntArray,
+ *	DynamicLongArray, DynamicDoubleArray and the ColumnarDynamicList columns).
+ *
+ *	SIMD kernels (VectorizedKernels) are used when the JVM was started with
+ *		--add-modules jdk.incubator.vector
+ *	and not with -Dmodel.list.simd=false. On JVMs without the module, or if the
+ *	kernels cannot be loaded, the plain loops (ScalarKernels) are used instead;
+ *	the results are the same either way (except for the rounding of double sums,
+ *	which add the elements in a different order).
+ *	VECTORIZED is a static final constant, so the JIT only ever sees one of them.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+public final class Kernels {
+
+	/** True when the SIMD kernels are in use (see class comment) */
+	public static final boolean VECTORIZED;
+
+	// Kernels every primitive list calls
+	static final PrimitiveKernels INSTANCE;
+
+	static {
+		PrimitiveKernels kernels = loadVectorized();
+		VECTORIZED = kernels != null;
+		INSTANCE = VECTORIZED ? kernels : new ScalarKernels();
+	}
+
+	private Kernels() {
+	}
+
+	/**
+	 * Returns one-line user-friendly message about the kernels in use
+	 * Helpful method especially for debugging.
+	 */
+	public static String summary() {
+		return VECTORIZED ? "Vectorized: " + VectorizedKernels.describe() + "." : "Scalar.";
+	}
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Returns the VectorizedKernels, or null if switched off or the Vector API is not available.
+	// The class is only touched by name until the module is known to be there.
+	private static PrimitiveKernels loadVectorized() {
+		if (!Boolean.parseBoolean(System.getProperty("model.list.simd", "true"))
+				|| ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+			return null;
+		}
+		try {
+			return (PrimitiveKernels) Class.forName("model.list.VectorizedKernels").getDeclaredConstructor()
+					.newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return null;
+		}
+	}
+}
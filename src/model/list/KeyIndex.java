@@ -0,0 +1,298 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Key Index
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Secondary hash index over a DynamicArray (see DynamicArray.addIndex). It maps
+ *	the key extracted from every element to the positions holding that key, so
+ *	findByKey and removeByKey run in O(1) expected time instead of a linear scan.
+ *
+ *	add, set and every kind of single-element removal update the index in place.
+ *	Removals do not renumber the positions after them: each removed position is
+ *	recorded as a hole, and a stored position is turned into a list index by
+ *	subtracting the holes before it (binary search). Once there are too many holes,
+ *	or after any other structural change (insert in the middle, addAll, sort...),
+ *	the index is marked stale and rebuilt with one pass on its next lookup.
+ *	While deferred (see setDeferred), every change just marks the index stale,
+ *	which suits bulk loads. Keys must not change while their element is in the list.
+ *	Example:
+ *		KeyIndex<Employee, Integer> byId = employeeList.addIndex(Employee::getId);
+ *		Employee employee = byId.findByKey(42);
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.function.Function;
+
+public final class KeyIndex<E, K> {
+
+	// Fewest holes allowed before a rebuild (more are allowed for large lists, up to sqrt(size))
+	private static final int MIN_HOLES = 64;
+
+    //---------------------------------
+    // Instance Variables
+	private final DynamicArray<E> list;
+	private final Function<E, K> keyFct;
+	private final HashMap<K, Positions> positions = new HashMap<>();
+	private int[] holes = new int[MIN_HOLES];
+	private int holeCount;
+	private int expectedModCount;
+	private boolean stale = true;
+	private boolean deferred;
+
+    //---------------------------------
+    // Package Constructor
+
+    /** Constructs and returns new (stale) KeyIndex of "aList" keyed by "aKeyFct" */
+	KeyIndex(DynamicArray<E> aList, Function<E, K> aKeyFct) {
+		this.list = aList;
+		this.keyFct = aKeyFct;
+	}
+
+	//-------------------- Lookups ---------------------
+
+	/**
+	 * Return index of the first element whose key equals "key"
+	 * Return -1 if no match
+	 */
+	public int indexOfKey(K key) {
+		this.ensureFresh();
+		Positions found = this.positions.get(key);
+		return found == null ? -1 : this.toIndex(found.slots[0]);
+	}
+
+	/**
+	 * Return the first element whose key equals "key"
+	 * If no match, return null
+	 */
+	public E findByKey(K key) {
+		int index = this.indexOfKey(key);
+		return index == -1 ? null : this.list.get(index);
+	}
+
+	/**
+	 * Return true if some element has a key equal to "key"
+	 */
+	public boolean containsKey(K key) {
+		return this.indexOfKey(key) != -1;
+	}
+
+	/**
+	 * Return number of elements whose key equals "key"
+	 */
+	public int countByKey(K key) {
+		this.ensureFresh();
+		Positions found = this.positions.get(key);
+		return found == null ? 0 : found.count;
+	}
+
+	/**
+	 * Remove the first element whose key equals "key"
+	 * Return the removed element
+	 * If no match, return null
+	 */
+	public E removeByKey(K key) {
+		int index = this.indexOfKey(key);
+		return index == -1 ? null : this.list.removeIndex(index);
+	}
+
+	//-------------------- Maintenance ---------------------
+
+	/**
+	 * While "deferred" is true, changes to the list only mark this index stale
+	 * instead of updating it, so bulk loads pay for one rebuild at the next lookup.
+	 */
+	public void setDeferred(boolean deferred) {
+		this.deferred = deferred;
+		if (deferred) {
+			this.stale = true;
+		}
+	}
+
+	/**
+	 * Mark this index stale: it is rebuilt on its next lookup
+	 */
+	public void invalidate() {
+		this.stale = true;
+	}
+
+	/**
+	 * Rebuild this index right away with one pass over the list
+	 */
+	public void rebuild() {
+		this.positions.clear();
+		this.holeCount = 0;
+		E[] array = this.list.backingArray();
+		int size = this.list.size();
+		for (int i=0; i < size; i++) {
+			this.positions.computeIfAbsent(this.keyFct.apply(array[i]), key -> new Positions()).append(i);
+		}
+		this.expectedModCount = this.list.modCount();
+		this.stale = false;
+	}
+
+	/**
+	 * Returns one-line user-friendly message about this object
+	 * Helpful method especially for debugging.
+	 */
+	@Override
+	public String toString() {
+		return "Keys: " + (this.stale ? "stale" : this.positions.size()) + ". Holes: " + this.holeCount + ".";
+	}
+
+	//-------------------- List Hooks ---------------------
+	// Called by DynamicArray right after the change (and its modCount update)
+
+	// "elem" was appended at list index "index"
+	void appended(int index, E elem) {
+		if (this.skipUpdate()) {
+			return;
+		}
+		this.positions.computeIfAbsent(this.keyFct.apply(elem), key -> new Positions()).append(index + this.holeCount);
+		this.expectedModCount = this.list.modCount();
+	}
+
+	// "oldElem" at list index "index" was replaced by "newElem"
+	void replaced(int index, E oldElem, E newElem) {
+		if (this.stale || this.deferred || this.list.modCount() != this.expectedModCount) {
+			this.stale = true;
+			return;
+		}
+		int slot = this.toSlot(index);
+		this.removeSlot(this.keyFct.apply(oldElem), slot);
+		this.positions.computeIfAbsent(this.keyFct.apply(newElem), key -> new Positions()).insert(slot);
+	}
+
+	// "elem" was removed from list index "index" (the elements after it moved down by one)
+	void removed(int index, E elem) {
+		if (this.skipUpdate()) {
+			return;
+		}
+		if (this.holeCount >= Math.max(MIN_HOLES, (int) Math.sqrt(this.list.size()))) {
+			this.stale = true;
+			return;
+		}
+		int slot = this.toSlot(index);
+		this.removeSlot(this.keyFct.apply(elem), slot);
+		this.addHole(slot);
+		this.expectedModCount = this.list.modCount();
+	}
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Returns true (marking the index stale if needed) when a hooked change must not be applied:
+	// the index is deferred or stale, or the list changed in some other way since the last update
+	private boolean skipUpdate() {
+		if (this.deferred || this.list.modCount() != this.expectedModCount + 1) {
+			this.stale = true;
+		}
+		return this.stale;
+	}
+
+	// Rebuilds the index if it is stale or the list changed without telling it
+	private void ensureFresh() {
+		if (this.stale || this.list.modCount() != this.expectedModCount) {
+			this.rebuild();
+		}
+	}
+
+	// Returns the list index of the element stored at "slot": slot minus the holes before it
+	private int toIndex(int slot) {
+		int low = 0;
+		int high = this.holeCount;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (this.holes[mid] < slot) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return slot - low;
+	}
+
+	// Returns the slot of the element at list "index": the j-th hole has holes[j] - j
+	// live slots before it, so the slot is index plus the holes with at most "index" before them
+	private int toSlot(int index) {
+		int low = 0;
+		int high = this.holeCount;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (this.holes[mid] - mid <= index) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return index + low;
+	}
+
+	// Records "slot" as a hole, keeping the holes sorted
+	private void addHole(int slot) {
+		if (this.holeCount == this.holes.length) {
+			this.holes = Arrays.copyOf(this.holes, this.holes.length * 2);
+		}
+		int at = this.holeCount;
+		while (at > 0 && this.holes[at - 1] > slot) {
+			this.holes[at] = this.holes[at - 1];
+			at--;
+		}
+		this.holes[at] = slot;
+		this.holeCount++;
+	}
+
+	// Removes "slot" from the positions of "key", dropping the key once it has none
+	private void removeSlot(K key, int slot) {
+		Positions found = this.positions.get(key);
+		if (found != null && found.remove(slot) && found.count == 0) {
+			this.positions.remove(key);
+		}
+	}
+
+	// Sorted slots holding one key (almost always a single one)
+	private static final class Positions {
+		private int[] slots = new int[1];
+		private int count;
+
+		// Adds a slot greater than every slot already held
+		void append(int slot) {
+			if (this.count == this.slots.length) {
+				this.slots = Arrays.copyOf(this.slots, this.count * 2);
+			}
+			this.slots[this.count++] = slot;
+		}
+
+		// Adds a slot at its sorted place
+		void insert(int slot) {
+			this.append(slot);
+			int at = this.count - 1;
+			while (at > 0 && this.slots[at - 1] > slot) {
+				this.slots[at] = this.slots[at - 1];
+				at--;
+			}
+			this.slots[at] = slot;
+		}
+
+		// Removes a slot; returns false if it was not held
+		boolean remove(int slot) {
+			for (int i=0; i < this.count; i++) {
+				if (this.slots[i] == slot) {
+					System.arraycopy(this.slots, i + 1, this.slots, i, this.count - i - 1);
+					this.count--;
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,316 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    List Metrics
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Opt-in instrumentation of the DynamicArray hot paths: how often lists grow and
+ *	how much each growth copies, how many elements shiftToRight/shiftToLeft move and
+ *	how long that takes, how many elements findFirst/findLast scan, and how much of
+ *	the capacity is left unused after each resize.
+ *
+ *	Instrumentation is turned on for the whole JVM by starting it with
+ *		-Dmodel.list.metrics=true
+ *	ENABLED is a static final constant, so when it is false the JIT removes every
+ *	"if (ListMetrics.ENABLED)" block and the hot paths run exactly as without it.
+ *
+ *	When enabled, every growth is also emitted as a "model.list.Grow" JFR event
+ *	(recorded only while a flight recording has it enabled), and the counters and
+ *	histograms can be pushed to any monitoring system through exportTo(MetricsSink).
+ *	Example:
+ *		ListMetrics.exportTo(new ListMetrics.MetricsSink() {
+ *			public void counter(String name, long value) { registry.gauge(name, value); }
+ *			public void histogram(String name, ListMetrics.Histogram histogram) { ... }
+ *		});
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+public final class ListMetrics {
+
+	/** True when the JVM was started with -Dmodel.list.metrics=true */
+	public static final boolean ENABLED = Boolean.getBoolean("model.list.metrics");
+
+	// Size of one array slot (an object reference), used to turn copied elements into bytes
+	private static final int REFERENCE_BYTES = referenceBytes();
+
+	private static final LongAdder GROWS = new LongAdder();
+	private static final LongAdder SHRINKS = new LongAdder();
+	private static final LongAdder ELEMENTS_COPIED = new LongAdder();
+	private static final LongAccumulator PEAK_CAPACITY = new LongAccumulator(Math::max, 0);
+	private static final Histogram GROW_COPIED = new Histogram();
+	private static final Histogram RESIZE_SLACK = new Histogram();
+	private static final Histogram SHIFT_ELEMENTS = new Histogram();
+	private static final Histogram SHIFT_NANOS = new Histogram();
+	private static final Histogram SCAN_ELEMENTS = new Histogram();
+
+	private ListMetrics() {
+	}
+
+	//-------------------- Recording (called by the lists) ---------------------
+
+	// A backing array of "oldCapacity" slots holding "size" elements was replaced by one of
+	// "newCapacity" slots, copying "copied" slots
+	static void recordResize(int oldCapacity, int newCapacity, int size, long copied) {
+		if (newCapacity > oldCapacity) {
+			GROWS.increment();
+			GROW_COPIED.record(copied);
+			GrowEvent event = new GrowEvent();
+			if (event.shouldCommit()) {
+				event.oldCapacity = oldCapacity;
+				event.newCapacity = newCapacity;
+				event.copiedBytes = copied * REFERENCE_BYTES;
+				event.commit();
+			}
+		} else {
+			SHRINKS.increment();
+		}
+		ELEMENTS_COPIED.add(copied);
+		PEAK_CAPACITY.accumulate(newCapacity);
+		RESIZE_SLACK.record(newCapacity - size);
+	}
+
+	// A shift moved "elements" elements and took "nanos" nanoseconds
+	static void recordShift(int elements, long nanos) {
+		SHIFT_ELEMENTS.record(elements);
+		SHIFT_NANOS.record(nanos);
+	}
+
+	// A linear search looked at "elements" elements
+	static void recordScan(int elements) {
+		SCAN_ELEMENTS.record(elements);
+	}
+
+	//-------------------- Reading ---------------------
+
+	/** Return number of times a backing array was replaced by a bigger one */
+	public static long grows() {
+		return GROWS.sum();
+	}
+
+	/** Return number of times a backing array was replaced by a smaller one */
+	public static long shrinks() {
+		return SHRINKS.sum();
+	}
+
+	/** Return number of elements copied from an old backing array into a new one */
+	public static long elementsCopied() {
+		return ELEMENTS_COPIED.sum();
+	}
+
+	/** Return estimated number of bytes copied from an old backing array into a new one */
+	public static long bytesCopied() {
+		return elementsCopied() * REFERENCE_BYTES;
+	}
+
+	/** Return largest capacity any backing array was resized to */
+	public static long peakCapacity() {
+		return PEAK_CAPACITY.get();
+	}
+
+	/** Return histogram of the number of elements copied by each growth */
+	public static Histogram growCopied() {
+		return GROW_COPIED;
+	}
+
+	/** Return histogram of the unused slots (capacity minus size) right after each resize */
+	public static Histogram resizeSlack() {
+		return RESIZE_SLACK;
+	}
+
+	/** Return histogram of the number of elements moved by each shift */
+	public static Histogram shiftElements() {
+		return SHIFT_ELEMENTS;
+	}
+
+	/** Return histogram of the duration of each shift, in nanoseconds */
+	public static Histogram shiftNanos() {
+		return SHIFT_NANOS;
+	}
+
+	/** Return histogram of the number of elements looked at by each findFirst/findLast */
+	public static Histogram scanElements() {
+		return SCAN_ELEMENTS;
+	}
+
+	/**
+	 * Push every counter and histogram to "sink" (names start with "list.")
+	 */
+	public static void exportTo(MetricsSink sink) {
+		sink.counter("list.grows", grows());
+		sink.counter("list.shrinks", shrinks());
+		sink.counter("list.elementsCopied", elementsCopied());
+		sink.counter("list.bytesCopied", bytesCopied());
+		sink.counter("list.peakCapacity", peakCapacity());
+		sink.histogram("list.grow.copied", GROW_COPIED);
+		sink.histogram("list.resize.slack", RESIZE_SLACK);
+		sink.histogram("list.shift.elements", SHIFT_ELEMENTS);
+		sink.histogram("list.shift.nanos", SHIFT_NANOS);
+		sink.histogram("list.scan.elements", SCAN_ELEMENTS);
+	}
+
+	/**
+	 * Reset every counter and histogram to zero
+	 */
+	public static void reset() {
+		GROWS.reset();
+		SHRINKS.reset();
+		ELEMENTS_COPIED.reset();
+		PEAK_CAPACITY.reset();
+		GROW_COPIED.reset();
+		RESIZE_SLACK.reset();
+		SHIFT_ELEMENTS.reset();
+		SHIFT_NANOS.reset();
+		SCAN_ELEMENTS.reset();
+	}
+
+	/**
+	 * Returns one-line user-friendly message about the metrics
+	 * Helpful method especially for debugging.
+	 */
+	public static String summary() {
+		return "Enabled: " + ENABLED + ". Grows: " + grows() + ". Shrinks: " + shrinks() + ". Bytes Copied: "
+				+ bytesCopied() + ". Peak Capacity: " + peakCapacity() + ". Shifts: " + SHIFT_ELEMENTS.count()
+				+ ". Scans: " + SCAN_ELEMENTS.count() + ".";
+	}
+
+	// ---------------------- Helper Types ----------------------
+
+	/** Receives the metrics pushed by exportTo */
+	public interface MetricsSink {
+
+		/** Receive the current value of a counter */
+		void counter(String name, long value);
+
+		/** Receive a histogram (read its values with the Histogram methods) */
+		void histogram(String name, Histogram histogram);
+	}
+
+	/**
+	 * Lock-free histogram of non-negative values with one bucket per power of two:
+	 * bucket 0 counts zeros and bucket k counts values in [2^(k-1), 2^k).
+	 */
+	public static final class Histogram {
+		private final LongAdder[] buckets = new LongAdder[65];
+		private final LongAdder count = new LongAdder();
+		private final LongAdder sum = new LongAdder();
+		private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+		Histogram() {
+			for (int k=0; k < this.buckets.length; k++) {
+				this.buckets[k] = new LongAdder();
+			}
+		}
+
+		void record(long value) {
+			this.buckets[64 - Long.numberOfLeadingZeros(value)].increment();
+			this.count.increment();
+			this.sum.add(value);
+			this.max.accumulate(value);
+		}
+
+		void reset() {
+			for (LongAdder bucket : this.buckets) {
+				bucket.reset();
+			}
+			this.count.reset();
+			this.sum.reset();
+			this.max.reset();
+		}
+
+		/** Return number of recorded values */
+		public long count() {
+			return this.count.sum();
+		}
+
+		/** Return sum of the recorded values */
+		public long sum() {
+			return this.sum.sum();
+		}
+
+		/** Return largest recorded value */
+		public long max() {
+			return this.max.get();
+		}
+
+		/** Return number of recorded values per bucket (see class comment) */
+		public long[] buckets() {
+			long[] counts = new long[this.buckets.length];
+			for (int k=0; k < counts.length; k++) {
+				counts[k] = this.buckets[k].sum();
+			}
+			return counts;
+		}
+
+		/**
+		 * Return an upper bound of the value below which "fraction" (0 to 1) of the
+		 * recorded values fall (the upper end of the bucket it lands in)
+		 */
+		public long percentile(double fraction) {
+			long[] counts = this.buckets();
+			long target = (long) Math.ceil(fraction * this.count());
+			long seen = 0;
+			for (int k=0; k < counts.length; k++) {
+				seen += counts[k];
+				if (seen >= target && seen > 0) {
+					return k == 0 ? 0 : Math.min(this.max(), k == 64 ? Long.MAX_VALUE : (1L << k) - 1);
+				}
+			}
+			return this.max();
+		}
+
+		/**
+		 * Returns one-line user-friendly message about this object
+		 * Helpful method especially for debugging.
+		 */
+		@Override
+		public String toString() {
+			long n = this.count();
+			return "Count: " + n + ". Mean: " + (n == 0 ? 0 : this.sum() / n) + ". P99: " + this.percentile(0.99)
+					+ ". Max: " + this.max() + ".";
+		}
+	}
+
+	// JFR event emitted for every growth of a backing array
+	@Name("model.list.Grow")
+	@Label("List Grow")
+	@Category("Data Structures")
+	@Description("A DynamicArray replaced its backing array by a bigger one")
+	static final class GrowEvent extends Event {
+		@Label("Old Capacity")
+		int oldCapacity;
+
+		@Label("New Capacity")
+		int newCapacity;
+
+		@Label("Copied")
+		@DataAmount
+		long copiedBytes;
+	}
+
+	// Returns the size of an array slot: Unsafe.ARRAY_OBJECT_INDEX_SCALE when readable, otherwise 8
+	private static int referenceBytes() {
+		try {
+			return Class.forName("sun.misc.Unsafe").getField("ARRAY_OBJECT_INDEX_SCALE").getInt(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return 8;
+		}
+	}
+}
@@ -0,0 +1,486 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    List View
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Read-only DynamicList that shows the elements of other lists without copying
+ *	them: a window over a DynamicArray (DynamicArray.subListView) or the
+ *	concatenation of two lists (DynamicArray.joinView).
+ *
+ *	Invalidation policy: a view is only valid while the lists it shows are not
+ *	structurally modified (elements added or removed; "set" is fine and shows
+ *	through). Once they are, every call on the view throws
+ *	ConcurrentModificationException. Call materialize() to get an independent
+ *	copy that outlives such changes. Every mutator of a view throws
+ *	UnsupportedOperationException.
+ *	Views only show lists that track structural modifications, so the policy always
+ *	holds: DynamicArrays and other views. ListView.join copies any other list first.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.lang.reflect.Array;
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import model.linearpub.DynamicList;
+
+public abstract class ListView<E> implements DynamicList<E> {
+
+	// Only the views in this file extend ListView
+	private ListView() {
+	}
+
+	/**
+	 * Return true while the lists this view shows have not been structurally modified.
+	 */
+	public abstract boolean isValid();
+
+	/**
+	 * Return a new DynamicArray holding a copy of the elements of this view.
+	 * Throws ConcurrentModificationException if the view is no longer valid.
+	 */
+	public abstract DynamicList<E> materialize();
+
+	//-------------------- List Statistics ---------------------
+
+	/**
+	 * Return true is this list contains no elements.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return this.size() == 0;
+	}
+
+	//------------------ Accessing Elements --------------------
+
+	/**
+	 * Return first element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E first() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.get(0);
+	}
+
+	/**
+	 * Return last element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E last() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.get(this.size() - 1);
+	}
+
+	/**
+	 * Return a new DynamicArray containing the elements of this view
+	 * between the given index "start" (inclusive) and
+	 * the given index "stop" (exclusive).
+	 * Throws IndexOutOfBoundsException if either passed index is invalid.
+	 */
+	@Override
+	public DynamicList<E> subList(int start, int stop) {
+		if (start < 0 || start > stop || stop > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		DynamicList<E> newList = DynamicArray.withInitialCapacity(stop - start);
+		for (int i=start; i < stop; i++) {
+			newList.add(this.get(i));
+		}
+		return newList;
+	}
+
+	/**
+	 * Return index of first matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	public int findFirst(Function<E, Boolean> searchFct) {
+		for (int i=0; i < this.size(); i++) {
+			if (searchFct.apply(this.get(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Return index of last matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	public int findLast(Function<E, Boolean> searchFct) {
+		for (int i=this.size() - 1; i >= 0; i--) {
+			if (searchFct.apply(this.get(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	//------------------- Setting Elements ---------------------
+
+	/** Not supported (views are read-only) */
+	@Override
+	public E set(int index, E newElem) {
+		throw readOnly();
+	}
+
+	//------- Inserting, Appending & Replacing Elements --------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/** Not supported (views are read-only) */
+	@Override
+	public void addFirst(E newElem) {
+		throw readOnly();
+	}
+
+	/** Not supported (views are read-only) */
+	@Override
+	public void addLast(E newElem) {
+		throw readOnly();
+	}
+
+	/** Not supported (views are read-only) */
+	@Override
+	public void add(E newElem) {
+		throw readOnly();
+	}
+
+	/** Not supported (views are read-only) */
+	@Override
+	public void addAll(DynamicList<E> otherDynList) {
+		throw readOnly();
+	}
+
+	/** Not supported (views are read-only) */
+	@Override
+	public void addAll(E[] array) {
+		throw readOnly();
+	}
+
+	/** Not supported (views are read-only) */
+	@Override
+	public void insert(int insertIndex, E newElem) {
+		throw readOnly();
+	}
+
+	//------------------- Removing Elements --------------------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/** Not supported (views are read-only) */
+	@Override
+	public E removeFirst() {
+		throw readOnly();
+	}
+
+	/** Not supported (views are read-only) */
+	@Override
+	public E removeLast() {
+		throw readOnly();
+	}
+
+	/** Not supported (views are read-only) */
+	@Override
+	public void removeAll() {
+		throw readOnly();
+	}
+
+	/** Not supported (views are read-only) */
+	@Override
+	public E removeIndex(int index) {
+		throw readOnly();
+	}
+
+	/** Not supported (views are read-only) */
+	@Override
+	public E removeFirstMatching(Function<E, Boolean> searchFct) {
+		throw readOnly();
+	}
+
+	//----------------- Convenience Methods ------------------
+
+	/**
+	 * Return this list as an array (maintain same order of elements)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray() {
+		if (this.isEmpty())
+			return (E[]) Array.newInstance(Object.class, 0);
+		E[] array = (E[]) Array.newInstance(this.first().getClass(), this.size());
+		for (int i=0; i < this.size(); i++) {
+			array[i] = this.get(i);
+		}
+		return array;
+	}
+
+	/**
+	 * Returns one-line user-friendly message about this object
+	 * Helpful method especially for debugging.
+	 */
+	@Override
+	public String toString() {
+		return "View. Size: " + (this.isValid() ? String.valueOf(this.size()) : "invalid") + ".";
+	}
+
+	/** Prints all elements to console, with newline after each */
+	@Override
+	public void printAll() {
+		this.forEach(System.out::println);
+	}
+
+	/** Iterates over elements in "this" object. For each element,
+	 * performs actionFct (passing element being iterated on)
+	 */
+	@Override
+	public void forEach(Consumer<? super E> actionFct) {
+		for (int i=0; i < this.size(); i++) {
+			actionFct.accept(this.get(i));
+		}
+	}
+
+	/** Return a new view that is "this" view joined with "otherList" list.
+	 * 	Nothing is copied when "otherList" is a DynamicArray or a view; any other
+	 * 	list cannot report its modifications, so its elements are copied first.
+	 */
+	@Override
+	public DynamicList<E> join(DynamicList<E> otherList) {
+		if (Joined.tracksModifications(otherList)) {
+			return new Joined<>(this, otherList);
+		}
+		DynamicList<E> copy = DynamicArray.newEmpty();
+		otherList.forEach(copy::add);
+		return new Joined<>(this, copy);
+	}
+
+	//----------------- Utility Methods ------------------
+
+	/**
+	 * Returns new DynamicArray with "new elements". Each new element
+	 * is generated from mapFct invoked with an element from
+	 * this list.
+	 */
+	@Override
+	public <T> DynamicList<T> map(Function<E, T> mapFct) {
+		DynamicList<T> newList = DynamicArray.withInitialCapacity(this.size());
+		this.forEach(each -> newList.add(mapFct.apply(each)));
+		return newList;
+	}
+
+	/**
+	 * Returns new DynamicArray which is elements
+	 * selected from this list via selectFct
+	 */
+	@Override
+	public DynamicList<E> select(Function<E, Boolean> selectFct) {
+		DynamicList<E> newList = DynamicArray.newEmpty();
+		this.forEach(each -> {
+			if (selectFct.apply(each)) {
+				newList.add(each);
+			}
+		});
+		return newList;
+	}
+
+	/**
+	 * Returns new DynamicArray which is this list
+	 * with elements rejected via rejectFct
+	 */
+	@Override
+	public DynamicList<E> reject(Function<E, Boolean> rejectFct) {
+		return this.select(each -> !rejectFct.apply(each));
+	}
+
+	/** Accumulate a value by iterating over the collection
+	  * and accumulating during iteration.
+	  */
+	@Override
+	public <T> T accumulate(BiFunction<T, E, T> fct, T initialValue) {
+		T sum = initialValue;
+		for (int i=0; i < this.size(); i++) {
+			sum = fct.apply(sum, this.get(i));
+		}
+		return sum;
+	}
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Throws ConcurrentModificationException once the view is no longer valid
+	void checkValid() {
+		if (!this.isValid()) {
+			throw new ConcurrentModificationException("The list under this view was structurally modified");
+		}
+	}
+
+	private static UnsupportedOperationException readOnly() {
+		return new UnsupportedOperationException("Views are read-only, use materialize() for a modifiable copy");
+	}
+
+	// ---------------------- Views ----------------------
+
+	// Window [offset, offset + length) over the backing array of a DynamicArray
+	static final class Slice<E> extends ListView<E> {
+		private final DynamicArray<E> parent;
+		private final int offset;
+		private final int length;
+		private final int expectedModCount;
+
+		Slice(DynamicArray<E> aParent, int anOffset, int aLength) {
+			this.parent = aParent;
+			this.offset = anOffset;
+			this.length = aLength;
+			this.expectedModCount = aParent.modCount();
+		}
+
+		@Override
+		public boolean isValid() {
+			return this.parent.modCount() == this.expectedModCount;
+		}
+
+		@Override
+		public int size() {
+			this.checkValid();
+			return this.length;
+		}
+
+		@Override
+		public E get(int index) {
+			this.checkValid();
+			if (index < 0 || index >= this.length) {
+				throw new IndexOutOfBoundsException();
+			}
+			return this.parent.backingArray()[this.offset + index];
+		}
+
+		/** Return a view of part of this window (nothing is copied) */
+		@Override
+		public DynamicList<E> subList(int start, int stop) {
+			this.checkValid();
+			if (start < 0 || start > stop || stop > this.length) {
+				throw new IndexOutOfBoundsException();
+			}
+			return new Slice<>(this.parent, this.offset + start, stop - start);
+		}
+
+		@Override
+		public void forEach(Consumer<? super E> actionFct) {
+			this.checkValid();
+			E[] array = this.parent.backingArray();
+			for (int i=this.offset; i < this.offset + this.length; i++) {
+				actionFct.accept(array[i]);
+			}
+		}
+
+		@Override
+		public Spliterator<E> spliterator() {
+			this.checkValid();
+			return Spliterators.spliterator(this.parent.backingArray(), this.offset, this.offset + this.length,
+					Spliterator.ORDERED);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public DynamicList<E> materialize() {
+			this.checkValid();
+			E[] copy = (E[]) new Object[Math.max(this.length, 1)];
+			System.arraycopy(this.parent.backingArray(), this.offset, copy, 0, this.length);
+			return DynamicArray.wrap(copy, this.length, this.parent.growthFactor());
+		}
+	}
+
+	// Elements of "left" followed by the elements of "right"
+	static final class Joined<E> extends ListView<E> {
+		private final DynamicList<E> left;
+		private final DynamicList<E> right;
+		private final int leftSize;
+		private final int rightSize;
+		private final int leftModCount;
+		private final int rightModCount;
+
+		// Both lists must track modifications (see tracksModifications)
+		Joined(DynamicList<E> aLeft, DynamicList<E> aRight) {
+			if (!tracksModifications(aLeft) || !tracksModifications(aRight)) {
+				throw new IllegalArgumentException("Only DynamicArrays and views can be joined into a view");
+			}
+			this.left = aLeft;
+			this.right = aRight;
+			this.leftSize = aLeft.size();
+			this.rightSize = aRight.size();
+			this.leftModCount = modCountOf(aLeft);
+			this.rightModCount = modCountOf(aRight);
+		}
+
+		// Returns true if structural changes to "list" can be detected: a DynamicArray
+		// counts them, and a view knows whether the lists it shows changed
+		static boolean tracksModifications(DynamicList<?> list) {
+			return list instanceof DynamicArray || list instanceof ListView;
+		}
+
+		// Views have no counter of their own (isValid covers them)
+		private static int modCountOf(DynamicList<?> list) {
+			return list instanceof DynamicArray ? ((DynamicArray<?>) list).modCount() : 0;
+		}
+
+		private static boolean unchanged(DynamicList<?> list, int size, int modCount) {
+			if (list instanceof ListView && !((ListView<?>) list).isValid()) {
+				return false;
+			}
+			return list.size() == size && modCountOf(list) == modCount;
+		}
+
+		@Override
+		public boolean isValid() {
+			return unchanged(this.left, this.leftSize, this.leftModCount)
+					&& unchanged(this.right, this.rightSize, this.rightModCount);
+		}
+
+		@Override
+		public int size() {
+			this.checkValid();
+			return this.leftSize + this.rightSize;
+		}
+
+		@Override
+		public E get(int index) {
+			this.checkValid();
+			if (index < 0 || index >= this.leftSize + this.rightSize) {
+				throw new IndexOutOfBoundsException();
+			}
+			return index < this.leftSize ? this.left.get(index) : this.right.get(index - this.leftSize);
+		}
+
+		@Override
+		public void forEach(Consumer<? super E> actionFct) {
+			this.checkValid();
+			this.left.forEach(actionFct);
+			this.right.forEach(actionFct);
+		}
+
+		@Override
+		public DynamicList<E> materialize() {
+			this.checkValid();
+			DynamicList<E> newList = DynamicArray.withInitialCapacity(this.leftSize + this.rightSize);
+			this.forEach(newList::add);
+			return newList;
+		}
+	}
+}
@@ -0,0 +1,648 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Off-Heap Dynamic Array
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	This class is a implementation of the Dynamic Array data structure whose elements
+ *	live outside the Java heap, in direct ByteBuffers. Elements must have a fixed-size
+ *	layout (see FixedWidthCodec); they are encoded on the way in and decoded on the way
+ *	out, so the garbage collector never has to scan the stored values.
+ *
+ *	The bytes are kept in fixed-size segments (about SEGMENT_BYTES each, always a whole
+ *	number of elements) addressed by a long byte offset: element i lives at offset
+ *	i * width, in segment offset / segmentBytes. Growing adds segments and never copies
+ *	the elements already stored, so no single buffer caps the size of the list. Only a
+ *	list that still fits in one segment starts with a smaller one, grown by the growth
+ *	factor until it reaches the segment size.
+ *
+ *	The memory is released as soon as close() is called (or, at the latest, when the
+ *	list is garbage collected). A closed list throws IllegalStateException on every call
+ *	except close(), reservedBytes() (which returns 0) and toString().
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import model.linearpub.DynamicList;
+
+public class OffHeapDynamicArray<E> implements DynamicList<E>, AutoCloseable {
+
+    //---------------------------------
+    // Static Variables
+	// Segments hold as many whole elements as fit in SEGMENT_BYTES (at least one)
+	private static final int SEGMENT_BYTES = 1 << 20;
+	private static final Object UNSAFE;
+	private static final Method INVOKE_CLEANER;
+
+	static {
+		Object unsafe = null;
+		Method invokeCleaner = null;
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+			unsafe = theUnsafe.get(null);
+			invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// no eager release available, memory is then released when the buffer is collected
+		}
+		UNSAFE = unsafe;
+		INVOKE_CLEANER = invokeCleaner;
+	}
+
+    //---------------------------------
+    // Instance Variables
+	private final FixedWidthCodec<E> codec;
+	private final int width;
+	private final int segmentElements;
+	private final int segmentBytes;
+	private ByteBuffer[] segments;
+	private int segmentCount;
+	private int arraySize;
+	private double growthFactor;
+	private int capacity;
+
+    //---------------------------------
+    // Private Constructors
+
+    /** Constructs and returns new OffHeapDynamicArray with "aCodec" and "aGrowthFactor" */
+	private OffHeapDynamicArray(FixedWidthCodec<E> aCodec, double aGrowthFactor, int initialCapacity) {
+		this.codec = aCodec;
+		this.width = aCodec.width();
+		this.segmentElements = Math.max(1, SEGMENT_BYTES / this.width);
+		this.segmentBytes = this.segmentElements * this.width;
+		this.growthFactor = aGrowthFactor;
+		this.capacity = Math.min(initialCapacity, this.segmentElements);
+		this.segments = new ByteBuffer[4];
+		this.segments[0] = allocate((long) this.capacity * this.width);
+		this.segmentCount = 1;
+		this.arraySize = 0;
+		this.ensureCapacityFor(initialCapacity);
+	}
+
+	//-------------------- List Statistics ---------------------
+
+	/**
+	 * Return number of elements in this list.
+	 */
+	@Override
+	public int size() {
+		this.checkOpen();
+		return this.arraySize;
+	}
+
+	/**
+	 * Return true is this list contains no elements.
+	 */
+	@Override
+	public boolean isEmpty() {
+		this.checkOpen();
+		return this.arraySize == 0;
+	}
+
+	/**
+	 * Return the number of off-heap bytes currently reserved by this list.
+	 */
+	public long reservedBytes() {
+		long bytes = 0;
+		for (int s=0; s < this.segmentCount; s++) {
+			bytes += this.segments[s].capacity();
+		}
+		return bytes;
+	}
+
+	//------------------ Accessing Elements --------------------
+
+	/**
+	 * Return element at given index.
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	public E get(int index) {
+		this.checkOpen();
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		long offset = (long) index * this.width;
+		return this.codec.read(this.segment(offset), this.position(offset));
+	}
+
+	/**
+	 * Return first element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E first() {
+		this.checkOpen();
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.get(0);
+	}
+
+	/**
+	 * Return last element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E last() {
+		this.checkOpen();
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.get(this.size() - 1);
+	}
+
+	/**
+	 * Return a new off-heap list (which the caller must close) containing the
+	 * elements of this list between the given index "start" (inclusive) and
+	 * the given index "stop" (exclusive).
+	 * Throws IndexOutOfBoundsException if either passed index is invalid.
+	 */
+	@Override
+	public DynamicList<E> subList(int start, int stop) {
+		this.checkOpen();
+		if (start < 0 || start > stop || stop > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		OffHeapDynamicArray<E> newList = this.newSibling(stop - start);
+		copy(this, (long) start * this.width, newList, 0, (long) (stop - start) * this.width);
+		newList.arraySize = stop - start;
+		return newList;
+	}
+
+	/**
+	 * Return index of first matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	public int findFirst(Function<E, Boolean> searchFct) {
+		this.checkOpen();
+		for (int i=0; i < this.size(); i++) {
+			if (searchFct.apply(this.get(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Return index of last matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	public int findLast(Function<E, Boolean> searchFct) {
+		this.checkOpen();
+		for (int i=this.size() - 1; i >= 0; i--) {
+			if (searchFct.apply(this.get(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	//------------------- Setting Elements ---------------------
+
+	/**
+	 * Insert passed arg "newElem" into position "index"
+	 * Return previous (replaced) elem at "index"
+	 * If "index" is invalid, throws IndexOutOfBoundsException.
+	*/
+	@Override
+	public E set(int index, E newElem) {
+		this.checkOpen();
+		E oldElem = this.get(index);
+		this.write(index, newElem);
+		return oldElem;
+	}
+
+	//------- Inserting, Appending & Replacing Elements --------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Add the passed element to start of list
+	 */
+	@Override
+	public void addFirst(E newElem) {
+		this.insert(0, newElem);
+	}
+
+	/**
+	 * Add the passed element to end of list
+	 */
+	@Override
+	public void addLast(E newElem) {
+		this.checkOpen();
+		this.ensureCapacityFor(this.arraySize + 1);
+		this.write(this.arraySize, newElem);
+		this.arraySize++;
+	}
+
+	/**
+	 * Alias for "addLast" (same functionality)
+	 */
+	@Override
+	public void add(E newElem) {
+		this.addLast(newElem);
+	}
+
+	/**
+	 * Add all elements from "otherDynList" into "this" list
+	 * (stops at the first null element, like DynamicArray)
+	 */
+	@Override
+	public void addAll(DynamicList<E> otherDynList) {
+		this.checkOpen();
+		if (otherDynList instanceof OffHeapDynamicArray
+				&& ((OffHeapDynamicArray<E>) otherDynList).codec == this.codec) {
+			OffHeapDynamicArray<E> other = (OffHeapDynamicArray<E>) otherDynList;
+			other.checkOpen();
+			int count = other.size();
+			this.ensureCapacityFor(this.arraySize + count);
+			copy(other, 0, this, (long) this.arraySize * this.width, (long) count * this.width);
+			this.arraySize += count;
+			return;
+		}
+		int count = 0;
+		while (count < otherDynList.size() && otherDynList.get(count) != null) {
+			count++;
+		}
+		this.ensureCapacityFor(this.arraySize + count);
+		for (int i=0; i < count; i++) {
+			this.addLast(otherDynList.get(i));
+		}
+	}
+
+	/**
+	 * Add all elements from passed fixed array "this" list
+	 * (stops at the first null element, like DynamicArray)
+	 */
+	@Override
+	public void addAll(E[] array) {
+		this.checkOpen();
+		int count = 0;
+		while (count < array.length && array[count] != null) {
+			count++;
+		}
+		this.ensureCapacityFor(this.arraySize + count);
+		for (int i=0; i < count; i++) {
+			this.addLast(array[i]);
+		}
+	}
+
+	/**
+	 * Shift to the right the element currently at "insertIndex" (if any) and all elements to the right
+	 * Insert passed arg "newElem" into position "insertIndex"
+	 * Valid "insertIndex" values are between 0 and "size"
+	 * If "insertIndex" is invalid, throws IndexOutOfBoundsException
+	 */
+	@Override
+	public void insert(int insertIndex, E newElem) {
+		this.checkOpen();
+		if (insertIndex < 0 || insertIndex > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.ensureCapacityFor(this.arraySize + 1);
+		long offset = (long) insertIndex * this.width;
+		copy(this, offset, this, offset + this.width, (long) (this.arraySize - insertIndex) * this.width);
+		this.write(insertIndex, newElem);
+		this.arraySize++;
+	}
+
+	//------------------- Removing Elements --------------------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Remove first element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E removeFirst() {
+		this.checkOpen();
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.removeIndex(0);
+	}
+
+	/**
+	 * Remove last element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E removeLast() {
+		this.checkOpen();
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		E removedElem = this.get(this.size() - 1);
+		this.arraySize--;
+		return removedElem;
+	}
+
+	/**
+	 * Reset the list so it is empty.
+	 * The reserved memory is kept for reuse (use close() to release it).
+	 */
+	@Override
+	public void removeAll() {
+		this.checkOpen();
+		this.arraySize = 0;
+	}
+
+	/**
+	 * Remove elem at index
+	 * Return the removed element
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	public E removeIndex(int index) {
+		this.checkOpen();
+		E removedElem = this.get(index);
+		long offset = (long) index * this.width;
+		copy(this, offset + this.width, this, offset, (long) (this.arraySize - index - 1) * this.width);
+		this.arraySize--;
+		return removedElem;
+	}
+
+	/**
+	 * Remove first matching element (where searchFct outputs true)
+	 * Return the removed element
+	 * If no match, return null
+	 */
+	@Override
+	public E removeFirstMatching(Function<E, Boolean> searchFct) {
+		int index = this.findFirst(searchFct);
+		if (index == -1) {
+			return null;
+		}
+		return this.removeIndex(index);
+	}
+
+	//----------------- Convenience Methods ------------------
+
+	/**
+	 * Return this list as an (on-heap) array (maintain same order of elements)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray() {
+		this.checkOpen();
+		if (this.isEmpty())
+			return (E[]) Array.newInstance(Object.class, 0);
+		E[] array = (E[]) Array.newInstance(this.first().getClass(), this.size());
+		for (int i=0; i < this.size(); i++) {
+			array[i] = this.get(i);
+		}
+		return array;
+	}
+
+	/**
+	 * Returns one-line user-friendly message about this object
+	 * Helpful method especially for debugging.
+	 */
+	@Override
+	public String toString() {
+		return "Growth Factor: " + growthFactor + ". Size: " + this.arraySize + ". Off-heap bytes: " + this.reservedBytes() + ".";
+	}
+
+	/** Prints all elements to console, with newline after each */
+	@Override
+	public void printAll() {
+		this.forEach(System.out::println);
+	}
+
+	/** Iterates over elements in "this" object. For each element,
+	 * performs actionFct (passing element being iterated on)
+	 */
+	@Override
+	public void forEach(Consumer<? super E> actionFct) {
+		this.checkOpen();
+		for (int i=0; i < this.size(); i++) {
+			actionFct.accept(this.get(i));
+		}
+	}
+
+	/** Return new off-heap list (which the caller must close) that is "this"
+	 * 	list joined with "otherList" list (this list's elements are
+	 * 	first followed by the "otherList" list)
+	 */
+	@Override
+	public DynamicList<E> join(DynamicList<E> otherList) {
+		this.checkOpen();
+		OffHeapDynamicArray<E> newList = this.newSibling(this.size() + otherList.size());
+		newList.addAll(this);
+		newList.addAll(otherList);
+		return newList;
+	}
+
+	//----------------- Utility Methods ------------------
+
+	/**
+	 * Returns new (on-heap) DynamicList with "new elements". Each new element
+	 * is generated from mapFct invoked with an element from
+	 * this list.
+	 */
+	@Override
+	public <T> DynamicList<T> map(Function<E, T> mapFct) {
+		this.checkOpen();
+		DynamicList<T> newList = DynamicArray.newEmpty();
+		this.forEach(each -> newList.add(mapFct.apply(each)));
+		return newList;
+	}
+
+	/**
+	 * Returns new off-heap list (which the caller must close) which is
+	 * elements selected from this list via selectFct
+	 */
+	@Override
+	public DynamicList<E> select(Function<E, Boolean> selectFct) {
+		this.checkOpen();
+		OffHeapDynamicArray<E> newList = this.newSibling(DynamicArray.defaultInitialCapacity());
+		this.forEach(each -> {
+			if (selectFct.apply(each)) {
+				newList.addLast(each);
+			}
+		});
+		return newList;
+	}
+
+	/**
+	 * Returns new off-heap list (which the caller must close) which is
+	 * this list with elements rejected via rejectFct
+	 */
+	@Override
+	public DynamicList<E> reject(Function<E, Boolean> rejectFct) {
+		return this.select(each -> !rejectFct.apply(each));
+	}
+
+	/** Accumulate a value by iterating over the collection
+	  * and accumulating during iteration.
+	  */
+	@Override
+	public <T> T accumulate(BiFunction<T, E, T> fct, T initialValue) {
+		this.checkOpen();
+		T sum = initialValue;
+		for (int i=0; i < this.size(); i++) {
+			sum = fct.apply(sum, this.get(i));
+		}
+		return sum;
+	}
+
+	/**
+	 * Release the off-heap memory (every segment) right away. Calling close() more than
+	 * once does nothing.
+	 */
+	@Override
+	public void close() {
+		if (this.segments != null) {
+			for (int s=0; s < this.segmentCount; s++) {
+				free(this.segments[s]);
+			}
+			this.segments = null;
+			this.segmentCount = 0;
+			this.arraySize = 0;
+			this.capacity = 0;
+		}
+	}
+
+    //---------------------------------
+    // Public Constructors (Static Factory Constructor Methods)
+	//---------------------------------
+
+    /** Returns a new empty OffHeapDynamicArray storing elements with "codec" */
+    public static <T> OffHeapDynamicArray<T> newEmpty(FixedWidthCodec<T> codec) {
+        return new OffHeapDynamicArray<>(codec, DynamicArray.defaultGrowthFactor(), DynamicArray.defaultInitialCapacity());
+    }
+
+    /** Return a new empty OffHeapDynamicArray storing elements with "codec" and growing with "growthFactor" */
+    public static <T> OffHeapDynamicArray<T> fromGrowthFactor(FixedWidthCodec<T> codec, double growthFactor) {
+        return new OffHeapDynamicArray<>(codec, growthFactor, DynamicArray.defaultInitialCapacity());
+    }
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Throws IllegalStateException once the list has been closed
+	private void checkOpen() {
+		if (this.segments == null) {
+			throw new IllegalStateException("List has been closed");
+		}
+	}
+
+	// Creates an empty list with the same codec and growth factor that can hold minCapacity elements
+	private OffHeapDynamicArray<E> newSibling(int minCapacity) {
+		return new OffHeapDynamicArray<>(this.codec, this.growthFactor,
+				Math.max(minCapacity, DynamicArray.defaultInitialCapacity()));
+	}
+
+	// Returns the segment holding byte "offset"
+	private ByteBuffer segment(long offset) {
+		return this.segments[(int) (offset / this.segmentBytes)];
+	}
+
+	// Returns the position of byte "offset" within its segment
+	private int position(long offset) {
+		return (int) (offset % this.segmentBytes);
+	}
+
+	// Encodes "elem" into the slot of element "index"
+	private void write(int index, E elem) {
+		long offset = (long) index * this.width;
+		this.codec.write(this.segment(offset), this.position(offset), elem);
+	}
+
+	// Grows the list (if needed) until it can hold at least minCapacity elements. A list that still
+	// fits in its first segment multiplies that segment's capacity by the growthFactor, like
+	// DynamicArray.grow(), up to the segment size (the old segment is released right away);
+	// past that, whole segments are added and the stored bytes are never copied.
+	private void ensureCapacityFor(int minCapacity) {
+		if (minCapacity <= this.capacity) {
+			return;
+		}
+		if (this.segmentCount == 1 && this.capacity < this.segmentElements) {
+			int newSize = this.capacity;
+			while (newSize < minCapacity && newSize < this.segmentElements) {
+				int nextSize = (int) (this.growthFactor * newSize);
+				newSize = nextSize > newSize ? nextSize : minCapacity;
+			}
+			newSize = Math.min(newSize, this.segmentElements);
+			ByteBuffer newSegment = allocate((long) newSize * this.width);
+			newSegment.put(0, this.segments[0], 0, this.arraySize * this.width);
+			free(this.segments[0]);
+			this.segments[0] = newSegment;
+			this.capacity = newSize;
+		}
+		while (this.capacity < minCapacity) {
+			if (this.segmentCount == this.segments.length) {
+				this.segments = Arrays.copyOf(this.segments, 2 * this.segmentCount);
+			}
+			this.segments[this.segmentCount++] = allocate(this.segmentBytes);
+			this.capacity = (int) Math.min(Integer.MAX_VALUE, (long) this.segmentCount * this.segmentElements);
+		}
+	}
+
+	// Copies "length" bytes from byte "fromOffset" of "from" to byte "toOffset" of "to" (lists with
+	// the same element width), one block copy per run that stays within a segment of both. When
+	// both are the same list and the bytes move towards the end, runs are copied back to front so
+	// that overlapping bytes are read before they are overwritten.
+	private static void copy(OffHeapDynamicArray<?> from, long fromOffset,
+			OffHeapDynamicArray<?> to, long toOffset, long length) {
+		int segmentBytes = from.segmentBytes;
+		if (from == to && toOffset > fromOffset) {
+			long left = length;
+			while (left > 0) {
+				// end positions (exclusive) of the last bytes still to copy, within their segments
+				int fromEnd = (int) ((fromOffset + left - 1) % segmentBytes) + 1;
+				int toEnd = (int) ((toOffset + left - 1) % segmentBytes) + 1;
+				int run = (int) Math.min(left, Math.min(fromEnd, toEnd));
+				left -= run;
+				to.segment(toOffset + left).put(toEnd - run, from.segment(fromOffset + left), fromEnd - run, run);
+			}
+			return;
+		}
+		long done = 0;
+		while (done < length) {
+			int fromPosition = from.position(fromOffset + done);
+			int toPosition = to.position(toOffset + done);
+			int run = (int) Math.min(length - done, segmentBytes - Math.max(fromPosition, toPosition));
+			to.segment(toOffset + done).put(toPosition, from.segment(fromOffset + done), fromPosition, run);
+			done += run;
+		}
+	}
+
+	// Allocates a native-order direct buffer of "bytes" bytes
+	private static ByteBuffer allocate(long bytes) {
+		return ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+	}
+
+	// Releases the memory of a direct buffer without waiting for the garbage collector (when supported)
+	private static void free(ByteBuffer buffer) {
+		if (INVOKE_CLEANER == null) {
+			return;
+		}
+		try {
+			INVOKE_CLEANER.invoke(UNSAFE, buffer);
+		} catch (ReflectiveOperationException e) {
+			// fall back to releasing the memory when the buffer is collected
+		}
+	}
+}
@@ -0,0 +1,252 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Parallel View
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Parallel versions of map, select, reject and accumulate over a DynamicArray.
+ *	The backing array is split into contiguous ranges that are processed as
+ *	fork-join tasks; results are merged back in the original order into lists
+ *	that are sized exactly once.
+ *
+ *	removeIf is the one operation that changes the list: the ranges mark the
+ *	matching elements in a shared bitmap, then a single pass compacts the list.
+ *
+ *	The view reads the list each time an operation runs, so it always sees the
+ *	current elements. The list must not be modified while an operation runs.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+import model.linearpub.DynamicList;
+
+public class ParallelView<E> {
+
+	// Ranges smaller than this are not worth handing to another thread
+	private static final int MIN_RANGE = 4096;
+	// Ranges per worker, so uneven functions still balance across the pool
+	private static final int RANGES_PER_THREAD = 4;
+
+    //---------------------------------
+    // Instance Variables
+	private final DynamicArray<E> list;
+	private final ForkJoinPool pool;
+
+    //---------------------------------
+    // Package Constructor (use DynamicArray.parallel)
+
+	ParallelView(DynamicArray<E> aList, ForkJoinPool aPool) {
+		this.list = aList;
+		this.pool = aPool;
+	}
+
+	//----------------- Utility Methods ------------------
+
+	/**
+	 * Returns new DynamicList with "new elements". Each new element
+	 * is generated from mapFct invoked with an element from
+	 * this list. mapFct is called from several threads at once.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> DynamicList<T> map(Function<E, T> mapFct) {
+		E[] source = this.list.backingArray();
+		int size = this.list.size();
+		T[] result = (T[]) new Object[Math.max(size, 1)];
+		this.forEachRange(size, (lo, hi) -> {
+			for (int i=lo; i < hi; i++) {
+				result[i] = mapFct.apply(source[i]);
+			}
+		});
+		return DynamicArray.wrap(result, size, this.list.growthFactor());
+	}
+
+	/**
+	 * Returns new DynamicList which is elements
+	 * selected from this list via selectFct (in the same order).
+	 * selectFct is called from several threads at once.
+	 */
+	public DynamicList<E> select(Function<E, Boolean> selectFct) {
+		return this.filter(selectFct, true);
+	}
+
+	/**
+	 * Returns new DynamicList which is this list
+	 * with elements rejected via rejectFct (in the same order).
+	 * rejectFct is called from several threads at once.
+	 */
+	public DynamicList<E> reject(Function<E, Boolean> rejectFct) {
+		return this.filter(rejectFct, false);
+	}
+
+	/** Accumulate a value by accumulating each range of the collection
+	  * separately (starting from "identity") and then combining the range
+	  * results in order with "combiner".
+	  * "identity" must be an identity value for "combiner", and "combiner"
+	  * must be associative, e.g. a "sum": (sum, e) -> sum + e, Integer::sum, 0
+	  */
+	@SuppressWarnings("unchecked")
+	public <T> T accumulate(BiFunction<T, E, T> fct, BinaryOperator<T> combiner, T identity) {
+		E[] source = this.list.backingArray();
+		int size = this.list.size();
+		int rangeSize = this.rangeSize(size);
+		T[] partials = (T[]) new Object[rangeCount(size, rangeSize)];
+		this.forEachRange(size, (lo, hi) -> {
+			T sum = identity;
+			for (int i=lo; i < hi; i++) {
+				sum = fct.apply(sum, source[i]);
+			}
+			partials[lo / rangeSize] = sum;
+		});
+		T total = identity;
+		for (T partial : partials) {
+			total = combiner.apply(total, partial);
+		}
+		return total;
+	}
+
+	/**
+	 * Remove every matching element (where searchFct outputs true) from the list,
+	 * keeping the order of the other elements. searchFct is called from several
+	 * threads at once; the matches are recorded in a bitmap and the list is then
+	 * compacted with one pass of block copies.
+	 * Return the number of removed elements
+	 */
+	public int removeIf(Function<E, Boolean> searchFct) {
+		E[] source = this.list.backingArray();
+		int size = this.list.size();
+		if (size == 0) {
+			return 0;
+		}
+		// ranges are multiples of 64 elements, so no two ranges share a bitmap word
+		long[] marks = new long[(size + 63) >>> 6];
+		boolean[] anyMarked = {false};
+		this.forEachRange(size, (lo, hi) -> {
+			boolean found = false;
+			for (int i=lo; i < hi; i++) {
+				if (searchFct.apply(source[i])) {
+					marks[i >>> 6] |= 1L << i;
+					found = true;
+				}
+			}
+			if (found) {
+				anyMarked[0] = true;
+			}
+		});
+		return anyMarked[0] ? this.list.removeMarked(marks) : 0;
+	}
+
+	/**
+	 * Remove every element that does not match (where keepFct outputs false),
+	 * like removeIf. keepFct is called from several threads at once.
+	 * Return the number of removed elements
+	 */
+	public int retainIf(Function<E, Boolean> keepFct) {
+		return this.removeIf(each -> !keepFct.apply(each));
+	}
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Keeps the elements for which fct outputs "keepWhen". Each range first marks its matches and counts
+	// them; the counts give every range its start in the presized result, which is then filled in parallel.
+	@SuppressWarnings("unchecked")
+	private DynamicList<E> filter(Function<E, Boolean> fct, boolean keepWhen) {
+		E[] source = this.list.backingArray();
+		int size = this.list.size();
+		int rangeSize = this.rangeSize(size);
+		boolean[] keep = new boolean[size];
+		int[] starts = new int[rangeCount(size, rangeSize) + 1];
+		this.forEachRange(size, (lo, hi) -> {
+			int count = 0;
+			for (int i=lo; i < hi; i++) {
+				if (fct.apply(source[i]) == keepWhen) {
+					keep[i] = true;
+					count++;
+				}
+			}
+			starts[lo / rangeSize + 1] = count;
+		});
+		for (int r=1; r < starts.length; r++) {
+			starts[r] += starts[r - 1];
+		}
+		int resultSize = starts[starts.length - 1];
+		E[] result = (E[]) new Object[Math.max(resultSize, 1)];
+		this.forEachRange(size, (lo, hi) -> {
+			int next = starts[lo / rangeSize];
+			for (int i=lo; i < hi; i++) {
+				if (keep[i]) {
+					result[next++] = source[i];
+				}
+			}
+		});
+		return DynamicArray.wrap(result, resultSize, this.list.growthFactor());
+	}
+
+	// Returns the number of elements each range covers for a list of "size" elements
+	// (always a multiple of 64, see removeIf)
+	private int rangeSize(int size) {
+		int ranges = this.pool.getParallelism() * RANGES_PER_THREAD;
+		int rangeSize = Math.max(MIN_RANGE, (size + ranges - 1) / ranges);
+		return (int) Math.min(((long) rangeSize + 63) & ~63L, Integer.MAX_VALUE & ~63);
+	}
+
+	// Returns the number of ranges of "rangeSize" elements needed to cover "size" elements
+	private static int rangeCount(int size, int rangeSize) {
+		return Math.max(1, (size + rangeSize - 1) / rangeSize);
+	}
+
+	// Runs body on every range of [0, size), in parallel when there is more than one range
+	private void forEachRange(int size, RangeBody body) {
+		int rangeSize = this.rangeSize(size);
+		int ranges = rangeCount(size, rangeSize);
+		IntConsumer rangeBody = r -> body.run(r * rangeSize, Math.min(size, (r + 1) * rangeSize));
+		if (ranges == 1) {
+			rangeBody.accept(0);
+		} else {
+			this.pool.invoke(new RangeTask(0, ranges, rangeBody));
+		}
+	}
+
+	// Work on the elements in [lo, hi)
+	private interface RangeBody {
+		void run(int lo, int hi);
+	}
+
+	// Splits the range indexes [first, last) in halves until a single range is left
+	private static class RangeTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final int first;
+		private final int last;
+		private final IntConsumer rangeBody;
+
+		RangeTask(int aFirst, int aLast, IntConsumer aRangeBody) {
+			this.first = aFirst;
+			this.last = aLast;
+			this.rangeBody = aRangeBody;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.last - this.first == 1) {
+				this.rangeBody.accept(this.first);
+				return;
+			}
+			int middle = (this.first + this.last) >>> 1;
+			invokeAll(new RangeTask(this.first, middle, this.rangeBody),
+					new RangeTask(middle, this.last, this.rangeBody));
+		}
+	}
+}
@@ -0,0 +1,873 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Persistent Vector
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	This class is an immutable DynamicList built as a persistent vector: a trie
+ *	with 32 children per node whose leaves hold the elements, plus a "tail" array
+ *	holding the last (up to 32) elements outside the trie.
+ *
+ *	A PersistentVector never changes once built, so it can be handed to other
+ *	threads without copying and read without locks. Instead of modifying the list,
+ *	plus, with and withoutLast return a new version that shares every untouched
+ *	node with the old one. Appending only copies the tail (and, once every 32
+ *	elements, one path of the trie); with copies one path of log32(n) nodes, so
+ *	all three are effectively O(1). The DynamicList mutators (add, set, ...)
+ *	throw UnsupportedOperationException.
+ *
+ *	For batch construction use a Builder (builder(), toBuilder()): it modifies the
+ *	nodes it created in place and copies shared ones only on their first change,
+ *	then build() freezes the result in O(1).
+ *	Example:
+ *		PersistentVector.Builder<String> builder = PersistentVector.builder();
+ *		names.forEach(builder::add);
+ *		PersistentVector<String> v1 = builder.build();
+ *		PersistentVector<String> v2 = v1.plus("Kofi").with(0, "Ama");	// v1 is unchanged
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import model.linearpub.DynamicList;
+import model.linearpub.StructureIterator;
+
+public final class PersistentVector<E> implements DynamicList<E> {
+
+	// Bits of the index consumed per trie level, and the resulting branching factor
+	private static final int BITS = 5;
+	private static final int WIDTH = 1 << BITS;
+	private static final int MASK = WIDTH - 1;
+
+	private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+	private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    //---------------------------------
+    // Instance Variables
+	private final int size;
+	private final int shift;
+	private final Node root;
+	private final Object[] tail;
+
+    //---------------------------------
+    // Private Constructors
+
+    /** Constructs and returns new PersistentVector from its parts */
+	private PersistentVector(int size, int shift, Node root, Object[] tail) {
+		this.size = size;
+		this.shift = shift;
+		this.root = root;
+		this.tail = tail;
+	}
+
+	//-------------------- List Statistics ---------------------
+
+	/**
+	 * Return number of elements in this list.
+	 */
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Return true is this list contains no elements.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	//------------------ Accessing Elements --------------------
+
+	/**
+	 * Return element at given index.
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return (E) this.leafFor(index)[index & MASK];
+	}
+
+	/**
+	 * Return first element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E first() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.get(0);
+	}
+
+	/**
+	 * Return last element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E last() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return (E) this.tail[this.tail.length - 1];
+	}
+
+	/**
+	 * Return a new PersistentVector containing the elements of this list
+	 * between the given index "start" (inclusive) and
+	 * the given index "stop" (exclusive).
+	 * Throws IndexOutOfBoundsException if either passed index is invalid.
+	 */
+	@Override
+	public DynamicList<E> subList(int start, int stop) {
+		if (start < 0 || start > stop || stop > this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+		Builder<E> builder = builder();
+		for (int i=start; i < stop; i++) {
+			builder.add(this.get(i));
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Return index of first matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public int findFirst(Function<E, Boolean> searchFct) {
+		for (int base=0; base < this.size; base += WIDTH) {
+			Object[] leaf = this.leafFor(base);
+			for (int j=0; j < Math.min(WIDTH, this.size - base); j++) {
+				if (searchFct.apply((E) leaf[j])) {
+					return base + j;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Return index of last matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public int findLast(Function<E, Boolean> searchFct) {
+		for (int i=this.size - 1; i >= 0; i--) {
+			if (searchFct.apply((E) this.leafFor(i)[i & MASK])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	//------------------- New Versions (Persistent Behaviors) ---------------------
+
+	/**
+	 * Return a new version of this list with "newElem" added to its end.
+	 * This list is unchanged and shares all but its last path with the new version.
+	 */
+	public PersistentVector<E> plus(E newElem) {
+		int tailCount = this.size - this.tailOffset();
+		if (tailCount < WIDTH) {
+			Object[] newTail = Arrays.copyOf(this.tail, tailCount + 1);
+			newTail[tailCount] = newElem;
+			return new PersistentVector<>(this.size + 1, this.shift, this.root, newTail);
+		}
+		// tail is full: it becomes a leaf of the trie, growing the trie one level if the root is full
+		Node tailNode = new Node(null, this.tail);
+		Node newRoot;
+		int newShift = this.shift;
+		if ((this.size >>> BITS) > (1 << this.shift)) {
+			newRoot = new Node(null, new Object[WIDTH]);
+			newRoot.array[0] = this.root;
+			newRoot.array[1] = newPath(null, this.shift, tailNode);
+			newShift += BITS;
+		} else {
+			newRoot = this.pushTail(this.shift, this.root, tailNode);
+		}
+		return new PersistentVector<>(this.size + 1, newShift, newRoot, new Object[] { newElem });
+	}
+
+	/**
+	 * Return a new version of this list with "newElem" at position "index".
+	 * This list is unchanged and shares all but one path with the new version.
+	 * Valid "index" values are between 0 and "size - 1"
+	 * If "index" is invalid, throws IndexOutOfBoundsException.
+	 */
+	public PersistentVector<E> with(int index, E newElem) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (index >= this.tailOffset()) {
+			Object[] newTail = this.tail.clone();
+			newTail[index & MASK] = newElem;
+			return new PersistentVector<>(this.size, this.shift, this.root, newTail);
+		}
+		return new PersistentVector<>(this.size, this.shift, assoc(this.shift, this.root, index, newElem), this.tail);
+	}
+
+	/**
+	 * Return a new version of this list without its last element.
+	 * This list is unchanged and shares all but its last path with the new version.
+	 * Throws RuntimeException if list is empty
+	 */
+	@SuppressWarnings("unchecked")
+	public PersistentVector<E> withoutLast() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		if (this.size == 1) {
+			return (PersistentVector<E>) EMPTY;
+		}
+		if (this.size - this.tailOffset() > 1) {
+			return new PersistentVector<>(this.size - 1, this.shift, this.root,
+					Arrays.copyOf(this.tail, this.tail.length - 1));
+		}
+		// tail empties: the last leaf of the trie becomes the tail, shrinking the trie if the root has one child left
+		Object[] newTail = this.leafFor(this.size - 2);
+		Node newRoot = this.popTail(this.shift, this.root);
+		int newShift = this.shift;
+		if (newRoot == null) {
+			newRoot = EMPTY_NODE;
+		}
+		if (this.shift > BITS && newRoot.array[1] == null) {
+			newRoot = (Node) newRoot.array[0];
+			newShift -= BITS;
+		}
+		return new PersistentVector<>(this.size - 1, newShift, newRoot, newTail);
+	}
+
+	/**
+	 * Return a Builder holding the elements of this list, for changing many of them
+	 * at once (O(1); nodes are copied as the builder first changes them)
+	 */
+	public Builder<E> toBuilder() {
+		return new Builder<>(this.root, this.shift, this.size, this.tail);
+	}
+
+	//------------------- Setting Elements ---------------------
+
+	/** Not supported (PersistentVector is immutable, use "with") */
+	@Override
+	public E set(int index, E newElem) {
+		throw immutable();
+	}
+
+	//------- Inserting, Appending & Replacing Elements --------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/** Not supported (PersistentVector is immutable) */
+	@Override
+	public void addFirst(E newElem) {
+		throw immutable();
+	}
+
+	/** Not supported (PersistentVector is immutable, use "plus") */
+	@Override
+	public void addLast(E newElem) {
+		throw immutable();
+	}
+
+	/** Not supported (PersistentVector is immutable, use "plus") */
+	@Override
+	public void add(E newElem) {
+		throw immutable();
+	}
+
+	/** Not supported (PersistentVector is immutable, use a Builder) */
+	@Override
+	public void addAll(DynamicList<E> otherDynList) {
+		throw immutable();
+	}
+
+	/** Not supported (PersistentVector is immutable, use a Builder) */
+	@Override
+	public void addAll(E[] array) {
+		throw immutable();
+	}
+
+	/** Not supported (PersistentVector is immutable) */
+	@Override
+	public void insert(int insertIndex, E newElem) {
+		throw immutable();
+	}
+
+	//------------------- Removing Elements --------------------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/** Not supported (PersistentVector is immutable) */
+	@Override
+	public E removeFirst() {
+		throw immutable();
+	}
+
+	/** Not supported (PersistentVector is immutable, use "withoutLast") */
+	@Override
+	public E removeLast() {
+		throw immutable();
+	}
+
+	/** Not supported (PersistentVector is immutable, use newEmpty) */
+	@Override
+	public void removeAll() {
+		throw immutable();
+	}
+
+	/** Not supported (PersistentVector is immutable) */
+	@Override
+	public E removeIndex(int index) {
+		throw immutable();
+	}
+
+	/** Not supported (PersistentVector is immutable) */
+	@Override
+	public E removeFirstMatching(Function<E, Boolean> searchFct) {
+		throw immutable();
+	}
+
+	/** Not supported (PersistentVector is immutable, use "reject") */
+	@Override
+	public int removeIf(Function<E, Boolean> searchFct) {
+		throw immutable();
+	}
+
+	//----------------- Convenience Methods ------------------
+
+	/**
+	 * Return this list as an array (maintain same order of elements)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray() {
+		if (this.isEmpty())
+			return (E[]) Array.newInstance(Object.class, 0);
+		E first = this.first();
+		E[] array = (E[]) Array.newInstance(first == null ? Object.class : first.getClass(), this.size);
+		for (int base=0; base < this.size; base += WIDTH) {
+			System.arraycopy(this.leafFor(base), 0, array, base, Math.min(WIDTH, this.size - base));
+		}
+		return array;
+	}
+
+	/**
+	 * Returns one-line user-friendly message about this object
+	 * Helpful method especially for debugging.
+	 */
+	@Override
+	public String toString() {
+		return "Size: " + this.size + ". Depth: " + (this.shift / BITS) + ". Tail: " + this.tail.length + ".";
+	}
+
+	/**
+	 * Return iterator on this list (the list never changes, so it never fails)
+	 */
+	@Override
+	public StructureIterator<E> iterator() {
+		return new VectorIterator();
+	}
+
+	/**
+	 * Return a SIZED, ORDERED and IMMUTABLE spliterator over the elements of this list
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return Spliterators.spliterator(this.iterator(), this.size,
+				Spliterator.ORDERED | Spliterator.IMMUTABLE);
+	}
+
+	/** Prints all elements to console, with newline after each */
+	@Override
+	public void printAll() {
+		this.forEach(System.out::println);
+	}
+
+	/** Iterates over elements in "this" object. For each element,
+	 * performs actionFct (passing element being iterated on)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(Consumer<? super E> actionFct) {
+		for (int base=0; base < this.size; base += WIDTH) {
+			Object[] leaf = this.leafFor(base);
+			for (int j=0; j < Math.min(WIDTH, this.size - base); j++) {
+				actionFct.accept((E) leaf[j]);
+			}
+		}
+	}
+
+	/** Return new list that is "this" list joined
+	 * 	with "otherList" list (this list's elements are
+	 * 	first followed by the "otherList" list)
+	 * 	(shares the nodes of this list, only the elements of "otherList" are copied)
+	 */
+	@Override
+	public DynamicList<E> join(DynamicList<E> otherList) {
+		Builder<E> builder = this.toBuilder();
+		otherList.forEach(builder::add);
+		return builder.build();
+	}
+
+	//----------------- Utility Methods ------------------
+
+	/**
+	 * Returns new DynamicList with "new elements". Each new element
+	 * is generated from mapFct invoked with an element from
+	 * this list.
+	 */
+	@Override
+	public <T> DynamicList<T> map(Function<E, T> mapFct) {
+		Builder<T> builder = builder();
+		this.forEach(each -> builder.add(mapFct.apply(each)));
+		return builder.build();
+	}
+
+	/**
+	 * Returns new DynamicList which is elements
+	 * selected from this list via selectFct
+	 */
+	@Override
+	public DynamicList<E> select(Function<E, Boolean> selectFct) {
+		Builder<E> builder = builder();
+		this.forEach(each -> {
+			if (selectFct.apply(each)) {
+				builder.add(each);
+			}
+		});
+		return builder.build();
+	}
+
+	/**
+	 * Returns new DynamicList which is this list
+	 * with elements rejected via rejectFct
+	 */
+	@Override
+	public DynamicList<E> reject(Function<E, Boolean> rejectFct) {
+		return this.select(each -> !rejectFct.apply(each));
+	}
+
+	/** Accumulate a value by iterating over the collection
+	  * and accumulating during iteration.
+	  */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T accumulate(BiFunction<T, E, T> fct, T initialValue) {
+		T sum = initialValue;
+		for (int base=0; base < this.size; base += WIDTH) {
+			Object[] leaf = this.leafFor(base);
+			for (int j=0; j < Math.min(WIDTH, this.size - base); j++) {
+				sum = fct.apply(sum, (E) leaf[j]);
+			}
+		}
+		return sum;
+	}
+
+    //---------------------------------
+    // Public Constructors (Static Factory Constructor Methods)
+	//---------------------------------
+
+    /** Returns the empty PersistentVector */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> newEmpty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /** Returns a new PersistentVector that contains all elements (including nulls) of "aFixedArray" */
+    public static <T> PersistentVector<T> from(T[] aFixedArray) {
+        Builder<T> builder = builder();
+        builder.addAll(aFixedArray);
+        return builder.build();
+    }
+
+    /** Returns a new PersistentVector that contains all elements of "aList" (in the same order) */
+    public static <T> PersistentVector<T> copyOf(DynamicList<T> aList) {
+        if (aList instanceof PersistentVector) {
+            return (PersistentVector<T>) aList;
+        }
+        Builder<T> builder = builder();
+        aList.forEach(builder::add);
+        return builder.build();
+    }
+
+    /** Returns a new empty Builder */
+    public static <T> Builder<T> builder() {
+        return new Builder<>(EMPTY_NODE, BITS, 0, new Object[0]);
+    }
+
+	//----------------------------------------------------------
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Index of the first element held in the tail (all elements before it are in the trie)
+	private int tailOffset() {
+		return tailOffset(this.size);
+	}
+
+	private static int tailOffset(int size) {
+		return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+	}
+
+	// Returns the array (trie leaf or tail) holding the element at "index", at slot index & MASK
+	private Object[] leafFor(int index) {
+		if (index >= this.tailOffset()) {
+			return this.tail;
+		}
+		Node node = this.root;
+		for (int level=this.shift; level > 0; level -= BITS) {
+			node = (Node) node.array[(index >>> level) & MASK];
+		}
+		return node.array;
+	}
+
+	// Returns a copy of "parent" (at "level") with "tailNode" added as the leaf after its last one
+	private Node pushTail(int level, Node parent, Node tailNode) {
+		int subIndex = ((this.size - 1) >>> level) & MASK;
+		Node newParent = new Node(null, parent.array.clone());
+		Node child = (Node) parent.array[subIndex];
+		newParent.array[subIndex] = level == BITS ? tailNode
+				: child != null ? this.pushTail(level - BITS, child, tailNode) : newPath(null, level - BITS, tailNode);
+		return newParent;
+	}
+
+	// Returns a copy of "node" (at "level") without its last leaf, or null if that leaves it empty
+	private Node popTail(int level, Node node) {
+		int subIndex = ((this.size - 2) >>> level) & MASK;
+		if (level > BITS) {
+			Node newChild = this.popTail(level - BITS, (Node) node.array[subIndex]);
+			if (newChild == null && subIndex == 0) {
+				return null;
+			}
+			Node newNode = new Node(null, node.array.clone());
+			newNode.array[subIndex] = newChild;
+			return newNode;
+		}
+		if (subIndex == 0) {
+			return null;
+		}
+		Node newNode = new Node(null, node.array.clone());
+		newNode.array[subIndex] = null;
+		return newNode;
+	}
+
+	// Returns a copy of "node" (at "level") with the element at "index" replaced by "newElem"
+	private static Node assoc(int level, Node node, int index, Object newElem) {
+		Node newNode = new Node(null, node.array.clone());
+		if (level == 0) {
+			newNode.array[index & MASK] = newElem;
+		} else {
+			int subIndex = (index >>> level) & MASK;
+			newNode.array[subIndex] = assoc(level - BITS, (Node) node.array[subIndex], index, newElem);
+		}
+		return newNode;
+	}
+
+	// Returns a chain of nodes owned by "edit", "level" deep, ending in "node"
+	private static Node newPath(Object edit, int level, Node node) {
+		if (level == 0) {
+			return node;
+		}
+		Node path = new Node(edit, new Object[WIDTH]);
+		path.array[0] = newPath(edit, level - BITS, node);
+		return path;
+	}
+
+	private static UnsupportedOperationException immutable() {
+		return new UnsupportedOperationException("PersistentVector is immutable, use plus/with/withoutLast or a Builder");
+	}
+
+	// ---------------------- Helper Types ----------------------
+
+	// Trie node: children (inner nodes) or elements (leaves). "edit" is the token of the Builder that
+	// created it and may change it in place; null (or a built Builder's token) means immutable.
+	private static final class Node {
+		final Object edit;
+		final Object[] array;
+
+		Node(Object edit, Object[] array) {
+			this.edit = edit;
+			this.array = array;
+		}
+	}
+
+	/**
+	 * Mutable ("transient") version of a PersistentVector for fast batch construction:
+	 * add, set and removeLast change it in place, then build() returns the result as a
+	 * PersistentVector in O(1). Nodes shared with the vector it started from are copied
+	 * on their first change, so that vector is never affected. A Builder must be used by
+	 * one thread at a time, and not at all after build() (IllegalStateException).
+	 */
+	public static final class Builder<E> {
+		private Object edit;
+		private Node root;
+		private int shift;
+		private int size;
+		private Object[] tail;
+
+		private Builder(Node root, int shift, int size, Object[] tail) {
+			this.edit = new Object();
+			this.root = new Node(this.edit, root.array.clone());
+			this.shift = shift;
+			this.size = size;
+			this.tail = Arrays.copyOf(tail, WIDTH);
+		}
+
+		/** Return number of elements in this builder */
+		public int size() {
+			return this.size;
+		}
+
+		/**
+		 * Return element at given index.
+		 * Throws IndexOutOfBoundsException if passed index is invalid.
+		 */
+		@SuppressWarnings("unchecked")
+		public E get(int index) {
+			this.ensureOpen();
+			if (index < 0 || index >= this.size) {
+				throw new IndexOutOfBoundsException();
+			}
+			return (E) this.leafFor(index)[index & MASK];
+		}
+
+		/**
+		 * Add the passed element to end of list
+		 * Return this builder
+		 */
+		public Builder<E> add(E newElem) {
+			this.ensureOpen();
+			int tailCount = this.size - tailOffset(this.size);
+			if (tailCount == WIDTH) {
+				this.pushTail();
+				tailCount = 0;
+			}
+			this.tail[tailCount] = newElem;
+			this.size++;
+			return this;
+		}
+
+		/**
+		 * Add all elements (including nulls) from passed fixed array, one tail at a time
+		 * Return this builder
+		 */
+		public Builder<E> addAll(E[] array) {
+			return this.addRange(array, 0, array.length);
+		}
+
+		/**
+		 * Insert passed arg "newElem" into position "index"
+		 * Return previous (replaced) elem at "index"
+		 * If "index" is invalid, throws IndexOutOfBoundsException.
+		 */
+		@SuppressWarnings("unchecked")
+		public E set(int index, E newElem) {
+			this.ensureOpen();
+			if (index < 0 || index >= this.size) {
+				throw new IndexOutOfBoundsException();
+			}
+			Object[] leaf = index >= tailOffset(this.size) ? this.tail : this.editableLeafFor(index);
+			E oldElem = (E) leaf[index & MASK];
+			leaf[index & MASK] = newElem;
+			return oldElem;
+		}
+
+		/**
+		 * Remove last element
+		 * Return removed element
+		 * Throws RuntimeException if list is empty
+		 */
+		@SuppressWarnings("unchecked")
+		public E removeLast() {
+			this.ensureOpen();
+			if (this.size == 0) {
+				throw new RuntimeException();
+			}
+			int last = this.size - 1;
+			if (last == 0 || (last & MASK) > 0) {
+				E removedElem = (E) this.tail[last & MASK];
+				this.tail[last & MASK] = null;
+				this.size--;
+				return removedElem;
+			}
+			// tail empties: the last leaf of the trie becomes the tail
+			E removedElem = (E) this.tail[0];
+			Object[] newTail = this.editableLeafFor(this.size - 2);
+			Node newRoot = this.popTail(this.shift, this.root);
+			if (newRoot == null) {
+				newRoot = new Node(this.edit, new Object[WIDTH]);
+			}
+			if (this.shift > BITS && newRoot.array[1] == null) {
+				newRoot = this.ensureEditable((Node) newRoot.array[0]);
+				this.shift -= BITS;
+			}
+			this.root = newRoot;
+			this.tail = newTail;
+			this.size--;
+			return removedElem;
+		}
+
+		/**
+		 * Return the elements of this builder as a PersistentVector (O(1)).
+		 * The builder cannot be used afterwards.
+		 */
+		public PersistentVector<E> build() {
+			this.ensureOpen();
+			this.edit = null;
+			if (this.size == 0) {
+				return newEmpty();
+			}
+			return new PersistentVector<>(this.size, this.shift, this.root,
+					Arrays.copyOf(this.tail, this.size - tailOffset(this.size)));
+		}
+
+		// Adds the elements of array[start, stop), copying as much of the range at once as fits in the tail
+		Builder<E> addRange(E[] array, int start, int stop) {
+			this.ensureOpen();
+			int next = start;
+			while (next < stop) {
+				int tailCount = this.size - tailOffset(this.size);
+				if (tailCount == WIDTH) {
+					this.pushTail();
+					tailCount = 0;
+				}
+				int count = Math.min(WIDTH - tailCount, stop - next);
+				System.arraycopy(array, next, this.tail, tailCount, count);
+				this.size += count;
+				next += count;
+			}
+			return this;
+		}
+
+		private void ensureOpen() {
+			if (this.edit == null) {
+				throw new IllegalStateException("Builder was already built");
+			}
+		}
+
+		// Returns "node" if this builder owns it, otherwise a copy of it that this builder owns
+		private Node ensureEditable(Node node) {
+			return node.edit == this.edit ? node : new Node(this.edit, node.array.clone());
+		}
+
+		private Object[] leafFor(int index) {
+			if (index >= tailOffset(this.size)) {
+				return this.tail;
+			}
+			Node node = this.root;
+			for (int level=this.shift; level > 0; level -= BITS) {
+				node = (Node) node.array[(index >>> level) & MASK];
+			}
+			return node.array;
+		}
+
+		// Same as leafFor (for an index in the trie), making every node on the path editable
+		private Object[] editableLeafFor(int index) {
+			this.root = this.ensureEditable(this.root);
+			Node node = this.root;
+			for (int level=this.shift; level > 0; level -= BITS) {
+				int subIndex = (index >>> level) & MASK;
+				Node child = this.ensureEditable((Node) node.array[subIndex]);
+				node.array[subIndex] = child;
+				node = child;
+			}
+			return node.array;
+		}
+
+		// Moves the full tail into the trie as its new last leaf and starts an empty tail
+		private void pushTail() {
+			Node tailNode = new Node(this.edit, this.tail);
+			if ((this.size >>> BITS) > (1 << this.shift)) {
+				Node newRoot = new Node(this.edit, new Object[WIDTH]);
+				newRoot.array[0] = this.root;
+				newRoot.array[1] = newPath(this.edit, this.shift, tailNode);
+				this.root = newRoot;
+				this.shift += BITS;
+			} else {
+				this.root = this.pushTail(this.shift, this.root, tailNode);
+			}
+			this.tail = new Object[WIDTH];
+		}
+
+		private Node pushTail(int level, Node parent, Node tailNode) {
+			Node editable = this.ensureEditable(parent);
+			int subIndex = ((this.size - 1) >>> level) & MASK;
+			Node child = (Node) editable.array[subIndex];
+			editable.array[subIndex] = level == BITS ? tailNode
+					: child != null ? this.pushTail(level - BITS, child, tailNode)
+							: newPath(this.edit, level - BITS, tailNode);
+			return editable;
+		}
+
+		private Node popTail(int level, Node node) {
+			Node editable = this.ensureEditable(node);
+			int subIndex = ((this.size - 2) >>> level) & MASK;
+			if (level > BITS) {
+				Node newChild = this.popTail(level - BITS, (Node) editable.array[subIndex]);
+				if (newChild == null && subIndex == 0) {
+					return null;
+				}
+				editable.array[subIndex] = newChild;
+				return editable;
+			}
+			if (subIndex == 0) {
+				return null;
+			}
+			editable.array[subIndex] = null;
+			return editable;
+		}
+	}
+
+	// ---------------------- Iterators ----------------------
+
+	// Iterates over the elements in order, one leaf array at a time
+	private class VectorIterator implements StructureIterator<E> {
+		private int cursor = 0;
+		private Object[] leaf = size > 0 ? leafFor(0) : null;
+
+		@Override
+		public boolean hasNext() {
+			return this.cursor < size;
+		}
+
+		@Override
+		public E next() {
+			E elem = this.peek();
+			this.cursor++;
+			if ((this.cursor & MASK) == 0 && this.cursor < size) {
+				this.leaf = leafFor(this.cursor);
+			}
+			return elem;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E peek() {
+			if (this.cursor >= size) {
+				throw new NoSuchElementException();
+			}
+			return (E) this.leaf[this.cursor & MASK];
+		}
+	}
+}
@@ -0,0 +1,108 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Primitive Kernels
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	The bulk loops the primitive lists (DynamicIntArray, DynamicLongArray,
+ *	DynamicDoubleArray and the ColumnarDynamicList columns) run over their
+ *	backing arrays: aggregates, value lookups and range predicates. Each method
+ *	works on the first "size" elements of the array it is given.
+ *
+ *	Ranges are inclusive at both ends; NaN is in no range and equal to no value.
+ *	Two implementations exist, ScalarKernels and VectorizedKernels (SIMD, with
+ *	the Vector API); Kernels picks one when the JVM starts.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+interface PrimitiveKernels {
+
+	//-------------------- int ---------------------
+
+	/** Return sum of the elements (as a long, so it does not overflow) */
+	long sum(int[] array, int size);
+
+	/** Return smallest element (size must be positive) */
+	int min(int[] array, int size);
+
+	/** Return largest element (size must be positive) */
+	int max(int[] array, int size);
+
+	/** Return index of the first element equal to "value", -1 if none */
+	int indexOf(int[] array, int size, int value);
+
+	/** Return number of elements between "low" and "high" */
+	int countInRange(int[] array, int size, int low, int high);
+
+	/** Return index of the first element between "low" and "high", -1 if none */
+	int findFirstInRange(int[] array, int size, int low, int high);
+
+	/**
+	 * Copy the elements between "low" and "high", in order, to the start of "target"
+	 * (at least "size" long; slots after the copied ones may be overwritten too).
+	 * Return the number copied.
+	 */
+	int selectInRange(int[] array, int size, int low, int high, int[] target);
+
+	//-------------------- long ---------------------
+
+	/** Return sum of the elements (wrapping around on overflow) */
+	long sum(long[] array, int size);
+
+	/** Return smallest element (size must be positive) */
+	long min(long[] array, int size);
+
+	/** Return largest element (size must be positive) */
+	long max(long[] array, int size);
+
+	/** Return index of the first element equal to "value", -1 if none */
+	int indexOf(long[] array, int size, long value);
+
+	/** Return number of elements between "low" and "high" */
+	int countInRange(long[] array, int size, long low, long high);
+
+	/** Return index of the first element between "low" and "high", -1 if none */
+	int findFirstInRange(long[] array, int size, long low, long high);
+
+	/**
+	 * Copy the elements between "low" and "high", in order, to the start of "target"
+	 * (at least "size" long; slots after the copied ones may be overwritten too).
+	 * Return the number copied.
+	 */
+	int selectInRange(long[] array, int size, long low, long high, long[] target);
+
+	//-------------------- double ---------------------
+
+	/** Return sum of the elements (the order of the additions is unspecified) */
+	double sum(double[] array, int size);
+
+	/** Return smallest element, NaN if any element is NaN (size must be positive) */
+	double min(double[] array, int size);
+
+	/** Return largest element, NaN if any element is NaN (size must be positive) */
+	double max(double[] array, int size);
+
+	/** Return index of the first element equal (==) to "value", -1 if none */
+	int indexOf(double[] array, int size, double value);
+
+	/** Return number of elements between "low" and "high" */
+	int countInRange(double[] array, int size, double low, double high);
+
+	/** Return index of the first element between "low" and "high", -1 if none */
+	int findFirstInRange(double[] array, int size, double low, double high);
+
+	/**
+	 * Copy the elements between "low" and "high", in order, to the start of "target"
+	 * (at least "size" long; slots after the copied ones may be overwritten too).
+	 * Return the number copied.
+	 */
+	int selectInRange(double[] array, int size, double low, double high, double[] target);
+}
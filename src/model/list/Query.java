@@ -0,0 +1,205 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Query
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Lazy query over a DynamicList. map, select, reject and limit only record a
+ *	stage; nothing runs until a terminal operation (toList, accumulate, forEach,
+ *	count, findFirst) is called. The terminal then makes one fused pass over the
+ *	list: each element goes through every stage before the next element is read,
+ *	so no intermediate list is built. Once limit is reached or findFirst has its
+ *	answer, the pass stops and the remaining elements are never evaluated.
+ *
+ *	A query is immutable: every stage returns a new query and the same query can
+ *	be run many times, each time over the current elements of the list.
+ *	Example:
+ *		DynamicList<String> names = Query.over(employeeList)
+ *				.select(employee -> employee.getAge() > 30)
+ *				.map(Employee::getFirstName)
+ *				.limit(10)
+ *				.toList();
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import model.linearpub.DynamicList;
+
+public final class Query<E> {
+
+    //---------------------------------
+    // Instance Variables
+	private final Runner<E> runner;
+
+    //---------------------------------
+    // Private Constructor
+
+	private Query(Runner<E> aRunner) {
+		this.runner = aRunner;
+	}
+
+    //---------------------------------
+    // Public Constructors (Static Factory Constructor Methods)
+	//---------------------------------
+
+    /** Return a new query over the elements of "list" (see also DynamicArray.query) */
+    public static <T> Query<T> over(DynamicList<T> list) {
+        return new Query<>(sink -> {
+        	for (int i=0; i < list.size(); i++) {
+        		if (!sink.accept(list.get(i))) {
+        			return;
+        		}
+        	}
+        });
+    }
+
+    /** Return a new query that reads the backing array of "source" directly */
+    static <T> Query<T> overArray(DynamicArray<T> source) {
+        return new Query<>(sink -> {
+        	T[] array = source.backingArray();
+        	int size = source.size();
+        	for (int i=0; i < size; i++) {
+        		if (!sink.accept(array[i])) {
+        			return;
+        		}
+        	}
+        });
+    }
+
+	//----------------- Stages ------------------
+
+	/**
+	 * Return a query whose elements are generated from mapFct
+	 * invoked with each element of this query.
+	 */
+	public <T> Query<T> map(Function<E, T> mapFct) {
+		return new Query<>(downstream -> this.runner.run(each -> downstream.accept(mapFct.apply(each))));
+	}
+
+	/**
+	 * Return a query containing only the elements that
+	 * result in true when applied to selectFct
+	 */
+	public Query<E> select(Function<E, Boolean> selectFct) {
+		return new Query<>(downstream -> this.runner.run(each -> !selectFct.apply(each) || downstream.accept(each)));
+	}
+
+	/**
+	 * Return a query without the elements that
+	 * result in true when applied to rejectFct
+	 */
+	public Query<E> reject(Function<E, Boolean> rejectFct) {
+		return new Query<>(downstream -> this.runner.run(each -> rejectFct.apply(each) || downstream.accept(each)));
+	}
+
+	/**
+	 * Return a query holding at most the first "maxSize" elements of this query.
+	 * The pass stops as soon as "maxSize" elements got through.
+	 */
+	public Query<E> limit(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("Negative limit: " + maxSize);
+		}
+		return new Query<>(downstream -> {
+			if (maxSize == 0) {
+				return;
+			}
+			int[] passed = {0};
+			this.runner.run(each -> {
+				passed[0]++;
+				return downstream.accept(each) && passed[0] < maxSize;
+			});
+		});
+	}
+
+	//----------------- Terminal Operations ------------------
+
+	/**
+	 * Run the query and return its elements as a new DynamicList
+	 */
+	public DynamicList<E> toList() {
+		DynamicList<E> newList = DynamicArray.newEmpty();
+		this.runner.run(each -> {
+			newList.add(each);
+			return true;
+		});
+		return newList;
+	}
+
+	/** Run the query, accumulating a value over its elements
+	  * (see DynamicList.accumulate)
+	  */
+	@SuppressWarnings("unchecked")
+	public <T> T accumulate(BiFunction<T, E, T> fct, T initialValue) {
+		Object[] sum = {initialValue};
+		this.runner.run(each -> {
+			sum[0] = fct.apply((T) sum[0], each);
+			return true;
+		});
+		return (T) sum[0];
+	}
+
+	/** Run the query, performing actionFct on each of its elements */
+	public void forEach(Consumer<? super E> actionFct) {
+		this.runner.run(each -> {
+			actionFct.accept(each);
+			return true;
+		});
+	}
+
+	/** Run the query and return the number of its elements */
+	public int count() {
+		int[] count = {0};
+		this.runner.run(each -> {
+			count[0]++;
+			return true;
+		});
+		return count[0];
+	}
+
+	/**
+	 * Run the query until its first element and return it
+	 * Return null if the query has no elements
+	 */
+	public E findFirst() {
+		Object[] found = {null};
+		this.runner.run(each -> {
+			found[0] = each;
+			return false;
+		});
+		@SuppressWarnings("unchecked")
+		E first = (E) found[0];
+		return first;
+	}
+
+	/**
+	 * Run the query until its first element where searchFct outputs true and return it
+	 * Return null if there is no match
+	 */
+	public E findFirst(Function<E, Boolean> searchFct) {
+		return this.select(searchFct).findFirst();
+	}
+
+	// ---------------------- Helper Types ----------------------
+
+	// Receives the elements of a pass one at a time; returns false to stop the pass
+	private interface Sink<T> {
+		boolean accept(T elem);
+	}
+
+	// Pushes the elements of a query through a sink, stopping when the sink returns false
+	private interface Runner<T> {
+		void run(Sink<T> sink);
+	}
+}
@@ -0,0 +1,762 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Rope List
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	This class is a implementation of the Dynamic Array data structure as a rope:
+ *	a balanced tree whose nodes each hold a small array ("leaf") of up to
+ *	LEAF_CAPACITY consecutive elements. Every node knows how many elements its
+ *	subtree holds, so get, set, insert and removeIndex walk one root-to-node path
+ *	and take O(log n) time at any position, without shifting the rest of the list.
+ *
+ *	The tree is an implicit treap: nodes are ordered by position and balanced by
+ *	random priorities (a node's priority is never lower than its children's).
+ *	A full leaf is split in two halves before inserting into it (appending past a
+ *	full leaf starts a new one instead). A leaf that drops below a quarter full
+ *	through removals absorbs an adjacent leaf when both fit in one, so scattered
+ *	removals do not leave the tree with many nearly empty leaves.
+ *	Use it for very large lists with inserts scattered over arbitrary positions;
+ *	for edits that stay near one position see GapBufferList.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import model.linearpub.DynamicList;
+import model.linearpub.StructureIterator;
+
+public class RopeList<E> implements DynamicList<E> {
+
+	// Most elements a single node holds
+	private static final int LEAF_CAPACITY = 64;
+	// A node holding fewer elements after a removal absorbs an adjacent node when both fit in one leaf
+	private static final int MIN_FILL = LEAF_CAPACITY / 4;
+
+    //---------------------------------
+    // Instance Variables
+	private Node root;
+	private int modCount;
+	private final SplittableRandom priorities = new SplittableRandom();
+
+    //---------------------------------
+    // Private Constructor
+
+    /** Constructs and returns new empty RopeList */
+	private RopeList() {
+		this.root = null;
+	}
+
+	//-------------------- List Statistics ---------------------
+
+	/**
+	 * Return number of elements in this list.
+	 */
+	@Override
+	public int size() {
+		return size(this.root);
+	}
+
+	/**
+	 * Return true is this list contains no elements.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return this.root == null;
+	}
+
+	//------------------ Accessing Elements --------------------
+
+	/**
+	 * Return element at given index (O(log n)).
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	public E get(int index) {
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		Node node = this.root;
+		while (true) {
+			int leftSize = size(node.left);
+			if (index < leftSize) {
+				node = node.left;
+			} else if (index < leftSize + node.count) {
+				return this.cast(node.leaf[index - leftSize]);
+			} else {
+				index -= leftSize + node.count;
+				node = node.right;
+			}
+		}
+	}
+
+	/**
+	 * Return first element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E first() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.get(0);
+	}
+
+	/**
+	 * Return last element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E last() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.get(this.size() - 1);
+	}
+
+	/**
+	 * Return a new list containing the elements of this list
+	 * between the given index "start" (inclusive) and
+	 * the given index "stop" (exclusive).
+	 * Throws IndexOutOfBoundsException if either passed index is invalid.
+	 */
+	@Override
+	public DynamicList<E> subList(int start, int stop) {
+		if (start < 0 || start > stop || stop > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		RopeList<E> newList = new RopeList<>();
+		int[] index = {0};
+		this.forEach(each -> {
+			if (index[0] >= start && index[0] < stop) {
+				newList.addLast(each);
+			}
+			index[0]++;
+		});
+		return newList;
+	}
+
+	/**
+	 * Return index of first matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	public int findFirst(Function<E, Boolean> searchFct) {
+		StructureIterator<E> iter = this.iterator();
+		for (int i=0; iter.hasNext(); i++) {
+			if (searchFct.apply(iter.next())) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Return index of last matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	public int findLast(Function<E, Boolean> searchFct) {
+		int[] found = {-1};
+		int[] index = {0};
+		this.forEach(each -> {
+			if (searchFct.apply(each)) {
+				found[0] = index[0];
+			}
+			index[0]++;
+		});
+		return found[0];
+	}
+
+	//------------------- Setting Elements ---------------------
+
+	/**
+	 * Insert passed arg "newElem" into position "index"
+	 * Return previous (replaced) elem at "index"
+	 * Valid "index" values are between 0 and "size - 1"
+	 * If "index" is invalid, throws IndexOutOfBoundsException.
+	*/
+	@Override
+	public E set(int index, E newElem) {
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		Node node = this.root;
+		while (true) {
+			int leftSize = size(node.left);
+			if (index < leftSize) {
+				node = node.left;
+			} else if (index < leftSize + node.count) {
+				E oldElem = this.cast(node.leaf[index - leftSize]);
+				node.leaf[index - leftSize] = newElem;
+				return oldElem;
+			} else {
+				index -= leftSize + node.count;
+				node = node.right;
+			}
+		}
+	}
+
+	//------- Inserting, Appending & Replacing Elements --------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Add the passed element to start of list
+	 */
+	@Override
+	public void addFirst(E newElem) {
+		this.insert(0, newElem);
+	}
+
+	/**
+	 * Add the passed element to end of list
+	 */
+	@Override
+	public void addLast(E newElem) {
+		this.insert(this.size(), newElem);
+	}
+
+	/**
+	 * Alias for "addLast" (same functionality)
+	 */
+	@Override
+	public void add(E newElem) {
+		this.addLast(newElem);
+	}
+
+	/**
+	 * Add all elements from "otherDynList" into "this" list
+	 * (stops at the first null element, like DynamicArray)
+	 */
+	@Override
+	public void addAll(DynamicList<E> otherDynList) {
+		for (int i=0; i < otherDynList.size(); i++) {
+			E elem = otherDynList.get(i);
+			if (elem == null) {
+				return;
+			}
+			this.addLast(elem);
+		}
+	}
+
+	/**
+	 * Add all elements from passed fixed array "this" list
+	 * (stops at the first null element, like DynamicArray)
+	 */
+	@Override
+	public void addAll(E[] array) {
+		for (int i=0; i < array.length && array[i] != null; i++) {
+			this.addLast(array[i]);
+		}
+	}
+
+	/**
+	 * Insert passed arg "newElem" into position "insertIndex" (O(log n))
+	 * Valid "insertIndex" values are between 0 and "size"
+	 * If index = "size" then it becomes a simple "add" operation
+	 * If "insertIndex" is invalid, throws IndexOutOfBoundsException
+	 */
+	@Override
+	public void insert(int insertIndex, E newElem) {
+		if (insertIndex < 0 || insertIndex > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (this.root == null) {
+			this.root = new Node(this.priorities.nextInt());
+		}
+		this.root = this.insert(this.root, insertIndex, newElem);
+		this.modCount++;
+	}
+
+	//------------------- Removing Elements --------------------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Remove first element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E removeFirst() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.removeIndex(0);
+	}
+
+	/**
+	 * Remove last element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E removeLast() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.removeIndex(this.size() - 1);
+	}
+
+	/**
+	 * Reset the list so it is empty.
+	 * If list is already empty, then do nothing
+	 */
+	@Override
+	public void removeAll() {
+		if (isEmpty()) {
+			return;
+		}
+		this.root = null;
+		this.modCount++;
+	}
+
+	/**
+	 * Remove elem at index (O(log n))
+	 * Return the removed element
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	public E removeIndex(int index) {
+		E removedElem = this.get(index);
+		this.root = this.remove(this.root, index);
+		this.modCount++;
+		return removedElem;
+	}
+
+	/**
+	 * Remove first matching element (where searchFct outputs true)
+	 * Return the removed element
+	 * If no match, return null
+	 */
+	@Override
+	public E removeFirstMatching(Function<E, Boolean> searchFct) {
+		int index = this.findFirst(searchFct);
+		if (index == -1) {
+			return null;
+		}
+		return this.removeIndex(index);
+	}
+
+	//----------------- Convenience Methods ------------------
+
+	/**
+	 * Return this list as an array (maintain same order of elements)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray() {
+		if (this.isEmpty())
+			return (E[]) Array.newInstance(Object.class, 0);
+		E[] array = (E[]) Array.newInstance(this.first().getClass(), this.size());
+		int[] index = {0};
+		this.forEachLeaf(node -> {
+			System.arraycopy(node.leaf, 0, array, index[0], node.count);
+			index[0] += node.count;
+		});
+		return array;
+	}
+
+	/**
+	 * Returns one-line user-friendly message about this object
+	 * Helpful method especially for debugging.
+	 */
+	@Override
+	public String toString() {
+		return "Rope. Size: " + this.size() + ". Height: " + height(this.root) + ".";
+	}
+
+	/**
+	 * Return iterator on this list. The iterator fails fast: once the list is
+	 * structurally modified, its next call throws ConcurrentModificationException.
+	 */
+	@Override
+	public StructureIterator<E> iterator() {
+		return new RopeIterator();
+	}
+
+	/** Prints all elements to console, with newline after each */
+	@Override
+	public void printAll() {
+		this.forEach(System.out::println);
+	}
+
+	/** Iterates over elements in "this" object, leaf by leaf. For each element,
+	 * performs actionFct (passing element being iterated on)
+	 */
+	@Override
+	public void forEach(Consumer<? super E> actionFct) {
+		this.forEachLeaf(node -> {
+			for (int i=0; i < node.count; i++) {
+				actionFct.accept(this.cast(node.leaf[i]));
+			}
+		});
+	}
+
+	/** Return new list that is "this" list joined
+	 * 	with "otherList" list (this list's elements are
+	 * 	first followed by the "otherList" list)
+	 */
+	@Override
+	public DynamicList<E> join(DynamicList<E> otherList) {
+		RopeList<E> newList = new RopeList<>();
+		this.forEach(newList::addLast);
+		otherList.forEach(newList::addLast);
+		return newList;
+	}
+
+	//----------------- Utility Methods ------------------
+
+	/**
+	 * Returns new DynamicList with "new elements". Each new element
+	 * is generated from mapFct invoked with an element from
+	 * this list.
+	 */
+	@Override
+	public <T> DynamicList<T> map(Function<E, T> mapFct) {
+		RopeList<T> newList = new RopeList<>();
+		this.forEach(each -> newList.addLast(mapFct.apply(each)));
+		return newList;
+	}
+
+	/**
+	 * Returns new DynamicList which is elements
+	 * selected from this list via selectFct
+	 */
+	@Override
+	public DynamicList<E> select(Function<E, Boolean> selectFct) {
+		RopeList<E> newList = new RopeList<>();
+		this.forEach(each -> {
+			if (selectFct.apply(each)) {
+				newList.addLast(each);
+			}
+		});
+		return newList;
+	}
+
+	/**
+	 * Returns new DynamicList which is this list
+	 * with elements rejected via rejectFct
+	 */
+	@Override
+	public DynamicList<E> reject(Function<E, Boolean> rejectFct) {
+		return this.select(each -> !rejectFct.apply(each));
+	}
+
+	/** Accumulate a value by iterating over the collection
+	  * and accumulating during iteration.
+	  */
+	@Override
+	public <T> T accumulate(BiFunction<T, E, T> fct, T initialValue) {
+		Object[] sum = {initialValue};
+		this.forEach(each -> sum[0] = fct.apply(this.<T>castTo(sum[0]), each));
+		return this.castTo(sum[0]);
+	}
+
+    //---------------------------------
+    // Public Constructors (Static Factory Constructor Methods)
+	//---------------------------------
+
+    /** Returns a new empty rope DynamicList */
+    public static <T> DynamicList<T> newEmpty() {
+        return new RopeList<>();
+    }
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Inserts "elem" at "index" of the subtree "node" and returns the subtree's new root.
+	// A full leaf is first split: its upper half moves into a new node placed right after it.
+	private Node insert(Node node, int index, E elem) {
+		int leftSize = size(node.left);
+		if (index < leftSize) {
+			node.left = this.insert(node.left, index, elem);
+			if (node.left.priority > node.priority) {
+				node = rotateRight(node);
+			}
+		} else if (index <= leftSize + node.count) {
+			int slot = index - leftSize;
+			if (node.count == LEAF_CAPACITY) {
+				Node upper = new Node(this.priorities.nextInt());
+				if (slot == LEAF_CAPACITY) {
+					// appending after a full leaf starts a new one, so appends fill leaves completely
+					upper.leaf[0] = elem;
+					upper.count = 1;
+				} else {
+					int half = LEAF_CAPACITY / 2;
+					System.arraycopy(node.leaf, half, upper.leaf, 0, LEAF_CAPACITY - half);
+					Arrays.fill(node.leaf, half, LEAF_CAPACITY, null);
+					upper.count = LEAF_CAPACITY - half;
+					node.count = half;
+				}
+				node.right = insertFirst(node.right, upper);
+				node.update();
+				if (node.right.priority > node.priority) {
+					node = rotateLeft(node);
+				}
+				return slot == LEAF_CAPACITY ? node : this.insert(node, index, elem);
+			}
+			System.arraycopy(node.leaf, slot, node.leaf, slot + 1, node.count - slot);
+			node.leaf[slot] = elem;
+			node.count++;
+		} else {
+			node.right = this.insert(node.right, index - leftSize - node.count, elem);
+			if (node.right.priority > node.priority) {
+				node = rotateLeft(node);
+			}
+		}
+		node.update();
+		return node;
+	}
+
+	// Removes the element at "index" of the subtree "node" and returns the subtree's new root
+	// (a node whose leaf becomes empty is replaced by the merge of its two children; one that
+	// drops below MIN_FILL absorbs the next or previous node when both fit in one leaf)
+	private Node remove(Node node, int index) {
+		int leftSize = size(node.left);
+		if (index < leftSize) {
+			node.left = this.remove(node.left, index);
+			if (isUnderfullLeaf(node.left) && node.left.count + node.count <= LEAF_CAPACITY) {
+				// a childless left child holds the elements right before this node's
+				prepend(node, node.left);
+				node.left = null;
+			}
+		} else if (index < leftSize + node.count) {
+			int slot = index - leftSize;
+			System.arraycopy(node.leaf, slot + 1, node.leaf, slot, node.count - slot - 1);
+			node.leaf[--node.count] = null;
+			if (node.count == 0) {
+				return merge(node.left, node.right);
+			}
+			if (node.count < MIN_FILL) {
+				if (node.right != null) {
+					node.right = absorbFirst(node, node.right);
+				} else if (node.left != null) {
+					node.left = absorbLast(node, node.left);
+				}
+			}
+		} else {
+			node.right = this.remove(node.right, index - leftSize - node.count);
+			if (isUnderfullLeaf(node.right) && node.count + node.right.count <= LEAF_CAPACITY) {
+				// a childless right child holds the elements right after this node's
+				System.arraycopy(node.right.leaf, 0, node.leaf, node.count, node.right.count);
+				node.count += node.right.count;
+				node.right = null;
+			}
+		}
+		node.update();
+		return node;
+	}
+
+	// Moves the elements of the first node of the subtree "from" to the end of "into" (when they
+	// fit), drops that node and returns the subtree's new root
+	private static Node absorbFirst(Node into, Node from) {
+		if (from.left != null) {
+			from.left = absorbFirst(into, from.left);
+			from.update();
+			return from;
+		}
+		if (into.count + from.count > LEAF_CAPACITY) {
+			return from;
+		}
+		System.arraycopy(from.leaf, 0, into.leaf, into.count, from.count);
+		into.count += from.count;
+		return from.right;
+	}
+
+	// Moves the elements of the last node of the subtree "from" to the start of "into" (when they
+	// fit), drops that node and returns the subtree's new root
+	private static Node absorbLast(Node into, Node from) {
+		if (from.right != null) {
+			from.right = absorbLast(into, from.right);
+			from.update();
+			return from;
+		}
+		if (from.count + into.count > LEAF_CAPACITY) {
+			return from;
+		}
+		prepend(into, from);
+		return from.left;
+	}
+
+	// Moves the elements of "from" in front of the elements of "into" (they must fit)
+	private static void prepend(Node into, Node from) {
+		System.arraycopy(into.leaf, 0, into.leaf, from.count, into.count);
+		System.arraycopy(from.leaf, 0, into.leaf, 0, from.count);
+		into.count += from.count;
+	}
+
+	// Returns true if "node" has no children and holds fewer than MIN_FILL elements
+	private static boolean isUnderfullLeaf(Node node) {
+		return node != null && node.left == null && node.right == null && node.count < MIN_FILL;
+	}
+
+	// Places "first" before every node of the subtree "node" and returns the subtree's new root
+	private static Node insertFirst(Node node, Node first) {
+		if (node == null) {
+			first.update();
+			return first;
+		}
+		node.left = insertFirst(node.left, first);
+		if (node.left.priority > node.priority) {
+			node = rotateRight(node);
+		}
+		node.update();
+		return node;
+	}
+
+	// Joins two subtrees (every element of "left" comes before every element of "right")
+	private static Node merge(Node left, Node right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		if (left.priority > right.priority) {
+			left.right = merge(left.right, right);
+			left.update();
+			return left;
+		}
+		right.left = merge(left, right.left);
+		right.update();
+		return right;
+	}
+
+	// Lifts the left child of "node" above it, keeping the element order
+	private static Node rotateRight(Node node) {
+		Node pivot = node.left;
+		node.left = pivot.right;
+		node.update();
+		pivot.right = node;
+		pivot.update();
+		return pivot;
+	}
+
+	// Lifts the right child of "node" above it, keeping the element order
+	private static Node rotateLeft(Node node) {
+		Node pivot = node.right;
+		node.right = pivot.left;
+		node.update();
+		pivot.left = node;
+		pivot.update();
+		return pivot;
+	}
+
+	// Returns the number of elements in the subtree "node"
+	private static int size(Node node) {
+		return node == null ? 0 : node.size;
+	}
+
+	// Returns the number of levels of the subtree "node"
+	private static int height(Node node) {
+		return node == null ? 0 : 1 + Math.max(height(node.left), height(node.right));
+	}
+
+	// Visits the nodes in element order without recursion
+	private void forEachLeaf(Consumer<Node> visitFct) {
+		ArrayDeque<Node> path = new ArrayDeque<>();
+		Node node = this.root;
+		while (node != null || !path.isEmpty()) {
+			while (node != null) {
+				path.push(node);
+				node = node.left;
+			}
+			node = path.pop();
+			visitFct.accept(node);
+			node = node.right;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private E cast(Object elem) {
+		return (E) elem;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T castTo(Object value) {
+		return (T) value;
+	}
+
+	// One tree node: a leaf of up to LEAF_CAPACITY consecutive elements
+	private static final class Node {
+		private final Object[] leaf = new Object[LEAF_CAPACITY];
+		private final int priority;
+		private int count;
+		private int size;
+		private Node left;
+		private Node right;
+
+		Node(int aPriority) {
+			this.priority = aPriority;
+		}
+
+		// Recomputes the number of elements in this subtree from the children
+		void update() {
+			this.size = size(this.left) + this.count + size(this.right);
+		}
+	}
+
+	// ---------------------- Iterators ----------------------
+
+	// Iterates over the elements in order, one leaf at a time
+	private class RopeIterator implements StructureIterator<E> {
+		private final ArrayDeque<Node> path = new ArrayDeque<>();
+		private Node node;
+		private int slot;
+		private final int expectedModCount = modCount;
+
+		RopeIterator() {
+			this.descend(root);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.node != null;
+		}
+
+		@Override
+		public E next() {
+			E elem = this.peek();
+			if (++this.slot == this.node.count) {
+				this.descend(this.node.right);
+			}
+			return elem;
+		}
+
+		@Override
+		public E peek() {
+			if (modCount != this.expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (this.node == null) {
+				throw new NoSuchElementException();
+			}
+			return cast(this.node.leaf[this.slot]);
+		}
+
+		// Moves to the first node of the subtree "start", or back up the path when it is empty
+		private void descend(Node start) {
+			while (start != null) {
+				this.path.push(start);
+				start = start.left;
+			}
+			this.node = this.path.isEmpty() ? null : this.path.pop();
+			this.slot = 0;
+		}
+	}
+}
@@ -0,0 +1,316 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Scalar Kernels
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	PrimitiveKernels written as plain loops, one element at a time. Used when the
+ *	Vector API is unavailable or switched off (see Kernels), and by
+ *	VectorizedKernels for the elements after the last full vector.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+final class ScalarKernels implements PrimitiveKernels {
+
+	//-------------------- int ---------------------
+
+	@Override
+	public long sum(int[] array, int size) {
+		return sum(array, 0, size);
+	}
+
+	@Override
+	public int min(int[] array, int size) {
+		return min(array, 0, size, array[0]);
+	}
+
+	@Override
+	public int max(int[] array, int size) {
+		return max(array, 0, size, array[0]);
+	}
+
+	@Override
+	public int indexOf(int[] array, int size, int value) {
+		return indexOf(array, 0, size, value);
+	}
+
+	@Override
+	public int countInRange(int[] array, int size, int low, int high) {
+		return countInRange(array, 0, size, low, high);
+	}
+
+	@Override
+	public int findFirstInRange(int[] array, int size, int low, int high) {
+		return findFirstInRange(array, 0, size, low, high);
+	}
+
+	@Override
+	public int selectInRange(int[] array, int size, int low, int high, int[] target) {
+		return selectInRange(array, 0, size, low, high, target, 0);
+	}
+
+	// The loops below cover array[from, to), so VectorizedKernels can finish its tails with them
+
+	static long sum(int[] array, int from, int to) {
+		long sum = 0;
+		for (int i=from; i < to; i++) {
+			sum += array[i];
+		}
+		return sum;
+	}
+
+	static int min(int[] array, int from, int to, int min) {
+		for (int i=from; i < to; i++) {
+			min = Math.min(min, array[i]);
+		}
+		return min;
+	}
+
+	static int max(int[] array, int from, int to, int max) {
+		for (int i=from; i < to; i++) {
+			max = Math.max(max, array[i]);
+		}
+		return max;
+	}
+
+	static int indexOf(int[] array, int from, int to, int value) {
+		for (int i=from; i < to; i++) {
+			if (array[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	static int countInRange(int[] array, int from, int to, int low, int high) {
+		int count = 0;
+		for (int i=from; i < to; i++) {
+			count += array[i] >= low & array[i] <= high ? 1 : 0;
+		}
+		return count;
+	}
+
+	static int findFirstInRange(int[] array, int from, int to, int low, int high) {
+		for (int i=from; i < to; i++) {
+			if (array[i] >= low && array[i] <= high) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	// Copies the matches to target[count, ...); returns the new count. Every element is written and the
+	// count only moves past the matches, so there is no branch to mispredict (target needs room for all)
+	static int selectInRange(int[] array, int from, int to, int low, int high, int[] target, int count) {
+		for (int i=from; i < to; i++) {
+			int value = array[i];
+			target[count] = value;
+			count += value >= low & value <= high ? 1 : 0;
+		}
+		return count;
+	}
+
+	//-------------------- long ---------------------
+
+	@Override
+	public long sum(long[] array, int size) {
+		return sum(array, 0, size);
+	}
+
+	@Override
+	public long min(long[] array, int size) {
+		return min(array, 0, size, array[0]);
+	}
+
+	@Override
+	public long max(long[] array, int size) {
+		return max(array, 0, size, array[0]);
+	}
+
+	@Override
+	public int indexOf(long[] array, int size, long value) {
+		return indexOf(array, 0, size, value);
+	}
+
+	@Override
+	public int countInRange(long[] array, int size, long low, long high) {
+		return countInRange(array, 0, size, low, high);
+	}
+
+	@Override
+	public int findFirstInRange(long[] array, int size, long low, long high) {
+		return findFirstInRange(array, 0, size, low, high);
+	}
+
+	@Override
+	public int selectInRange(long[] array, int size, long low, long high, long[] target) {
+		return selectInRange(array, 0, size, low, high, target, 0);
+	}
+
+	// The loops below cover array[from, to), so VectorizedKernels can finish its tails with them
+
+	static long sum(long[] array, int from, int to) {
+		long sum = 0;
+		for (int i=from; i < to; i++) {
+			sum += array[i];
+		}
+		return sum;
+	}
+
+	static long min(long[] array, int from, int to, long min) {
+		for (int i=from; i < to; i++) {
+			min = Math.min(min, array[i]);
+		}
+		return min;
+	}
+
+	static long max(long[] array, int from, int to, long max) {
+		for (int i=from; i < to; i++) {
+			max = Math.max(max, array[i]);
+		}
+		return max;
+	}
+
+	static int indexOf(long[] array, int from, int to, long value) {
+		for (int i=from; i < to; i++) {
+			if (array[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	static int countInRange(long[] array, int from, int to, long low, long high) {
+		int count = 0;
+		for (int i=from; i < to; i++) {
+			count += array[i] >= low & array[i] <= high ? 1 : 0;
+		}
+		return count;
+	}
+
+	static int findFirstInRange(long[] array, int from, int to, long low, long high) {
+		for (int i=from; i < to; i++) {
+			if (array[i] >= low && array[i] <= high) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	// Copies the matches to target[count, ...); returns the new count. Every element is written and the
+	// count only moves past the matches, so there is no branch to mispredict (target needs room for all)
+	static int selectInRange(long[] array, int from, int to, long low, long high, long[] target, int count) {
+		for (int i=from; i < to; i++) {
+			long value = array[i];
+			target[count] = value;
+			count += value >= low & value <= high ? 1 : 0;
+		}
+		return count;
+	}
+
+	//-------------------- double ---------------------
+
+	@Override
+	public double sum(double[] array, int size) {
+		return sum(array, 0, size);
+	}
+
+	@Override
+	public double min(double[] array, int size) {
+		return min(array, 0, size, array[0]);
+	}
+
+	@Override
+	public double max(double[] array, int size) {
+		return max(array, 0, size, array[0]);
+	}
+
+	@Override
+	public int indexOf(double[] array, int size, double value) {
+		return indexOf(array, 0, size, value);
+	}
+
+	@Override
+	public int countInRange(double[] array, int size, double low, double high) {
+		return countInRange(array, 0, size, low, high);
+	}
+
+	@Override
+	public int findFirstInRange(double[] array, int size, double low, double high) {
+		return findFirstInRange(array, 0, size, low, high);
+	}
+
+	@Override
+	public int selectInRange(double[] array, int size, double low, double high, double[] target) {
+		return selectInRange(array, 0, size, low, high, target, 0);
+	}
+
+	// The loops below cover array[from, to), so VectorizedKernels can finish its tails with them
+
+	static double sum(double[] array, int from, int to) {
+		double sum = 0;
+		for (int i=from; i < to; i++) {
+			sum += array[i];
+		}
+		return sum;
+	}
+
+	static double min(double[] array, int from, int to, double min) {
+		for (int i=from; i < to; i++) {
+			min = Math.min(min, array[i]);
+		}
+		return min;
+	}
+
+	static double max(double[] array, int from, int to, double max) {
+		for (int i=from; i < to; i++) {
+			max = Math.max(max, array[i]);
+		}
+		return max;
+	}
+
+	static int indexOf(double[] array, int from, int to, double value) {
+		for (int i=from; i < to; i++) {
+			if (array[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	static int countInRange(double[] array, int from, int to, double low, double high) {
+		int count = 0;
+		for (int i=from; i < to; i++) {
+			count += array[i] >= low & array[i] <= high ? 1 : 0;
+		}
+		return count;
+	}
+
+	static int findFirstInRange(double[] array, int from, int to, double low, double high) {
+		for (int i=from; i < to; i++) {
+			if (array[i] >= low && array[i] <= high) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	// Copies the matches to target[count, ...); returns the new count. Every element is written and the
+	// count only moves past the matches, so there is no branch to mispredict (target needs room for all)
+	static int selectInRange(double[] array, int from, int to, double low, double high, double[] target, int count) {
+		for (int i=from; i < to; i++) {
+			double value = array[i];
+			target[count] = value;
+			count += value >= low & value <= high ? 1 : 0;
+		}
+		return count;
+	}
+}
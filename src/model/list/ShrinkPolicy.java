@@ -0,0 +1,57 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Shrink Policy
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Decides whether the backing array of a DynamicArray is released for a smaller
+ *	one after elements are removed.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+public interface ShrinkPolicy {
+
+	/** Never shrink (the DynamicArray default) */
+	ShrinkPolicy NEVER = (capacity, size) -> capacity;
+
+	/**
+	 * Return the capacity the backing array should have now that the list holds
+	 * "size" elements in "capacity" slots. Returning "capacity" means keep the array.
+	 * The result is never below "size".
+	 */
+	int shrink(int capacity, int size);
+
+	/**
+	 * Return a policy with hysteresis: once fewer than "lowWater" (e.g. 0.25) of the slots
+	 * are used, the array shrinks so that "targetLoad" (e.g. 0.5) of it is used, but never below
+	 * "minCapacity". Because targetLoad is above lowWater, a list that shrank has to lose (or gain)
+	 * a good share of its elements before the next resize, so bursts do not make it thrash.
+	 */
+	static ShrinkPolicy hysteresis(double lowWater, double targetLoad, int minCapacity) {
+		if (lowWater <= 0 || targetLoad <= lowWater || targetLoad > 1) {
+			throw new IllegalArgumentException("Expected 0 < lowWater < targetLoad <= 1");
+		}
+		return (capacity, size) -> {
+			if (capacity <= minCapacity || size >= capacity * lowWater) {
+				return capacity;
+			}
+			int target = (int) Math.ceil(size / targetLoad);
+			return Math.max(Math.max(target, size), minCapacity);
+		};
+	}
+
+	/**
+	 * Return hysteresis(0.25, 0.5, DynamicArray.defaultInitialCapacity())
+	 */
+	static ShrinkPolicy hysteresis() {
+		return hysteresis(0.25, 0.5, DynamicArray.defaultInitialCapacity());
+	}
+}
@@ -0,0 +1,573 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Sorted Dynamic Array
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Dynamic Array that keeps its elements sorted by a Comparator, so lookups
+ *	use binary search (O(log n)) instead of a linear scan with a search function.
+ *
+ *	add (and its aliases addFirst/addLast) puts the element at its sorted position,
+ *	after any equal elements. addAll sorts the incoming batch once and merges it in
+ *	with a single linear pass instead of one shifting insert per element.
+ *	insert and set are only allowed where they keep the list sorted.
+ *	Example:
+ *		SortedDynamicArray<Employee> byAge = SortedDynamicArray.withComparator(
+ *				Comparator.comparing(Employee::getAge));
+ *		byAge.addAll(employees);
+ *		ListView<Employee> thirties = byAge.range(age30, age40);
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import model.linearpub.DynamicList;
+import model.linearpub.StructureIterator;
+
+public class SortedDynamicArray<E> implements DynamicList<E> {
+
+	// Batches at least this long are sorted with Arrays.parallelSort
+	private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    //---------------------------------
+    // Instance Variables
+	private final DynamicArray<E> elements;
+	private final Comparator<? super E> comparator;
+
+    //---------------------------------
+    // Private Constructor
+
+    /** Constructs and returns new empty SortedDynamicArray ordered by "aComparator" */
+	@SuppressWarnings("unchecked")
+	private SortedDynamicArray(Comparator<? super E> aComparator) {
+		this.elements = DynamicArray.wrap((E[]) new Object[DynamicArray.defaultInitialCapacity()], 0,
+				DynamicArray.defaultGrowthFactor());
+		this.comparator = aComparator;
+	}
+
+	//-------------------- List Statistics ---------------------
+
+	/**
+	 * Return number of elements in this list.
+	 */
+	@Override
+	public int size() {
+		return this.elements.size();
+	}
+
+	/**
+	 * Return true is this list contains no elements.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return this.elements.isEmpty();
+	}
+
+	/**
+	 * Return the comparator that orders this list
+	 */
+	public Comparator<? super E> comparator() {
+		return this.comparator;
+	}
+
+	/**
+	 * Grow the backing array (if needed) so that it can hold at least
+	 * "minCapacity" elements without growing again.
+	 */
+	@Override
+	public void ensureCapacity(int minCapacity) {
+		this.elements.ensureCapacity(minCapacity);
+	}
+
+	/**
+	 * Shrink the backing array so its capacity matches the size.
+	 */
+	@Override
+	public void trimToSize() {
+		this.elements.trimToSize();
+	}
+
+	//------------------ Accessing Elements --------------------
+
+	/**
+	 * Return element at given index.
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	public E get(int index) {
+		return this.elements.get(index);
+	}
+
+	/**
+	 * Return first (smallest) element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E first() {
+		return this.elements.first();
+	}
+
+	/**
+	 * Return last (largest) element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E last() {
+		return this.elements.last();
+	}
+
+	/**
+	 * Return a new list containing the elements of this list
+	 * between the given index "start" (inclusive) and
+	 * the given index "stop" (exclusive).
+	 * Throws IndexOutOfBoundsException if either passed index is invalid.
+	 */
+	@Override
+	public DynamicList<E> subList(int start, int stop) {
+		return this.elements.subList(start, stop);
+	}
+
+	/**
+	 * Return index of first matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 * (linear scan; use indexOf to look up an element in O(log n))
+	 */
+	@Override
+	public int findFirst(Function<E, Boolean> searchFct) {
+		return this.elements.findFirst(searchFct);
+	}
+
+	/**
+	 * Return index of last matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	public int findLast(Function<E, Boolean> searchFct) {
+		return this.elements.findLast(searchFct);
+	}
+
+	//------------------ Binary Search --------------------
+
+	/**
+	 * Return index of the first element equal to "key" (comparator returns 0)
+	 * Return -1 if there is none
+	 */
+	public int indexOf(E key) {
+		int index = this.lowerBound(key);
+		if (index < this.size() && this.comparator.compare(this.get(index), key) == 0) {
+			return index;
+		}
+		return -1;
+	}
+
+	/**
+	 * Return true if the list holds an element equal to "key"
+	 */
+	public boolean contains(E key) {
+		return this.indexOf(key) != -1;
+	}
+
+	/**
+	 * Return index of the first element that is not less than "key"
+	 * (size() if every element is less than "key")
+	 */
+	public int lowerBound(E key) {
+		E[] array = this.elements.backingArray();
+		int low = 0;
+		int high = this.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (this.comparator.compare(array[mid], key) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Return index of the first element that is greater than "key"
+	 * (size() if no element is greater than "key")
+	 */
+	public int upperBound(E key) {
+		E[] array = this.elements.backingArray();
+		int low = 0;
+		int high = this.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (this.comparator.compare(array[mid], key) <= 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Return a read-only view (see subListView) of the elements from "low" (inclusive)
+	 * to "high" (exclusive). Throws IllegalArgumentException if "low" is greater than "high".
+	 */
+	public ListView<E> range(E low, E high) {
+		if (this.comparator.compare(low, high) > 0) {
+			throw new IllegalArgumentException("Range start is greater than range end");
+		}
+		return this.elements.subListView(this.lowerBound(low), this.lowerBound(high));
+	}
+
+	/**
+	 * Return a read-only view (see subListView) of the elements from "low" to "high",
+	 * both inclusive. Throws IllegalArgumentException if "low" is greater than "high".
+	 */
+	public ListView<E> rangeClosed(E low, E high) {
+		if (this.comparator.compare(low, high) > 0) {
+			throw new IllegalArgumentException("Range start is greater than range end");
+		}
+		return this.elements.subListView(this.lowerBound(low), this.upperBound(high));
+	}
+
+	/**
+	 * Return a read-only view of the elements less than "high"
+	 */
+	public ListView<E> headView(E high) {
+		return this.elements.subListView(0, this.lowerBound(high));
+	}
+
+	/**
+	 * Return a read-only view of the elements not less than "low"
+	 */
+	public ListView<E> tailView(E low) {
+		return this.elements.subListView(this.lowerBound(low), this.size());
+	}
+
+	/**
+	 * Return a read-only view of the elements between index "start" (inclusive)
+	 * and "stop" (exclusive), see DynamicArray.subListView.
+	 */
+	public ListView<E> subListView(int start, int stop) {
+		return this.elements.subListView(start, stop);
+	}
+
+	//------------------- Setting Elements ---------------------
+
+	/**
+	 * Replace the element at "index" by "newElem"
+	 * Return previous (replaced) elem at "index"
+	 * If "index" is invalid, throws IndexOutOfBoundsException.
+	 * Throws IllegalArgumentException if "newElem" does not belong at "index" in sorted order.
+	 */
+	@Override
+	public E set(int index, E newElem) {
+		if (index < 0 || index > this.size() - 1) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.checkOrder(index, index + 1, newElem);
+		return this.elements.set(index, newElem);
+	}
+
+	//------- Inserting, Appending & Replacing Elements --------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Add the passed element at its sorted position (same as "add")
+	 */
+	@Override
+	public void addFirst(E newElem) {
+		this.add(newElem);
+	}
+
+	/**
+	 * Add the passed element at its sorted position (same as "add")
+	 */
+	@Override
+	public void addLast(E newElem) {
+		this.add(newElem);
+	}
+
+	/**
+	 * Add the passed element at its sorted position, after any equal elements.
+	 * O(log n) to find the position, then one block shift.
+	 */
+	@Override
+	public void add(E newElem) {
+		this.elements.insert(this.upperBound(newElem), newElem);
+	}
+
+	/**
+	 * Add all elements from "otherDynList": the batch is sorted once and
+	 * merged into this list with a single linear pass.
+	 * (stops at the first null element, like DynamicArray)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void addAll(DynamicList<E> otherDynList) {
+		int count = 0;
+		while (count < otherDynList.size() && otherDynList.get(count) != null) {
+			count++;
+		}
+		E[] batch = (E[]) new Object[count];
+		for (int i=0; i < count; i++) {
+			batch[i] = otherDynList.get(i);
+		}
+		this.mergeBatch(batch, count);
+	}
+
+	/**
+	 * Add all elements from passed fixed array: the batch is sorted once and
+	 * merged into this list with a single linear pass.
+	 * (stops at the first null element, like DynamicArray)
+	 */
+	@Override
+	public void addAll(E[] array) {
+		int count = 0;
+		while (count < array.length && array[count] != null) {
+			count++;
+		}
+		this.mergeBatch(Arrays.copyOf(array, count), count);
+	}
+
+	/**
+	 * Insert passed arg "newElem" into position "insertIndex"
+	 * Valid "insertIndex" values are between 0 and "size"
+	 * If "insertIndex" is invalid, throws IndexOutOfBoundsException
+	 * Throws IllegalArgumentException if "newElem" does not belong at "insertIndex" in sorted order.
+	 */
+	@Override
+	public void insert(int insertIndex, E newElem) {
+		if (insertIndex < 0 || insertIndex > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		this.checkOrder(insertIndex, insertIndex, newElem);
+		this.elements.insert(insertIndex, newElem);
+	}
+
+	//------------------- Removing Elements --------------------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/**
+	 * Remove first (smallest) element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E removeFirst() {
+		return this.elements.removeFirst();
+	}
+
+	/**
+	 * Remove last (largest) element
+	 * Return removed element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E removeLast() {
+		return this.elements.removeLast();
+	}
+
+	/**
+	 * Reset the list so it is empty.
+	 */
+	@Override
+	public void removeAll() {
+		this.elements.removeAll();
+	}
+
+	/**
+	 * Remove elem at index
+	 * Return the removed element
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	public E removeIndex(int index) {
+		return this.elements.removeIndex(index);
+	}
+
+	/**
+	 * Remove first matching element (where searchFct outputs true)
+	 * Return the removed element
+	 * If no match, return null
+	 */
+	@Override
+	public E removeFirstMatching(Function<E, Boolean> searchFct) {
+		return this.elements.removeFirstMatching(searchFct);
+	}
+
+	/**
+	 * Remove every matching element (where searchFct outputs true) with one
+	 * compaction pass (see DynamicArray.removeIf)
+	 * Return the number of removed elements
+	 */
+	@Override
+	public int removeIf(Function<E, Boolean> searchFct) {
+		return this.elements.removeIf(searchFct);
+	}
+
+	/**
+	 * Remove the first element equal to "key", found by binary search
+	 * Return the removed element
+	 * If no match, return null
+	 */
+	public E remove(E key) {
+		int index = this.indexOf(key);
+		return index == -1 ? null : this.elements.removeIndex(index);
+	}
+
+	//----------------- Convenience Methods ------------------
+
+	/** Return this list as array
+	 */
+	@Override
+	public E[] toArray() {
+		return this.elements.toArray();
+	}
+
+	/**
+	 * Returns one-line user-friendly message about this object
+	 * Helpful method especially for debugging.
+	 */
+	@Override
+	public String toString() {
+		return "Sorted. Size: " + this.size() + ".";
+	}
+
+	/**
+	 * Return iterator on this list (in sorted order)
+	 */
+	@Override
+	public StructureIterator<E> iterator() {
+		return this.elements.iterator();
+	}
+
+	/** Prints all elements to console, with newline after each */
+	@Override
+	public void printAll() {
+		this.elements.printAll();
+	}
+
+	/** Iterates over elements in "this" object (in sorted order). For each element,
+	 * performs actionFct (passing element being iterated on)
+	 */
+	@Override
+	public void forEach(Consumer<? super E> actionFct) {
+		this.elements.forEach(actionFct);
+	}
+
+	/** Return new list that is "this" list joined
+	 * 	with "otherList" list (this list's elements are
+	 * 	first followed by the "otherList" list)
+	 */
+	@Override
+	public DynamicList<E> join(DynamicList<E> otherList) {
+		return this.elements.join(otherList);
+	}
+
+	//----------------- Utility Methods ------------------
+
+	/**
+	 * Returns new DynamicList with "new elements". Each new element
+	 * is generated from mapFct invoked with an element from
+	 * this list.
+	 */
+	@Override
+	public <T> DynamicList<T> map(Function<E, T> mapFct) {
+		return this.elements.map(mapFct);
+	}
+
+	/**
+	 * Returns new DynamicList containing only the elements that
+	 * result in true when applied to selectFct
+	 * (still in sorted order)
+	 */
+	@Override
+	public DynamicList<E> select(Function<E, Boolean> selectFct) {
+		return this.elements.select(selectFct);
+	}
+
+	/**
+	 * Returns new DynamicList containing only the elements that
+	 * result in false when applied to rejectFct
+	 */
+	@Override
+	public DynamicList<E> reject(Function<E, Boolean> rejectFct) {
+		return this.select(each -> !rejectFct.apply(each));
+	}
+
+	/** Accumulate a value by iterating over the collection
+	  * and accumulating during iteration.
+	  */
+	@Override
+	public <T> T accumulate(BiFunction<T, E, T> fct, T initialValue) {
+		return this.elements.accumulate(fct, initialValue);
+	}
+
+	/**
+	 * Return a SIZED, SUBSIZED and ORDERED spliterator directly over the backing array
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return this.elements.spliterator();
+	}
+
+    //---------------------------------
+    // Public Constructors (Static Factory Constructor Methods)
+	//---------------------------------
+
+    /** Returns a new empty SortedDynamicArray ordered by "comparator" */
+    public static <T> SortedDynamicArray<T> withComparator(Comparator<? super T> comparator) {
+        return new SortedDynamicArray<>(comparator);
+    }
+
+    /** Returns a new empty SortedDynamicArray in the natural order of its elements */
+    public static <T extends Comparable<? super T>> SortedDynamicArray<T> naturalOrder() {
+        return new SortedDynamicArray<>(Comparator.naturalOrder());
+    }
+
+    /** Returns a new SortedDynamicArray ordered by "comparator" holding the elements of "array" */
+    public static <T> SortedDynamicArray<T> from(T[] array, Comparator<? super T> comparator) {
+        SortedDynamicArray<T> sorted = new SortedDynamicArray<>(comparator);
+        sorted.addAll(array);
+        return sorted;
+    }
+
+	//----------------------------------------------------------
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Sorts the batch (in parallel once it is large) and merges it into the list in one pass
+	private void mergeBatch(E[] batch, int count) {
+		if (count == 0) {
+			return;
+		}
+		if (count >= PARALLEL_SORT_THRESHOLD) {
+			Arrays.parallelSort(batch, 0, count, this.comparator);
+		} else {
+			Arrays.sort(batch, 0, count, this.comparator);
+		}
+		this.elements.mergeSorted(batch, count, this.comparator);
+	}
+
+	// Throws IllegalArgumentException unless "elem" fits between the element before "start"
+	// and the element at "stop" (the neighbours it would have once placed)
+	private void checkOrder(int start, int stop, E elem) {
+		if (start > 0 && this.comparator.compare(this.get(start - 1), elem) > 0) {
+			throw new IllegalArgumentException("Element would break the sorted order");
+		}
+		if (stop < this.size() && this.comparator.compare(elem, this.get(stop)) > 0) {
+			throw new IllegalArgumentException("Element would break the sorted order");
+		}
+	}
+}
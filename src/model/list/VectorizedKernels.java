@@ -0,0 +1,338 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Vectorized Kernels
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	PrimitiveKernels written with the Vector API (jdk.incubator.vector): every
+ *	loop handles one full SIMD register of elements per step (the widest the CPU
+ *	supports, e.g. 8 ints with AVX2 or 16 with AVX-512) and leaves the last few
+ *	elements to the ScalarKernels loops.
+ *
+ *	Predicates become lane masks: count uses trueCount, indexOf and
+ *	findFirstInRange use firstTrue, and selectInRange stores a whole vector at
+ *	once when every lane matches, skips it when none does, and hands mixed
+ *	vectors to the branch-free ScalarKernels loop. int sums are added in long
+ *	lanes so they cannot overflow.
+ *
+ *	This class may only be loaded when the JVM was started with
+ *	--add-modules jdk.incubator.vector; Kernels checks that before using it.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorizedKernels implements PrimitiveKernels {
+
+	private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+	// Half-width int vectors, with as many lanes as LONGS, for widening int sums to long
+	private static final VectorSpecies<Integer> INTS_TO_LONGS =
+			VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+
+	/** Return one-line description of the vector shapes in use */
+	static String describe() {
+		return INTS.length() + " ints, " + LONGS.length() + " longs, " + DOUBLES.length() + " doubles per vector ("
+				+ INTS.vectorBitSize() + " bits)";
+	}
+
+	//-------------------- int ---------------------
+
+	@Override
+	public long sum(int[] array, int size) {
+		LongVector sum = LongVector.zero(LONGS);
+		int bound = INTS_TO_LONGS.loopBound(size);
+		for (int i=0; i < bound; i += INTS_TO_LONGS.length()) {
+			sum = sum.add((LongVector) IntVector.fromArray(INTS_TO_LONGS, array, i)
+					.convertShape(VectorOperators.I2L, LONGS, 0));
+		}
+		return sum.reduceLanes(VectorOperators.ADD) + ScalarKernels.sum(array, bound, size);
+	}
+
+	@Override
+	public int min(int[] array, int size) {
+		int bound = INTS.loopBound(size);
+		if (bound == 0) {
+			return ScalarKernels.min(array, 1, size, array[0]);
+		}
+		IntVector min = IntVector.fromArray(INTS, array, 0);
+		for (int i=INTS.length(); i < bound; i += INTS.length()) {
+			min = min.min(IntVector.fromArray(INTS, array, i));
+		}
+		return ScalarKernels.min(array, bound, size, min.reduceLanes(VectorOperators.MIN));
+	}
+
+	@Override
+	public int max(int[] array, int size) {
+		int bound = INTS.loopBound(size);
+		if (bound == 0) {
+			return ScalarKernels.max(array, 1, size, array[0]);
+		}
+		IntVector max = IntVector.fromArray(INTS, array, 0);
+		for (int i=INTS.length(); i < bound; i += INTS.length()) {
+			max = max.max(IntVector.fromArray(INTS, array, i));
+		}
+		return ScalarKernels.max(array, bound, size, max.reduceLanes(VectorOperators.MAX));
+	}
+
+	@Override
+	public int indexOf(int[] array, int size, int value) {
+		int bound = INTS.loopBound(size);
+		for (int i=0; i < bound; i += INTS.length()) {
+			VectorMask<Integer> matches = IntVector.fromArray(INTS, array, i).eq(value);
+			if (matches.anyTrue()) {
+				return i + matches.firstTrue();
+			}
+		}
+		return ScalarKernels.indexOf(array, bound, size, value);
+	}
+
+	@Override
+	public int countInRange(int[] array, int size, int low, int high) {
+		int count = 0;
+		int bound = INTS.loopBound(size);
+		for (int i=0; i < bound; i += INTS.length()) {
+			count += inRange(IntVector.fromArray(INTS, array, i), low, high).trueCount();
+		}
+		return count + ScalarKernels.countInRange(array, bound, size, low, high);
+	}
+
+	@Override
+	public int findFirstInRange(int[] array, int size, int low, int high) {
+		int bound = INTS.loopBound(size);
+		for (int i=0; i < bound; i += INTS.length()) {
+			VectorMask<Integer> matches = inRange(IntVector.fromArray(INTS, array, i), low, high);
+			if (matches.anyTrue()) {
+				return i + matches.firstTrue();
+			}
+		}
+		return ScalarKernels.findFirstInRange(array, bound, size, low, high);
+	}
+
+	@Override
+	public int selectInRange(int[] array, int size, int low, int high, int[] target) {
+		int count = 0;
+		int bound = INTS.loopBound(size);
+		for (int i=0; i < bound; i += INTS.length()) {
+			IntVector values = IntVector.fromArray(INTS, array, i);
+			VectorMask<Integer> matches = inRange(values, low, high);
+			if (matches.allTrue()) {
+				values.intoArray(target, count);
+				count += INTS.length();
+			} else if (matches.anyTrue()) {
+				count = ScalarKernels.selectInRange(array, i, i + INTS.length(), low, high, target, count);
+			}
+		}
+		return ScalarKernels.selectInRange(array, bound, size, low, high, target, count);
+	}
+
+	//-------------------- long ---------------------
+
+	@Override
+	public long sum(long[] array, int size) {
+		LongVector sum = LongVector.zero(LONGS);
+		int bound = LONGS.loopBound(size);
+		for (int i=0; i < bound; i += LONGS.length()) {
+			sum = sum.add(LongVector.fromArray(LONGS, array, i));
+		}
+		return sum.reduceLanes(VectorOperators.ADD) + ScalarKernels.sum(array, bound, size);
+	}
+
+	@Override
+	public long min(long[] array, int size) {
+		int bound = LONGS.loopBound(size);
+		if (bound == 0) {
+			return ScalarKernels.min(array, 1, size, array[0]);
+		}
+		LongVector min = LongVector.fromArray(LONGS, array, 0);
+		for (int i=LONGS.length(); i < bound; i += LONGS.length()) {
+			min = min.min(LongVector.fromArray(LONGS, array, i));
+		}
+		return ScalarKernels.min(array, bound, size, min.reduceLanes(VectorOperators.MIN));
+	}
+
+	@Override
+	public long max(long[] array, int size) {
+		int bound = LONGS.loopBound(size);
+		if (bound == 0) {
+			return ScalarKernels.max(array, 1, size, array[0]);
+		}
+		LongVector max = LongVector.fromArray(LONGS, array, 0);
+		for (int i=LONGS.length(); i < bound; i += LONGS.length()) {
+			max = max.max(LongVector.fromArray(LONGS, array, i));
+		}
+		return ScalarKernels.max(array, bound, size, max.reduceLanes(VectorOperators.MAX));
+	}
+
+	@Override
+	public int indexOf(long[] array, int size, long value) {
+		int bound = LONGS.loopBound(size);
+		for (int i=0; i < bound; i += LONGS.length()) {
+			VectorMask<Long> matches = LongVector.fromArray(LONGS, array, i).eq(value);
+			if (matches.anyTrue()) {
+				return i + matches.firstTrue();
+			}
+		}
+		return ScalarKernels.indexOf(array, bound, size, value);
+	}
+
+	@Override
+	public int countInRange(long[] array, int size, long low, long high) {
+		int count = 0;
+		int bound = LONGS.loopBound(size);
+		for (int i=0; i < bound; i += LONGS.length()) {
+			count += inRange(LongVector.fromArray(LONGS, array, i), low, high).trueCount();
+		}
+		return count + ScalarKernels.countInRange(array, bound, size, low, high);
+	}
+
+	@Override
+	public int findFirstInRange(long[] array, int size, long low, long high) {
+		int bound = LONGS.loopBound(size);
+		for (int i=0; i < bound; i += LONGS.length()) {
+			VectorMask<Long> matches = inRange(LongVector.fromArray(LONGS, array, i), low, high);
+			if (matches.anyTrue()) {
+				return i + matches.firstTrue();
+			}
+		}
+		return ScalarKernels.findFirstInRange(array, bound, size, low, high);
+	}
+
+	@Override
+	public int selectInRange(long[] array, int size, long low, long high, long[] target) {
+		int count = 0;
+		int bound = LONGS.loopBound(size);
+		for (int i=0; i < bound; i += LONGS.length()) {
+			LongVector values = LongVector.fromArray(LONGS, array, i);
+			VectorMask<Long> matches = inRange(values, low, high);
+			if (matches.allTrue()) {
+				values.intoArray(target, count);
+				count += LONGS.length();
+			} else if (matches.anyTrue()) {
+				count = ScalarKernels.selectInRange(array, i, i + LONGS.length(), low, high, target, count);
+			}
+		}
+		return ScalarKernels.selectInRange(array, bound, size, low, high, target, count);
+	}
+
+	//-------------------- double ---------------------
+
+	@Override
+	public double sum(double[] array, int size) {
+		DoubleVector sum = DoubleVector.zero(DOUBLES);
+		int bound = DOUBLES.loopBound(size);
+		for (int i=0; i < bound; i += DOUBLES.length()) {
+			sum = sum.add(DoubleVector.fromArray(DOUBLES, array, i));
+		}
+		return sum.reduceLanes(VectorOperators.ADD) + ScalarKernels.sum(array, bound, size);
+	}
+
+	@Override
+	public double min(double[] array, int size) {
+		int bound = DOUBLES.loopBound(size);
+		if (bound == 0) {
+			return ScalarKernels.min(array, 1, size, array[0]);
+		}
+		DoubleVector min = DoubleVector.fromArray(DOUBLES, array, 0);
+		for (int i=DOUBLES.length(); i < bound; i += DOUBLES.length()) {
+			min = min.min(DoubleVector.fromArray(DOUBLES, array, i));
+		}
+		return ScalarKernels.min(array, bound, size, min.reduceLanes(VectorOperators.MIN));
+	}
+
+	@Override
+	public double max(double[] array, int size) {
+		int bound = DOUBLES.loopBound(size);
+		if (bound == 0) {
+			return ScalarKernels.max(array, 1, size, array[0]);
+		}
+		DoubleVector max = DoubleVector.fromArray(DOUBLES, array, 0);
+		for (int i=DOUBLES.length(); i < bound; i += DOUBLES.length()) {
+			max = max.max(DoubleVector.fromArray(DOUBLES, array, i));
+		}
+		return ScalarKernels.max(array, bound, size, max.reduceLanes(VectorOperators.MAX));
+	}
+
+	@Override
+	public int indexOf(double[] array, int size, double value) {
+		int bound = DOUBLES.loopBound(size);
+		for (int i=0; i < bound; i += DOUBLES.length()) {
+			VectorMask<Double> matches = DoubleVector.fromArray(DOUBLES, array, i).eq(value);
+			if (matches.anyTrue()) {
+				return i + matches.firstTrue();
+			}
+		}
+		return ScalarKernels.indexOf(array, bound, size, value);
+	}
+
+	@Override
+	public int countInRange(double[] array, int size, double low, double high) {
+		int count = 0;
+		int bound = DOUBLES.loopBound(size);
+		for (int i=0; i < bound; i += DOUBLES.length()) {
+			count += inRange(DoubleVector.fromArray(DOUBLES, array, i), low, high).trueCount();
+		}
+		return count + ScalarKernels.countInRange(array, bound, size, low, high);
+	}
+
+	@Override
+	public int findFirstInRange(double[] array, int size, double low, double high) {
+		int bound = DOUBLES.loopBound(size);
+		for (int i=0; i < bound; i += DOUBLES.length()) {
+			VectorMask<Double> matches = inRange(DoubleVector.fromArray(DOUBLES, array, i), low, high);
+			if (matches.anyTrue()) {
+				return i + matches.firstTrue();
+			}
+		}
+		return ScalarKernels.findFirstInRange(array, bound, size, low, high);
+	}
+
+	@Override
+	public int selectInRange(double[] array, int size, double low, double high, double[] target) {
+		int count = 0;
+		int bound = DOUBLES.loopBound(size);
+		for (int i=0; i < bound; i += DOUBLES.length()) {
+			DoubleVector values = DoubleVector.fromArray(DOUBLES, array, i);
+			VectorMask<Double> matches = inRange(values, low, high);
+			if (matches.allTrue()) {
+				values.intoArray(target, count);
+				count += DOUBLES.length();
+			} else if (matches.anyTrue()) {
+				count = ScalarKernels.selectInRange(array, i, i + DOUBLES.length(), low, high, target, count);
+			}
+		}
+		return ScalarKernels.selectInRange(array, bound, size, low, high, target, count);
+	}
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Lanes of "values" between "low" and "high" (inclusive)
+	private static VectorMask<Integer> inRange(IntVector values, int low, int high) {
+		return values.compare(VectorOperators.GE, low).and(values.compare(VectorOperators.LE, high));
+	}
+
+	// Lanes of "values" between "low" and "high" (inclusive)
+	private static VectorMask<Long> inRange(LongVector values, long low, long high) {
+		return values.compare(VectorOperators.GE, low).and(values.compare(VectorOperators.LE, high));
+	}
+
+	// Lanes of "values" between "low" and "high" (inclusive)
+	private static VectorMask<Double> inRange(DoubleVector values, double low, double high) {
+		return values.compare(VectorOperators.GE, low).and(values.compare(VectorOperators.LE, high));
+	}
+}
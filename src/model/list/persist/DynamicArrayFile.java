@@ -0,0 +1,149 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Dynamic Array File
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Saves a DynamicList to a compact binary file and reopens it through a
+ *	memory-mapped buffer, so elements are decoded lazily on access instead of
+ *	in one deserialize pass.
+ *
+ *	File layout (big-endian):
+ *		header	magic (int), version (int), size (int), capacity (int),
+ *				growth factor (double), fixed width (int), reserved (int)
+ *		offsets	only for variable width codecs: size + 1 ints, the byte offset
+ *				of each element relative to the start of the data section
+ *		data	the encoded elements, one after the other
+ *
+ *	A single file can hold at most Integer.MAX_VALUE bytes (one mapping).
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list.persist;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import model.linearpub.DynamicList;
+import model.list.DynamicArray;
+
+public final class DynamicArrayFile {
+
+	static final int MAGIC = 0x44594E41; // "DYNA"
+	static final int VERSION = 1;
+	static final int HEADER_BYTES = 32;
+
+	private DynamicArrayFile() {
+	}
+
+	/**
+	 * Write all elements of "list" to the file at "path" (replacing it) using "codec".
+	 * The size, capacity and growth factor of the list are stored in the header.
+	 * Throws NullPointerException if the list contains null elements.
+	 */
+	public static <E> void save(DynamicList<E> list, Path path, ElementCodec<E> codec) throws IOException {
+		int size = list.size();
+		int capacity = size;
+		double growthFactor = DynamicArray.defaultGrowthFactor();
+		if (list instanceof DynamicArray) {
+			capacity = ((DynamicArray<E>) list).capacity();
+			growthFactor = ((DynamicArray<E>) list).growthFactor();
+		}
+
+		int width = codec.fixedWidth();
+		long dataBytes = 0;
+		int[] offsets = null;
+		if (width == ElementCodec.VARIABLE_WIDTH) {
+			offsets = new int[size + 1];
+			for (int i=0; i < size; i++) {
+				dataBytes += codec.sizeOf(list.get(i));
+				offsets[i + 1] = checkedSize(dataBytes);
+			}
+		} else {
+			dataBytes = (long) width * size;
+		}
+		long tableBytes = offsets == null ? 0 : (long) offsets.length * Integer.BYTES;
+		int totalBytes = checkedSize(HEADER_BYTES + tableBytes + dataBytes);
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, totalBytes);
+			out.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(capacity)
+				.putDouble(growthFactor).putInt(width).putInt(0);
+			if (offsets != null) {
+				for (int offset : offsets) {
+					out.putInt(offset);
+				}
+			}
+			list.forEach(each -> codec.encode(out, each));
+			out.force();
+		}
+	}
+
+	/**
+	 * Map the file at "path" (written by save) and return a read-only list whose
+	 * elements are decoded with "codec" on access.
+	 * Throws IOException if the file is not a list file (including a truncated one or
+	 * one whose header does not match its length) or was written with a codec of a
+	 * different width.
+	 */
+	public static <E> MappedDynamicList<E> load(Path path, ElementCodec<E> codec) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long fileBytes = channel.size();
+			if (fileBytes < HEADER_BYTES || fileBytes > Integer.MAX_VALUE) {
+				throw new IOException("Not a list file: " + path);
+			}
+			MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileBytes);
+			if (in.getInt(0) != MAGIC || in.getInt(4) != VERSION) {
+				throw new IOException("Not a list file: " + path);
+			}
+			int size = in.getInt(8);
+			int capacity = in.getInt(12);
+			double growthFactor = in.getDouble(16);
+			int width = in.getInt(24);
+			if (width != codec.fixedWidth()) {
+				throw new IOException("File was written with element width " + width
+						+ " but codec has width " + codec.fixedWidth());
+			}
+			if (size < 0 || capacity < size) {
+				throw new IOException("Not a list file (bad size " + size + " or capacity " + capacity + "): " + path);
+			}
+			long expectedBytes;
+			if (width == ElementCodec.VARIABLE_WIDTH) {
+				long dataStart = HEADER_BYTES + (size + 1L) * Integer.BYTES;
+				if (dataStart > fileBytes || in.getInt(HEADER_BYTES) != 0) {
+					throw new IOException("Not a list file (offset table truncated): " + path);
+				}
+				int dataBytes = in.getInt(HEADER_BYTES + size * Integer.BYTES);
+				if (dataBytes < 0) {
+					throw new IOException("Not a list file (bad offset table): " + path);
+				}
+				expectedBytes = dataStart + dataBytes;
+			} else {
+				expectedBytes = HEADER_BYTES + (long) width * size;
+			}
+			if (expectedBytes > fileBytes) {
+				throw new IOException("Not a list file (" + expectedBytes + " bytes expected, " + fileBytes
+						+ " found): " + path);
+			}
+			return new MappedDynamicList<>(in, codec, size, capacity, growthFactor);
+		}
+	}
+
+	// Returns "bytes" as an int, or throws IOException if it does not fit in one mapping
+	private static int checkedSize(long bytes) throws IOException {
+		if (bytes > Integer.MAX_VALUE) {
+			throw new IOException("List file cannot exceed " + Integer.MAX_VALUE + " bytes");
+		}
+		return (int) bytes;
+	}
+}
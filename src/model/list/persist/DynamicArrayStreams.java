@@ -0,0 +1,191 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Dynamic Array Streams
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Streams list elements in from a ReadableByteChannel (or InputStream) and out
+ *	to a WritableByteChannel, in any record format a RecordDecoder/RecordEncoder
+ *	describes, without ever holding more than one buffer of the data in memory.
+ *
+ *	Loading reads the channel into a direct buffer and decodes each buffer-full
+ *	of records straight into the backing array of the target DynamicArray (see
+ *	DynamicArray.appendBatch); no intermediate array or list is built and null
+ *	elements are kept. When the size of the input is known (loading a file), the
+ *	list is presized from the decoder's estimate so it grows at most once or twice.
+ *	Exporting encodes into a direct buffer that is written out whenever it fills.
+ *	The direct buffers are allocated once per thread and reused by every call.
+ *	Example:
+ *		DynamicList<Integer> ids = DynamicArrayStreams.load(path, RecordDecoder.fixed(ElementCodec.INTS));
+ *		DynamicArrayStreams.export(names, channel, RecordEncoder.lines(name -> name));
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list.persist;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import model.linearpub.DynamicList;
+import model.list.DynamicArray;
+
+public final class DynamicArrayStreams {
+
+	// Size of the reusable I/O buffers; a single record must fit in one buffer
+	static final int BUFFER_BYTES = 1 << 18;
+	// Most elements decoded into a list per appendBatch call
+	private static final int BATCH_SIZE = 1 << 12;
+
+	private static final ThreadLocal<ByteBuffer> BUFFERS =
+			ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_BYTES));
+
+	private DynamicArrayStreams() {
+	}
+
+	//-------------------- Loading ---------------------
+
+	/**
+	 * Return a new list holding every record of the file at "path", decoded with "decoder".
+	 * The list is presized from the file size (see RecordDecoder.estimateRecords).
+	 */
+	public static <E> DynamicList<E> load(Path path, RecordDecoder<E> decoder) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long estimate = decoder.estimateRecords(channel.size());
+			DynamicList<E> list = DynamicArray.withInitialCapacity((int) Math.min(Math.max(estimate, 0),
+					Integer.MAX_VALUE - 8));
+			loadInto(channel, decoder, list);
+			return list;
+		}
+	}
+
+	/**
+	 * Return a new list holding every record read from "in" (until end of stream),
+	 * decoded with "decoder". The channel is not closed.
+	 */
+	public static <E> DynamicList<E> load(ReadableByteChannel in, RecordDecoder<E> decoder) throws IOException {
+		DynamicList<E> list = DynamicArray.newEmpty();
+		loadInto(in, decoder, list);
+		return list;
+	}
+
+	/**
+	 * Return a new list holding every record read from "in" (until end of stream),
+	 * decoded with "decoder". The stream is not closed.
+	 */
+	public static <E> DynamicList<E> load(InputStream in, RecordDecoder<E> decoder) throws IOException {
+		return load(Channels.newChannel(in), decoder);
+	}
+
+	/**
+	 * Append every record read from "in" (until end of stream), decoded with "decoder",
+	 * to the end of "target". DynamicArray targets are decoded into directly; other
+	 * lists get the elements one "add" at a time. The channel is not closed.
+	 * Return the number of records appended.
+	 * Throws IOException if the stream ends inside a record or a record is larger than
+	 * the buffer (BUFFER_BYTES).
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> long loadInto(ReadableByteChannel in, RecordDecoder<E> decoder, DynamicList<E> target)
+			throws IOException {
+		ByteBuffer buffer = BUFFERS.get();
+		buffer.clear();
+		E[] batch = target instanceof DynamicArray ? null : (E[]) new Object[BATCH_SIZE];
+		long loaded = 0;
+		boolean endOfStream = false;
+		while (!endOfStream) {
+			endOfStream = in.read(buffer) == -1;
+			buffer.flip();
+			boolean end = endOfStream;
+			int count = 0;
+			while (buffer.hasRemaining()) {
+				if (batch == null) {
+					DynamicArray<E> array = (DynamicArray<E>) target;
+					// fill the free slots first, so a presized list only grows once it is full
+					int room = array.capacity() - array.size();
+					count = array.appendBatch(
+							(slots, offset, maxCount) -> decoder.decodeBatch(buffer, slots, offset, maxCount, end),
+							room > 0 ? Math.min(room, BATCH_SIZE) : BATCH_SIZE);
+				} else {
+					count = decoder.decodeBatch(buffer, batch, 0, BATCH_SIZE, end);
+					for (int i=0; i < count; i++) {
+						target.add(batch[i]);
+						batch[i] = null;
+					}
+				}
+				loaded += count;
+				if (count == 0) {
+					break;
+				}
+			}
+			if (endOfStream && buffer.hasRemaining()) {
+				throw new IOException("Stream ended inside a record (" + buffer.remaining() + " bytes left)");
+			}
+			if (buffer.position() == 0 && buffer.limit() == buffer.capacity()) {
+				throw new IOException("Record larger than the " + BUFFER_BYTES + " byte buffer");
+			}
+			buffer.compact();
+		}
+		return loaded;
+	}
+
+	//-------------------- Exporting ---------------------
+
+	/**
+	 * Write every element of "list" to the file at "path" (replacing it), encoded with "encoder".
+	 * Return the number of bytes written.
+	 */
+	public static <E> long export(DynamicList<E> list, Path path, RecordEncoder<E> encoder) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			return export(list, channel, encoder);
+		}
+	}
+
+	/**
+	 * Write every element of "list" to "out", encoded with "encoder". The channel is not closed.
+	 * Return the number of bytes written.
+	 * Throws IOException if a record is larger than the buffer (BUFFER_BYTES).
+	 */
+	public static <E> long export(DynamicList<E> list, WritableByteChannel out, RecordEncoder<E> encoder)
+			throws IOException {
+		ByteBuffer buffer = BUFFERS.get();
+		buffer.clear();
+		long written = 0;
+		for (int i=0; i < list.size(); i++) {
+			E elem = list.get(i);
+			if (!encoder.encode(buffer, elem)) {
+				written += flush(buffer, out);
+				if (!encoder.encode(buffer, elem)) {
+					throw new IOException("Record larger than the " + BUFFER_BYTES + " byte buffer");
+				}
+			}
+		}
+		return written + flush(buffer, out);
+	}
+
+	// ---------------------- Helper Methods ----------------------
+
+	// Writes everything in "buffer" to "out" and empties the buffer; returns the number of bytes written
+	private static long flush(ByteBuffer buffer, WritableByteChannel out) throws IOException {
+		buffer.flip();
+		long written = buffer.remaining();
+		while (buffer.hasRemaining()) {
+			out.write(buffer);
+		}
+		buffer.clear();
+		return written;
+	}
+}
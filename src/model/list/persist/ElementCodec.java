@@ -0,0 +1,87 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Element Codec
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Describes how list elements are written to and read back from a binary
+ *	list file (see DynamicArrayFile). Codecs for primitives and strings are
+ *	provided; user records can implement this interface directly, or wrap a
+ *	FixedWidthCodec with ElementCodec.fixed(...).
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list.persist;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import model.list.FixedWidthCodec;
+
+public interface ElementCodec<E> {
+
+	/** Codec for Integer elements (4 bytes each) */
+	ElementCodec<Integer> INTS = fixed(FixedWidthCodec.INT);
+
+	/** Codec for Long elements (8 bytes each) */
+	ElementCodec<Long> LONGS = fixed(FixedWidthCodec.LONG);
+
+	/** Codec for Double elements (8 bytes each) */
+	ElementCodec<Double> DOUBLES = fixed(FixedWidthCodec.DOUBLE);
+
+	/** Codec for String elements (UTF-8, variable width) */
+	ElementCodec<String> STRINGS = new ElementCodec<>() {
+		public int fixedWidth() { return VARIABLE_WIDTH; }
+		public int sizeOf(String elem) { return elem.getBytes(StandardCharsets.UTF_8).length; }
+		public void encode(ByteBuffer out, String elem) { out.put(elem.getBytes(StandardCharsets.UTF_8)); }
+		public String decode(ByteBuffer in, int offset, int length) {
+			byte[] bytes = new byte[length];
+			in.get(offset, bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	};
+
+	/** Value returned by fixedWidth() when every element may take a different number of bytes */
+	int VARIABLE_WIDTH = -1;
+
+	/**
+	 * Return the number of bytes every element takes,
+	 * or VARIABLE_WIDTH if it depends on the element
+	 */
+	int fixedWidth();
+
+	/**
+	 * Return the number of bytes "elem" takes once encoded
+	 */
+	int sizeOf(E elem);
+
+	/**
+	 * Write "elem" at the current position of "out" (moving the position by sizeOf(elem) bytes)
+	 */
+	void encode(ByteBuffer out, E elem);
+
+	/**
+	 * Read the element stored in the "length" bytes starting at the absolute "offset" of "in"
+	 * (must not move the buffer position)
+	 */
+	E decode(ByteBuffer in, int offset, int length);
+
+	/** Return a codec that stores elements with the fixed-size layout of "codec" */
+	static <T> ElementCodec<T> fixed(FixedWidthCodec<T> codec) {
+		return new ElementCodec<>() {
+			public int fixedWidth() { return codec.width(); }
+			public int sizeOf(T elem) { return codec.width(); }
+			public void encode(ByteBuffer out, T elem) {
+				codec.write(out, out.position(), elem);
+				out.position(out.position() + codec.width());
+			}
+			public T decode(ByteBuffer in, int offset, int length) { return codec.read(in, offset); }
+		};
+	}
+}
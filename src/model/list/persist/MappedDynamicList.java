@@ -0,0 +1,378 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Mapped Dynamic List
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Read-only DynamicList over a memory-mapped list file (see DynamicArrayFile).
+ *	Elements are decoded from the mapping each time they are accessed, so opening
+ *	a file costs nothing beyond reading its header. Every mutator throws
+ *	UnsupportedOperationException; use toDynamicArray() to get a modifiable copy.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list.persist;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import model.linearpub.DynamicList;
+import model.list.DynamicArray;
+
+public class MappedDynamicList<E> implements DynamicList<E> {
+
+    //---------------------------------
+    // Instance Variables
+	private final ByteBuffer mapping;
+	private final ElementCodec<E> codec;
+	private final int arraySize;
+	private final int capacity;
+	private final double growthFactor;
+	private final int width;
+	private final int dataStart;
+
+    //---------------------------------
+    // Package Constructor (use DynamicArrayFile.load)
+
+	MappedDynamicList(ByteBuffer aMapping, ElementCodec<E> aCodec, int size, int aCapacity, double aGrowthFactor) {
+		this.mapping = aMapping;
+		this.codec = aCodec;
+		this.arraySize = size;
+		this.capacity = aCapacity;
+		this.growthFactor = aGrowthFactor;
+		this.width = aCodec.fixedWidth();
+		this.dataStart = this.width == ElementCodec.VARIABLE_WIDTH
+				? DynamicArrayFile.HEADER_BYTES + (size + 1) * Integer.BYTES
+				: DynamicArrayFile.HEADER_BYTES;
+	}
+
+	//-------------------- List Statistics ---------------------
+
+	/**
+	 * Return number of elements in this list.
+	 */
+	@Override
+	public int size() {
+		return this.arraySize;
+	}
+
+	/**
+	 * Return true is this list contains no elements.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return this.size() == 0;
+	}
+
+	/**
+	 * Return the capacity of the list when it was saved.
+	 */
+	public int capacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Return the growth factor of the list when it was saved.
+	 */
+	public double growthFactor() {
+		return this.growthFactor;
+	}
+
+	//------------------ Accessing Elements --------------------
+
+	/**
+	 * Return element at given index (decoded from the mapping).
+	 * Throws IndexOutOfBoundsException if passed index is invalid.
+	 */
+	@Override
+	public E get(int index) {
+		if (index < 0 || index >= this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (this.width != ElementCodec.VARIABLE_WIDTH) {
+			return this.codec.decode(this.mapping, this.dataStart + index * this.width, this.width);
+		}
+		int offsetSlot = DynamicArrayFile.HEADER_BYTES + index * Integer.BYTES;
+		int start = this.mapping.getInt(offsetSlot);
+		int stop = this.mapping.getInt(offsetSlot + Integer.BYTES);
+		return this.codec.decode(this.mapping, this.dataStart + start, stop - start);
+	}
+
+	/**
+	 * Return first element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E first() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.get(0);
+	}
+
+	/**
+	 * Return last element
+	 * Throws RuntimeException if list is empty
+	 */
+	@Override
+	public E last() {
+		if (this.isEmpty()) {
+			throw new RuntimeException();
+		}
+		return this.get(this.size() - 1);
+	}
+
+	/**
+	 * Return a new DynamicArray containing the elements of this list
+	 * between the given index "start" (inclusive) and
+	 * the given index "stop" (exclusive).
+	 * Throws IndexOutOfBoundsException if either passed index is invalid.
+	 */
+	@Override
+	public DynamicList<E> subList(int start, int stop) {
+		if (start < 0 || start > stop || stop > this.size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		DynamicList<E> newList = DynamicArray.fromGrowthFactor(this.growthFactor);
+		for (int i=start; i < stop; i++) {
+			newList.add(this.get(i));
+		}
+		return newList;
+	}
+
+	/**
+	 * Return index of first matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	public int findFirst(Function<E, Boolean> searchFct) {
+		for (int i=0; i < this.size(); i++) {
+			if (searchFct.apply(this.get(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Return index of last matching element (where searchFct outputs true)
+	 * Return -1 if no match
+	 */
+	@Override
+	public int findLast(Function<E, Boolean> searchFct) {
+		for (int i=this.size() - 1; i >= 0; i--) {
+			if (searchFct.apply(this.get(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	//------------------- Setting Elements ---------------------
+
+	/** Not supported (the mapping is read-only) */
+	@Override
+	public E set(int index, E newElem) {
+		throw readOnly();
+	}
+
+	//------- Inserting, Appending & Replacing Elements --------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/** Not supported (the mapping is read-only) */
+	@Override
+	public void addFirst(E newElem) {
+		throw readOnly();
+	}
+
+	/** Not supported (the mapping is read-only) */
+	@Override
+	public void addLast(E newElem) {
+		throw readOnly();
+	}
+
+	/** Not supported (the mapping is read-only) */
+	@Override
+	public void add(E newElem) {
+		throw readOnly();
+	}
+
+	/** Not supported (the mapping is read-only) */
+	@Override
+	public void addAll(DynamicList<E> otherDynList) {
+		throw readOnly();
+	}
+
+	/** Not supported (the mapping is read-only) */
+	@Override
+	public void addAll(E[] array) {
+		throw readOnly();
+	}
+
+	/** Not supported (the mapping is read-only) */
+	@Override
+	public void insert(int insertIndex, E newElem) {
+		throw readOnly();
+	}
+
+	//------------------- Removing Elements --------------------
+	//------------------ (Dynamic Behaviors)  ------------------
+
+	/** Not supported (the mapping is read-only) */
+	@Override
+	public E removeFirst() {
+		throw readOnly();
+	}
+
+	/** Not supported (the mapping is read-only) */
+	@Override
+	public E removeLast() {
+		throw readOnly();
+	}
+
+	/** Not supported (the mapping is read-only) */
+	@Override
+	public void removeAll() {
+		throw readOnly();
+	}
+
+	/** Not supported (the mapping is read-only) */
+	@Override
+	public E removeIndex(int index) {
+		throw readOnly();
+	}
+
+	/** Not supported (the mapping is read-only) */
+	@Override
+	public E removeFirstMatching(Function<E, Boolean> searchFct) {
+		throw readOnly();
+	}
+
+	//----------------- Convenience Methods ------------------
+
+	/**
+	 * Return this list as an array (maintain same order of elements)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray() {
+		if (this.isEmpty())
+			return (E[]) Array.newInstance(Object.class, 0);
+		E[] array = (E[]) Array.newInstance(this.first().getClass(), this.size());
+		for (int i=0; i < this.size(); i++) {
+			array[i] = this.get(i);
+		}
+		return array;
+	}
+
+	/**
+	 * Return a modifiable DynamicArray holding all elements of this list,
+	 * with the growth factor stored in the file.
+	 */
+	public DynamicList<E> toDynamicArray() {
+		DynamicList<E> newList = DynamicArray.fromGrowthFactor(this.growthFactor);
+		newList.addAll(this.toArray());
+		return newList;
+	}
+
+	/**
+	 * Returns one-line user-friendly message about this object
+	 * Helpful method especially for debugging.
+	 */
+	@Override
+	public String toString() {
+		return "Growth Factor: " + growthFactor + ". Size: " + this.size() + ". Mapped.";
+	}
+
+	/** Prints all elements to console, with newline after each */
+	@Override
+	public void printAll() {
+		this.forEach(System.out::println);
+	}
+
+	/** Iterates over elements in "this" object. For each element,
+	 * performs actionFct (passing element being iterated on)
+	 */
+	@Override
+	public void forEach(Consumer<? super E> actionFct) {
+		for (int i=0; i < this.size(); i++) {
+			actionFct.accept(this.get(i));
+		}
+	}
+
+	/** Return new DynamicArray that is "this" list joined
+	 * 	with "otherList" list (this list's elements are
+	 * 	first followed by the "otherList" list)
+	 */
+	@Override
+	public DynamicList<E> join(DynamicList<E> otherList) {
+		DynamicList<E> newList = this.toDynamicArray();
+		newList.addAll(otherList);
+		return newList;
+	}
+
+	//----------------- Utility Methods ------------------
+
+	/**
+	 * Returns new DynamicArray with "new elements". Each new element
+	 * is generated from mapFct invoked with an element from
+	 * this list.
+	 */
+	@Override
+	public <T> DynamicList<T> map(Function<E, T> mapFct) {
+		DynamicList<T> newList = DynamicArray.fromGrowthFactor(this.growthFactor);
+		this.forEach(each -> newList.add(mapFct.apply(each)));
+		return newList;
+	}
+
+	/**
+	 * Returns new DynamicArray which is elements
+	 * selected from this list via selectFct
+	 */
+	@Override
+	public DynamicList<E> select(Function<E, Boolean> selectFct) {
+		DynamicList<E> newList = DynamicArray.fromGrowthFactor(this.growthFactor);
+		this.forEach(each -> {
+			if (selectFct.apply(each)) {
+				newList.add(each);
+			}
+		});
+		return newList;
+	}
+
+	/**
+	 * Returns new DynamicArray which is this list
+	 * with elements rejected via rejectFct
+	 */
+	@Override
+	public DynamicList<E> reject(Function<E, Boolean> rejectFct) {
+		return this.select(each -> !rejectFct.apply(each));
+	}
+
+	/** Accumulate a value by iterating over the collection
+	  * and accumulating during iteration.
+	  */
+	@Override
+	public <T> T accumulate(BiFunction<T, E, T> fct, T initialValue) {
+		T sum = initialValue;
+		for (int i=0; i < this.size(); i++) {
+			sum = fct.apply(sum, this.get(i));
+		}
+		return sum;
+	}
+
+	// ---------------------- Helper Methods ----------------------
+
+	private static UnsupportedOperationException readOnly() {
+		return new UnsupportedOperationException("Mapped list is read-only");
+	}
+}
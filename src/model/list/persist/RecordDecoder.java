@@ -0,0 +1,151 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Record Decoder
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Turns a stream of bytes into list elements, one record at a time (see
+ *	DynamicArrayStreams.load). The loader hands the decoder a buffer holding the
+ *	next bytes of the stream; a record may be cut at the end of the buffer, in
+ *	which case the decoder reports it as incomplete and gets it again, whole,
+ *	once more bytes have been read.
+ *
+ *	Decoders for fixed-width codecs, length-prefixed records and text lines are
+ *	provided; other formats implement recordLength and decode.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list.persist;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+public interface RecordDecoder<E> {
+
+	/** Value returned by recordLength when the buffer does not hold the whole next record yet */
+	int INCOMPLETE = -1;
+
+	/**
+	 * Return the number of bytes the next record takes, starting at the position of "in"
+	 * (including any framing such as a length prefix or line terminator), or INCOMPLETE
+	 * if "in" does not hold all of them. "endOfStream" is true once no more bytes will
+	 * follow the ones in "in". Must not move the buffer position.
+	 */
+	int recordLength(ByteBuffer in, boolean endOfStream);
+
+	/**
+	 * Decode the record of "length" bytes (as returned by recordLength) at the
+	 * position of "in", and move the position past it
+	 */
+	E decode(ByteBuffer in, int length);
+
+	/**
+	 * Return an estimate of the number of records in "bytes" bytes, used to presize
+	 * the list (0 if unknown)
+	 */
+	default long estimateRecords(long bytes) {
+		return 0;
+	}
+
+	/**
+	 * Decode as many complete records of "in" as possible, at most "maxCount", into
+	 * "target" starting at index "offset". Return the number of records decoded.
+	 */
+	default int decodeBatch(ByteBuffer in, Object[] target, int offset, int maxCount, boolean endOfStream) {
+		int count = 0;
+		while (count < maxCount && in.hasRemaining()) {
+			int length = this.recordLength(in, endOfStream);
+			if (length == INCOMPLETE) {
+				break;
+			}
+			target[offset + count++] = this.decode(in, length);
+		}
+		return count;
+	}
+
+	/**
+	 * Return a decoder for records of codec.fixedWidth() bytes each, with no framing
+	 * (the layout DynamicArrayFile uses for its data section).
+	 * Throws IllegalArgumentException if "codec" is variable width.
+	 */
+	static <T> RecordDecoder<T> fixed(ElementCodec<T> codec) {
+		int width = codec.fixedWidth();
+		if (width == ElementCodec.VARIABLE_WIDTH) {
+			throw new IllegalArgumentException("Codec is variable width, use lengthPrefixed");
+		}
+		return new RecordDecoder<>() {
+			public int recordLength(ByteBuffer in, boolean endOfStream) {
+				return in.remaining() >= width ? width : INCOMPLETE;
+			}
+			public T decode(ByteBuffer in, int length) {
+				T elem = codec.decode(in, in.position(), length);
+				in.position(in.position() + length);
+				return elem;
+			}
+			public long estimateRecords(long bytes) {
+				return bytes / Math.max(width, 1);
+			}
+		};
+	}
+
+	/**
+	 * Return a decoder for records made of a 4-byte big-endian length followed by
+	 * that many bytes, decoded with "codec"
+	 */
+	static <T> RecordDecoder<T> lengthPrefixed(ElementCodec<T> codec) {
+		return new RecordDecoder<>() {
+			public int recordLength(ByteBuffer in, boolean endOfStream) {
+				if (in.remaining() < Integer.BYTES) {
+					return INCOMPLETE;
+				}
+				int length = in.getInt(in.position());
+				if (length < 0 || length > Integer.MAX_VALUE - Integer.BYTES) {
+					throw new IllegalStateException("Invalid record length: " + length);
+				}
+				return in.remaining() - Integer.BYTES >= length ? Integer.BYTES + length : INCOMPLETE;
+			}
+			public T decode(ByteBuffer in, int length) {
+				T elem = codec.decode(in, in.position() + Integer.BYTES, length - Integer.BYTES);
+				in.position(in.position() + length);
+				return elem;
+			}
+		};
+	}
+
+	/**
+	 * Return a decoder for UTF-8 text where every line ("\n" or "\r\n" terminated,
+	 * the last one may be unterminated) is one record, turned into an element by "parseFct"
+	 */
+	static <T> RecordDecoder<T> lines(Function<String, T> parseFct) {
+		return new RecordDecoder<>() {
+			public int recordLength(ByteBuffer in, boolean endOfStream) {
+				for (int i=in.position(); i < in.limit(); i++) {
+					if (in.get(i) == '\n') {
+						return i - in.position() + 1;
+					}
+				}
+				return endOfStream ? in.remaining() : INCOMPLETE;
+			}
+			public T decode(ByteBuffer in, int length) {
+				int textLength = length;
+				if (textLength > 0 && in.get(in.position() + textLength - 1) == '\n') {
+					textLength--;
+				}
+				if (textLength > 0 && in.get(in.position() + textLength - 1) == '\r') {
+					textLength--;
+				}
+				byte[] bytes = new byte[textLength];
+				in.get(in.position(), bytes);
+				in.position(in.position() + length);
+				return parseFct.apply(new String(bytes, StandardCharsets.UTF_8));
+			}
+		};
+	}
+}
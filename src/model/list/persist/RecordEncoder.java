@@ -0,0 +1,84 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Record Encoder
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Turns list elements into a stream of bytes, one record at a time (see
+ *	DynamicArrayStreams.export). Each record is written into a buffer that the
+ *	exporter flushes to the channel whenever the next record does not fit.
+ *
+ *	The provided encoders write the formats the matching RecordDecoder
+ *	factories read back.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list.persist;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+public interface RecordEncoder<E> {
+
+	/**
+	 * Write the record of "elem" at the position of "out" and move the position past it.
+	 * Return false, leaving "out" unchanged, if the remaining space is too small.
+	 */
+	boolean encode(ByteBuffer out, E elem);
+
+	/**
+	 * Return an encoder writing each element in codec.fixedWidth() bytes, with no framing.
+	 * Throws IllegalArgumentException if "codec" is variable width.
+	 */
+	static <T> RecordEncoder<T> fixed(ElementCodec<T> codec) {
+		int width = codec.fixedWidth();
+		if (width == ElementCodec.VARIABLE_WIDTH) {
+			throw new IllegalArgumentException("Codec is variable width, use lengthPrefixed");
+		}
+		return (out, elem) -> {
+			if (out.remaining() < width) {
+				return false;
+			}
+			codec.encode(out, elem);
+			return true;
+		};
+	}
+
+	/**
+	 * Return an encoder writing each element as a 4-byte big-endian length followed
+	 * by the codec.sizeOf(elem) bytes "codec" encodes
+	 */
+	static <T> RecordEncoder<T> lengthPrefixed(ElementCodec<T> codec) {
+		return (out, elem) -> {
+			int length = codec.sizeOf(elem);
+			if (out.remaining() < Integer.BYTES + (long) length) {
+				return false;
+			}
+			out.putInt(length);
+			codec.encode(out, elem);
+			return true;
+		};
+	}
+
+	/**
+	 * Return an encoder writing each element as one "\n" terminated UTF-8 line
+	 * holding the text "printFct" returns for it
+	 */
+	static <T> RecordEncoder<T> lines(Function<T, String> printFct) {
+		return (out, elem) -> {
+			byte[] bytes = printFct.apply(elem).getBytes(StandardCharsets.UTF_8);
+			if (out.remaining() < bytes.length + 1) {
+				return false;
+			}
+			out.put(bytes).put((byte) '\n');
+			return true;
+		};
+	}
+}
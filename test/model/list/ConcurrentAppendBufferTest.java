@@ -0,0 +1,85 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Concurrent Append Buffer Test
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Multi-producer stress tests for ConcurrentAppendBuffer: producers add single
+ *	elements and blocks while a consumer keeps draining, and every element must
+ *	come out exactly once, each producer's elements in the order it added them.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import model.linearpub.DynamicList;
+
+class ConcurrentAppendBufferTest {
+
+	private final ProducerWorkload workload = new ProducerWorkload(200_000);
+
+	@Test
+	void everyElementIsDrainedExactlyOnceWhileProducersRun() throws Exception {
+		ConcurrentAppendBuffer<Integer> buffer = new ConcurrentAppendBuffer<>();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> producers = this.workload.startProducers(buffer::add, buffer::addAll, start);
+
+		AtomicBoolean producing = new AtomicBoolean(true);
+		DynamicList<Integer> drained = DynamicArray.newEmpty();
+		List<Integer> drainCounts = new ArrayList<>();
+		Thread consumer = new Thread(() -> {
+			ProducerWorkload.await(start);
+			while (producing.get()) {
+				drainCounts.add(buffer.drainTo(drained));
+			}
+		});
+		consumer.start();
+
+		start.countDown();
+		for (Thread thread : producers) {
+			thread.join();
+		}
+		producing.set(false);
+		consumer.join();
+		drainCounts.add(buffer.drainTo(drained));
+
+		assertEquals(0, buffer.size());
+		assertEquals(this.workload.total(), drained.size());
+		assertEquals(this.workload.total(), drainCounts.stream().mapToInt(Integer::intValue).sum());
+		assertTrue(drainCounts.size() > 2, "the consumer should have drained while producers were adding");
+		this.workload.assertEachProducerInOrder(drained);
+	}
+
+	@Test
+	void drainLeavesTheBufferEmptyAndReusable() {
+		ConcurrentAppendBuffer<String> buffer = new ConcurrentAppendBuffer<>();
+		for (int i=0; i < 1000; i++) {
+			buffer.add("a" + i);
+		}
+		DynamicList<String> first = buffer.drain();
+		assertEquals(1000, first.size());
+		assertTrue(buffer.isEmpty());
+
+		buffer.addAll(new String[] {"x", "y", null, "z"});
+		DynamicList<String> second = buffer.drain();
+		assertEquals(2, second.size());
+		assertEquals("x", second.get(0));
+		assertEquals("y", second.get(1));
+	}
+}
@@ -0,0 +1,116 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Concurrent Dynamic Array Test
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Multi-producer stress tests for ConcurrentDynamicArray: producers append while
+ *	readers walk snapshots and a consumer removes from the front, and every
+ *	element must end up exactly once in the list or with the consumer.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import model.linearpub.DynamicList;
+
+class ConcurrentDynamicArrayTest {
+
+	private final ProducerWorkload workload = new ProducerWorkload(50_000);
+
+	@Test
+	void appendsFromManyProducersAreAllKeptWhileReadersWalkSnapshots() throws Exception {
+		DynamicList<Integer> list = ConcurrentDynamicArray.newEmpty();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> producers = this.workload.startProducers(list::add, list::addAll, start);
+
+		AtomicBoolean producing = new AtomicBoolean(true);
+		AtomicInteger snapshotsChecked = new AtomicInteger();
+		List<Thread> readers = new ArrayList<>();
+		List<Throwable> readerFailures = new ArrayList<>();
+		for (int r=0; r < 2; r++) {
+			Thread reader = new Thread(() -> {
+				ProducerWorkload.await(start);
+				try {
+					while (producing.get()) {
+						// a snapshot holds a prefix of every producer's elements, in order
+						list.forEach(this.workload.newOrderCheck());
+						snapshotsChecked.incrementAndGet();
+					}
+				} catch (Throwable e) {
+					synchronized (readerFailures) {
+						readerFailures.add(e);
+					}
+				}
+			});
+			readers.add(reader);
+			reader.start();
+		}
+
+		start.countDown();
+		for (Thread thread : producers) {
+			thread.join();
+		}
+		producing.set(false);
+		for (Thread reader : readers) {
+			reader.join();
+		}
+
+		assertTrue(readerFailures.isEmpty(), () -> "reader saw an inconsistent snapshot: " + readerFailures.get(0));
+		assertTrue(snapshotsChecked.get() > 0);
+		assertEquals(this.workload.total(), list.size());
+		this.workload.assertEachProducerInOrder(list);
+	}
+
+	@Test
+	void everyElementIsKeptOrRemovedExactlyOnceWithAConcurrentConsumer() throws Exception {
+		DynamicList<Integer> list = ConcurrentDynamicArray.newEmpty();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> producers = this.workload.startProducers(list::add, list::addAll, start);
+
+		AtomicBoolean producing = new AtomicBoolean(true);
+		DynamicList<Integer> removed = DynamicArray.newEmpty();
+		Thread consumer = new Thread(() -> {
+			ProducerWorkload.await(start);
+			while (producing.get()) {
+				// only this thread removes, so the list cannot become empty in between
+				if (!list.isEmpty()) {
+					removed.add(list.removeFirst());
+				}
+			}
+		});
+		consumer.start();
+
+		start.countDown();
+		for (Thread thread : producers) {
+			thread.join();
+		}
+		producing.set(false);
+		consumer.join();
+
+		assertTrue(removed.size() > 0, "the consumer should have removed while producers were adding");
+		assertEquals(this.workload.total(), removed.size() + list.size());
+		// the removed elements came off the front, so they precede the remaining ones
+		ProducerWorkload.OrderCheck check = this.workload.newOrderCheck();
+		removed.forEach(check);
+		list.forEach(check);
+		check.assertComplete();
+	}
+}
@@ -0,0 +1,126 @@
+//////////////// FILE HEADER //////////////////////////
+//
+// Title:    Producer Workload
+// Course:   Data Structures and Algorithms
+//
+// Author:   Aiden Chiang
+//
+///////////////////////////////////////
+
+/*
+ *	Shared workload of the multi-producer stress tests: PRODUCERS threads each add
+ *	"perProducer" distinct Integers (producer * perProducer + i, in increasing i),
+ *	odd producers alternating single adds and blocks of BLOCK elements. An
+ *	OrderCheck then verifies that every producer's elements came out exactly once,
+ *	in the order that producer added them.
+ *
+ *  @author Aiden Chiang
+ *
+ */
+
+package model.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+import model.linearpub.DynamicList;
+
+final class ProducerWorkload {
+
+	static final int PRODUCERS = 8;
+	static final int BLOCK = 32;
+
+	private final int perProducer;
+
+	ProducerWorkload(int perProducer) {
+		this.perProducer = perProducer;
+	}
+
+	/** Return number of elements all producers add together */
+	int total() {
+		return PRODUCERS * this.perProducer;
+	}
+
+	/**
+	 * Start one thread per producer; once "start" opens, each adds its elements
+	 * through "addFct" (singly) and "addAllFct" (blocks). Return the started threads.
+	 */
+	List<Thread> startProducers(Consumer<Integer> addFct, Consumer<Integer[]> addAllFct, CountDownLatch start) {
+		List<Thread> producers = new ArrayList<>();
+		for (int p=0; p < PRODUCERS; p++) {
+			int producer = p;
+			Thread thread = new Thread(() -> {
+				await(start);
+				Integer[] block = new Integer[BLOCK];
+				int i = 0;
+				while (i < this.perProducer) {
+					// odd producers alternate single adds and blocks, even ones only add singly
+					if (producer % 2 == 1 && (i / BLOCK) % 2 == 1 && i + BLOCK <= this.perProducer) {
+						for (int j=0; j < BLOCK; j++) {
+							block[j] = producer * this.perProducer + i + j;
+						}
+						addAllFct.accept(block);
+						i += BLOCK;
+					} else {
+						addFct.accept(producer * this.perProducer + i);
+						i++;
+					}
+				}
+			});
+			producers.add(thread);
+			thread.start();
+		}
+		return producers;
+	}
+
+	/** Return a new OrderCheck for the elements of this workload */
+	OrderCheck newOrderCheck() {
+		return new OrderCheck();
+	}
+
+	/** Assert that "list" holds every producer's elements once, in the order each producer added them */
+	void assertEachProducerInOrder(DynamicList<Integer> list) {
+		OrderCheck check = this.newOrderCheck();
+		list.forEach(check);
+		check.assertComplete();
+	}
+
+	/** Wait until "latch" opens (giving up if the thread is interrupted) */
+	static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Fed the elements in the order they came out; fails as soon as a producer's
+	 * element is missing, repeated or out of order. Everything fed so far must be a
+	 * prefix of every producer's elements.
+	 */
+	final class OrderCheck implements Consumer<Integer> {
+		private final int[] next = new int[PRODUCERS];
+
+		@Override
+		public void accept(Integer value) {
+			assertNotNull(value);
+			int producer = value / perProducer;
+			assertEquals(producer * perProducer + this.next[producer], value,
+					"element of producer " + producer + " missing, repeated or out of order");
+			this.next[producer]++;
+		}
+
+		/** Assert that every element of every producer has been fed */
+		void assertComplete() {
+			for (int p=0; p < PRODUCERS; p++) {
+				assertEquals(perProducer, this.next[p], "elements of producer " + p);
+			}
+		}
+	}
+}